@@ -0,0 +1,277 @@
+/* This file is part of SableCC ( http://sablecc.org ).
+ *
+ * See the NOTICE file distributed with this work for copyright information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sablecc.sablecc.codegeneration;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.junit.*;
+import org.sablecc.exception.*;
+
+public class DecisionTreeTest {
+
+    private static final int TOKEN_COUNT = 6;
+
+    private static final int MAX_LOOKAHEAD = 3;
+
+    private List<String> actions;
+
+    private Map<String, Map<Integer, Set<Integer>>> conditions;
+
+    @Before
+    public void setUp()
+            throws Exception {
+
+        this.actions = new ArrayList<String>();
+        this.conditions = new HashMap<String, Map<Integer, Set<Integer>>>();
+    }
+
+    @Test
+    public void testBuild() {
+
+        // Case with null actions.
+        try {
+            DecisionTree.build(null, this.conditions);
+            fail("actions may not be null");
+        }
+        catch (InternalException e) {
+            // Expected
+        }
+
+        // Case with empty actions.
+        try {
+            DecisionTree.build(this.actions, this.conditions);
+            fail("actions may not be empty");
+        }
+        catch (InternalException e) {
+            // Expected
+        }
+
+        // Case with null conditions.
+        this.actions.add("shift");
+        try {
+            DecisionTree.build(this.actions, null);
+            fail("conditions may not be null");
+        }
+        catch (InternalException e) {
+            // Expected
+        }
+    }
+
+    @Test
+    public void testNoLookahead() {
+
+        this.actions.add("shift");
+        addAction("reduce", 1, 0);
+
+        DecisionTree<String, Integer> tree = DecisionTree.build(this.actions,
+                this.conditions);
+
+        assertTrue("the first action needs no lookahead.", tree.isLeaf());
+        assertEquals("shift", tree.getAction());
+    }
+
+    @Test
+    public void testSharedBranch() {
+
+        addAction("first", 1, 0, 1);
+        addAction("second", 1, 2);
+
+        DecisionTree<String, Integer> tree = DecisionTree.build(this.actions,
+                this.conditions);
+
+        assertFalse(tree.isLeaf());
+        assertEquals(1, tree.getDistance());
+        assertEquals("tokens 0 and 1 should share a branch.", 2, tree
+                .getBranches().size());
+        assertTrue(tree.getBranches().containsValue(
+                new LinkedHashSet<Integer>(Arrays.asList(0, 1))));
+        assertNull("no action is selected for other tokens.",
+                tree.getDefaultBranch());
+    }
+
+    @Test
+    public void testDefaultBranch() {
+
+        addAction("reduce", 1, 0);
+        this.actions.add("shift");
+
+        DecisionTree<String, Integer> tree = DecisionTree.build(this.actions,
+                this.conditions);
+
+        assertFalse(tree.isLeaf());
+        assertEquals(1, tree.getBranches().size());
+        assertNotNull(tree.getDefaultBranch());
+        assertEquals("shift", tree.getDefaultBranch().getAction());
+        assertEquals("shift", select(tree, new int[] { 3, 0, 0 }));
+        assertEquals("reduce", select(tree, new int[] { 0, 0, 0 }));
+    }
+
+    @Test
+    public void testRandomActions() {
+
+        Random random = new Random(0);
+
+        for (int i = 0; i < 20000; i++) {
+            this.actions.clear();
+            this.conditions.clear();
+
+            int actionCount = 1 + random.nextInt(5);
+            for (int j = 0; j < actionCount; j++) {
+                String action = "a" + j;
+                this.actions.add(action);
+
+                // actions are tested in order of increasing lookahead
+                int lookahead = 1 + random.nextInt(MAX_LOOKAHEAD);
+                if (j == actionCount - 1 && random.nextInt(4) == 0) {
+                    continue;
+                }
+
+                Map<Integer, Set<Integer>> actionConditions = new LinkedHashMap<Integer, Set<Integer>>();
+                for (int distance = 1; distance <= lookahead; distance++) {
+                    Set<Integer> tokens = new LinkedHashSet<Integer>();
+                    int tokenCount = random.nextInt(4) == 0 ? 0 : 1 + random
+                            .nextInt(4);
+                    for (int k = 0; k < tokenCount; k++) {
+                        tokens.add(random.nextInt(TOKEN_COUNT));
+                    }
+                    actionConditions.put(distance, tokens);
+                }
+                this.conditions.put(action, actionConditions);
+            }
+
+            Collections.sort(this.actions, new Comparator<String>() {
+
+                @Override
+                public int compare(
+                        String action1,
+                        String action2) {
+
+                    return Integer.compare(getLookahead(action1),
+                            getLookahead(action2));
+                }
+            });
+
+            DecisionTree<String, Integer> tree = DecisionTree.build(
+                    this.actions, this.conditions);
+
+            for (int j = 0; j < 50; j++) {
+                int[] lookahead = new int[MAX_LOOKAHEAD];
+                for (int k = 0; k < MAX_LOOKAHEAD; k++) {
+                    lookahead[k] = random.nextInt(TOKEN_COUNT);
+                }
+
+                assertEquals("actions " + this.actions + " with conditions "
+                        + this.conditions + " on lookahead "
+                        + Arrays.toString(lookahead), selectInOrder(lookahead),
+                        select(tree, lookahead));
+            }
+        }
+    }
+
+    private void addAction(
+            String action,
+            int distance,
+            Integer... tokens) {
+
+        Map<Integer, Set<Integer>> actionConditions = new LinkedHashMap<Integer, Set<Integer>>();
+        actionConditions.put(distance,
+                new LinkedHashSet<Integer>(Arrays.asList(tokens)));
+        this.actions.add(action);
+        this.conditions.put(action, actionConditions);
+    }
+
+    private int getLookahead(
+            String action) {
+
+        Map<Integer, Set<Integer>> actionConditions = this.conditions
+                .get(action);
+        return actionConditions == null ? 0 : actionConditions.size();
+    }
+
+    /**
+     * Returns the first action whose conditions all hold on the provided
+     * lookahead, as the parser did before decision trees.
+     */
+    private String selectInOrder(
+            int[] lookahead) {
+
+        for (String action : this.actions) {
+            Map<Integer, Set<Integer>> actionConditions = this.conditions
+                    .get(action);
+
+            if (actionConditions == null) {
+                return action;
+            }
+
+            boolean matches = true;
+            for (Map.Entry<Integer, Set<Integer>> entry : actionConditions
+                    .entrySet()) {
+                if (!entry.getValue().contains(lookahead[entry.getKey() - 1])) {
+                    matches = false;
+                    break;
+                }
+            }
+
+            if (matches) {
+                return action;
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the action selected by the provided tree, checking that each
+     * token is looked at no more than once on the way.
+     */
+    private static String select(
+            DecisionTree<String, Integer> tree,
+            int[] lookahead) {
+
+        int lastDistance = 0;
+        while (!tree.isLeaf()) {
+            assertTrue("a token was looked at twice.",
+                    tree.getDistance() > lastDistance);
+            lastDistance = tree.getDistance();
+
+            int token = lookahead[tree.getDistance() - 1];
+            DecisionTree<String, Integer> next = null;
+            for (Map.Entry<DecisionTree<String, Integer>, Set<Integer>> entry : tree
+                    .getBranches().entrySet()) {
+                if (entry.getValue().contains(token)) {
+                    assertNull("a token leads to two branches.", next);
+                    next = entry.getKey();
+                }
+            }
+
+            if (next == null) {
+                next = tree.getDefaultBranch();
+            }
+
+            if (next == null) {
+                return null;
+            }
+
+            tree = next;
+        }
+
+        return tree.getAction();
+    }
+}
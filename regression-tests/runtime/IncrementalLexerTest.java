@@ -0,0 +1,218 @@
+/* This file is part of SableCC ( http://sablecc.org ).
+ *
+ * See the NOTICE file distributed with this work for copyright information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package runtime;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.junit.*;
+
+public class IncrementalLexerTest {
+
+    @Test
+    public void testSuccessiveEdits()
+            throws Exception {
+
+        String text = " 2x<a<a";
+        IncrementalLexer lexer = new IncrementalLexer(text);
+
+        // The new '<' token reads up to the end of input, past the tokens
+        // that follow it.
+        text = edit(lexer, text, 1, 1, "<");
+
+        // This edit is in the text read by the '<' token of the first edit.
+        text = edit(lexer, text, 6, 1, "><");
+    }
+
+    @Test
+    public void testOverlappingEdits()
+            throws Exception {
+
+        String text = "1if<+ 12.5 abc\r\n<ab> x";
+        IncrementalLexer lexer = new IncrementalLexer(text);
+
+        text = edit(lexer, text, 0, 1, "<");
+        text = edit(lexer, text, 1, 3, "if<a");
+        text = edit(lexer, text, 4, 0, ">");
+        text = edit(lexer, text, 8, 2, ".");
+        text = edit(lexer, text, 7, 4, "\n");
+    }
+
+    @Test
+    public void testLongText()
+            throws Exception {
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 2000; i++) {
+            sb.append(i % 7 == 0 ? "\r\n" : i % 5 == 0 ? "\n" : " ");
+            sb.append(i % 3 == 0 ? "<ab>" : "x" + i);
+        }
+        String text = sb.toString();
+        IncrementalLexer lexer = new IncrementalLexer(text);
+
+        // Edits far apart move the gap across most of the tokens.
+        Random random = new Random(0);
+        for (int i = 0; i < 50; i++) {
+            int offset = random.nextInt(text.length() + 1);
+            int removedLength = Math.min(random.nextInt(3),
+                    text.length() - offset);
+            String inserted = random.nextBoolean() ? "\n1" : " ab ";
+
+            try {
+                lex(text.substring(0, offset) + inserted
+                        + text.substring(offset + removedLength));
+            }
+            catch (LexerException e) {
+                continue;
+            }
+
+            text = edit(lexer, text, offset, removedLength, inserted);
+        }
+    }
+
+    @Test
+    public void testRandomEdits()
+            throws Exception {
+
+        String[] parts = { "if", "a", "1", ".", "+", " ", "\n", "\r", "<",
+                ">", "<a", "bc", "x", "2", "" };
+        Random random = new Random(0);
+
+        for (int i = 0; i < 1000; i++) {
+            StringBuilder sb = new StringBuilder();
+            for (int j = random.nextInt(12); j > 0; j--) {
+                sb.append(parts[random.nextInt(parts.length)]);
+            }
+            String text = sb.toString();
+
+            IncrementalLexer lexer;
+            try {
+                lexer = new IncrementalLexer(text);
+            }
+            catch (LexerException e) {
+                continue;
+            }
+
+            for (int j = 0; j < 3; j++) {
+                int offset = random.nextInt(text.length() + 1);
+                int removedLength = Math.min(random.nextInt(4),
+                        text.length() - offset);
+                String inserted = parts[random.nextInt(parts.length)]
+                        + parts[random.nextInt(parts.length)];
+
+                try {
+                    lex(text.substring(0, offset) + inserted
+                            + text.substring(offset + removedLength));
+                }
+                catch (LexerException e) {
+                    break;
+                }
+
+                text = edit(lexer, text, offset, removedLength, inserted);
+            }
+        }
+    }
+
+    private static String edit(
+            IncrementalLexer lexer,
+            String text,
+            int offset,
+            int removedLength,
+            String inserted)
+            throws LexerException, IOException {
+
+        String newText = text.substring(0, offset) + inserted
+                + text.substring(offset + removedLength);
+
+        Map<Token, String> oldTokens = new IdentityHashMap<Token, String>();
+        for (Token token : lexer.getTokens()) {
+            oldTokens.put(token, toString(token));
+        }
+
+        lexer.relex(newText, offset, removedLength, inserted.length());
+
+        assertEquals("the tokens of \"" + newText + "\" differ",
+                toString(lex(newText)), toString(lexer));
+
+        List<Token> tokens = lexer.getTokens();
+        for (int i = 0; i < tokens.size(); i++) {
+            assertTrue("wrong offset for token " + i + ".",
+                    newText.startsWith(tokens.get(i).getText(),
+                            (int) lexer.getOffset(i)));
+        }
+
+        for (Token token : lexer.getTokens()) {
+            String oldToken = oldTokens.get(token);
+            if (oldToken != null) {
+                assertEquals("an old token was changed.", oldToken,
+                        toString(token));
+            }
+        }
+
+        return newText;
+    }
+
+    private static List<Token> lex(
+            String text)
+            throws LexerException, IOException {
+
+        Lexer lexer = new Lexer(new StringReader(text));
+        List<Token> tokens = new ArrayList<Token>();
+        Token token;
+        do {
+            token = lexer.next();
+            tokens.add(token);
+        }
+        while (!(token instanceof End));
+        return tokens;
+    }
+
+    private static String toString(
+            List<Token> tokens) {
+
+        StringBuilder sb = new StringBuilder();
+        for (Token token : tokens) {
+            sb.append(toString(token));
+        }
+        return sb.toString();
+    }
+
+    private static String toString(
+            Token token) {
+
+        return token.getType() + "(" + token.getText() + ")@"
+                + token.getLine() + ":" + token.getPos() + " ";
+    }
+
+    // Uses the positions that the incremental lexer gives for the current
+    // text, as the tokens keep those of the text they were lexed from.
+    private static String toString(
+            IncrementalLexer lexer) {
+
+        StringBuilder sb = new StringBuilder();
+        List<Token> tokens = lexer.getTokens();
+        for (int i = 0; i < tokens.size(); i++) {
+            Token token = tokens.get(i);
+            sb.append(token.getType() + "(" + token.getText() + ")@"
+                    + lexer.getLine(i) + ":" + lexer.getPos(i) + " ");
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,276 @@
+/* This file is part of SableCC ( http://sablecc.org ).
+ *
+ * See the NOTICE file distributed with this work for copyright information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package runtime;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.junit.*;
+
+public class NodeArrayTest {
+
+    private int nodeCount;
+
+    @Before
+    public void setUp()
+            throws Exception {
+
+        this.nodeCount = 0;
+    }
+
+    @Test
+    public void testLeftRecursiveAppends() {
+
+        // list = list element
+        NodeList<Node> list = new NodeList<Node>();
+        List<Node> expected = new ArrayList<Node>();
+
+        for (int i = 0; i < 1000; i++) {
+            NodeList<Node> element = new NodeList<Node>();
+            element.add(newNode(expected));
+
+            list.addAll(element);
+            assertEquals("the appended list should be empty.", 0,
+                    element.size());
+            assertNodes(expected, list.elements);
+        }
+    }
+
+    @Test
+    public void testRightRecursiveAppends() {
+
+        // list = element list
+        NodeList<Node> list = new NodeList<Node>();
+        List<Node> expected = new ArrayList<Node>();
+
+        for (int i = 0; i < 1000; i++) {
+            NodeList<Node> element = new NodeList<Node>();
+            List<Node> elementExpected = new ArrayList<Node>();
+            element.add(newNode(elementExpected));
+
+            element.addAll(list);
+            assertEquals("the appended list should be empty.", 0, list.size());
+
+            elementExpected.addAll(expected);
+            expected = elementExpected;
+            list = element;
+            assertNodes(expected, list.elements);
+        }
+    }
+
+    @Test
+    public void testRandomAppends() {
+
+        Random random = new Random(0);
+
+        for (int i = 0; i < 1000; i++) {
+            NodeArray array = new NodeArray();
+            List<Node> expected = new ArrayList<Node>();
+
+            for (int j = random.nextInt(20); j > 0; j--) {
+                NodeArray other = newArray(random.nextInt(40), random);
+                List<Node> otherExpected = toList(other);
+
+                // Append on either side, so that the room at the front of
+                // an array is used and regrown too.
+                if (random.nextBoolean()) {
+                    array.addAll(other);
+                    expected.addAll(otherExpected);
+                    assertNodes(Collections.<Node> emptyList(), other);
+                }
+                else {
+                    other.addAll(array);
+                    otherExpected.addAll(expected);
+                    assertNodes(Collections.<Node> emptyList(), array);
+                    array = other;
+                    expected = otherExpected;
+                }
+
+                assertNodes(expected, array);
+
+                array.add(newNode(expected));
+                assertNodes(expected, array);
+            }
+        }
+    }
+
+    @Test
+    public void testAddAllItself() {
+
+        NodeArray array = newArray(3, null);
+
+        try {
+            array.addAll(array);
+            fail("a list may not be appended to itself");
+        }
+        catch (IllegalArgumentException e) {
+            // Expected
+        }
+
+        assertEquals(3, array.size());
+    }
+
+    @Test
+    public void testPairAppends() {
+
+        PairNodeList<Node, Node> list = new PairNodeList<Node, Node>();
+        List<Node> left = new ArrayList<Node>();
+        List<Node> right = new ArrayList<Node>();
+
+        // list = list (left right)
+        PairNodeList<Node, Node> pair = new PairNodeList<Node, Node>();
+        pair.addLeft(newNode(left));
+        pair.addRight(newNode(right));
+        list.addAll(pair);
+        assertPair(Collections.<Node> emptyList(),
+                Collections.<Node> emptyList(), pair.left, pair.right);
+        assertPair(left, right, list.left, list.right);
+
+        // list = list (left (right left)*)
+        SeparatedNodeList<Node, Node> separated = new SeparatedNodeList<Node, Node>();
+        separated.addLeft(newNode(left));
+        separated.addRight(newNode(right));
+        separated.addLeft(newNode(left));
+        list.addAll(separated);
+        assertPair(Collections.<Node> emptyList(),
+                Collections.<Node> emptyList(), separated.left,
+                separated.right);
+        assertPair(left, right, list.left, list.right);
+    }
+
+    @Test
+    public void testReverseAppends() {
+
+        // The appended list has the left and right types swapped.
+        PairNodeList<Node, Node> pair = new PairNodeList<Node, Node>();
+        List<Node> left = new ArrayList<Node>();
+        List<Node> right = new ArrayList<Node>();
+        pair.addLeft(newNode(left));
+        pair.addRight(newNode(right));
+
+        SeparatedNodeList<Node, Node> separated = new SeparatedNodeList<Node, Node>();
+        List<Node> separatedLeft = new ArrayList<Node>();
+        List<Node> separatedRight = new ArrayList<Node>();
+        separated.addLeft(newNode(separatedLeft));
+        separated.addRight(newNode(separatedRight));
+        separated.addLeft(newNode(separatedLeft));
+
+        pair.addAllReverse(separated);
+        left.addAll(separatedRight);
+        right.addAll(separatedLeft);
+        assertPair(Collections.<Node> emptyList(),
+                Collections.<Node> emptyList(), separated.left,
+                separated.right);
+        assertPair(left, right, pair.left, pair.right);
+
+        // separated = separated (right left)*
+        separated = new SeparatedNodeList<Node, Node>();
+        separatedLeft = new ArrayList<Node>();
+        separatedRight = new ArrayList<Node>();
+        separated.addLeft(newNode(separatedLeft));
+
+        separated.addAllReverse(pair);
+        separatedLeft.addAll(right);
+        separatedRight.addAll(left);
+        assertPair(Collections.<Node> emptyList(),
+                Collections.<Node> emptyList(), pair.left, pair.right);
+        assertPair(separatedLeft, separatedRight, separated.left,
+                separated.right);
+
+        // A large list appended in reverse to a small one keeps its arrays.
+        SeparatedNodeList<Node, Node> small = new SeparatedNodeList<Node, Node>();
+        List<Node> smallLeft = new ArrayList<Node>();
+        List<Node> smallRight = new ArrayList<Node>();
+        small.addLeft(newNode(smallLeft));
+        small.addRight(newNode(smallRight));
+
+        small.addAllReverse(separated);
+        smallLeft.addAll(separatedRight);
+        smallRight.addAll(separatedLeft);
+        assertPair(Collections.<Node> emptyList(),
+                Collections.<Node> emptyList(), separated.left,
+                separated.right);
+        assertPair(smallLeft, smallRight, small.left, small.right);
+    }
+
+    private Node newNode(
+            List<Node> expected) {
+
+        Node node = new End(1, ++this.nodeCount);
+        expected.add(node);
+        return node;
+    }
+
+    private NodeArray newArray(
+            int size,
+            Random random) {
+
+        NodeArray array = new NodeArray();
+        List<Node> nodes = new ArrayList<Node>();
+
+        // Arrays of the same size are built from appends of different sizes,
+        // so that they have different room at each end.
+        while (nodes.size() < size) {
+            if (random != null && random.nextBoolean()) {
+                NodeArray other = new NodeArray();
+                for (int i = random.nextInt(size - nodes.size()) + 1; i > 0; i--) {
+                    other.add(newNode(nodes));
+                }
+                array.addAll(other);
+            }
+            else {
+                array.add(newNode(nodes));
+            }
+        }
+
+        assertNodes(nodes, array);
+        return array;
+    }
+
+    private static List<Node> toList(
+            NodeArray array) {
+
+        List<Node> nodes = new ArrayList<Node>();
+        for (int i = 0; i < array.size(); i++) {
+            nodes.add(array.get(i));
+        }
+        return nodes;
+    }
+
+    private static void assertNodes(
+            List<Node> expected,
+            NodeArray array) {
+
+        assertEquals("wrong size.", expected.size(), array.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertSame("wrong node at " + i + ".", expected.get(i),
+                    array.get(i));
+        }
+    }
+
+    private static void assertPair(
+            List<Node> expectedLeft,
+            List<Node> expectedRight,
+            NodeArray left,
+            NodeArray right) {
+
+        assertNodes(expectedLeft, left);
+        assertNodes(expectedRight, right);
+    }
+}
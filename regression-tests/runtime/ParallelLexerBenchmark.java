@@ -0,0 +1,135 @@
+/* This file is part of SableCC ( http://sablecc.org ).
+ *
+ * See the NOTICE file distributed with this work for copyright information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package runtime;
+
+import java.io.*;
+import java.nio.charset.*;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+/**
+ * Reports the throughput of ParallelLexer at 1 to N threads, and its
+ * speed-up over a single thread.
+ *
+ * Usage: ParallelLexerBenchmark [input file | size in MB] [max threads]
+ *
+ * Without an input file, a random input of the runtime grammar is lexed.
+ */
+public class ParallelLexerBenchmark {
+
+    private static final int WARMUP_RUNS = 3;
+
+    private static final int MEASURED_RUNS = 5;
+
+    public static void main(
+            String[] args)
+            throws Exception {
+
+        String input;
+        if (args.length > 0 && new File(args[0]).isFile()) {
+            input = new String(Files.readAllBytes(Paths.get(args[0])),
+                    StandardCharsets.UTF_8);
+        }
+        else {
+            int size = args.length > 0 ? Integer.parseInt(args[0]) : 64;
+            input = newInput(size << 20);
+        }
+
+        int maxThreads = args.length > 1 ? Integer.parseInt(args[1])
+                : Runtime.getRuntime().availableProcessors();
+
+        double megabytes = input.length() / (double) (1 << 20);
+        System.out.printf("input: %.1f MB, %d processors%n", megabytes,
+                Runtime.getRuntime().availableProcessors());
+        System.out.printf("%8s %10s %14s %9s%n", "threads", "MB/s",
+                "tokens/s", "speed-up");
+
+        long tokenCount = -1;
+        double singleThreadTime = 0;
+        for (int threads = 1; threads <= maxThreads; threads++) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            try {
+                for (int i = 0; i < WARMUP_RUNS; i++) {
+                    tokenize(input, threads, executor);
+                }
+
+                // The best run is kept, as it is the least disturbed by
+                // garbage collection and other processes.
+                long bestTime = Long.MAX_VALUE;
+                for (int i = 0; i < MEASURED_RUNS; i++) {
+                    long start = System.nanoTime();
+                    long count = tokenize(input, threads, executor);
+                    bestTime = Math.min(bestTime, System.nanoTime() - start);
+
+                    if (tokenCount == -1) {
+                        tokenCount = count;
+                    }
+                    else if (count != tokenCount) {
+                        throw new IllegalStateException(threads
+                                + " threads lexed " + count
+                                + " tokens instead of " + tokenCount);
+                    }
+                }
+
+                double seconds = bestTime / 1e9;
+                if (threads == 1) {
+                    singleThreadTime = seconds;
+                }
+
+                System.out.printf("%8d %10.1f %14.0f %9.2f%n", threads,
+                        megabytes / seconds, tokenCount / seconds,
+                        singleThreadTime / seconds);
+            }
+            finally {
+                executor.shutdown();
+            }
+        }
+    }
+
+    private static long tokenize(
+            String input,
+            int threads,
+            ExecutorService executor)
+            throws LexerException, IOException, InterruptedException {
+
+        long count = 0;
+        for (List<Token> chunk : ParallelLexer.tokenize(input, threads,
+                executor)) {
+            count += chunk.size();
+        }
+        return count;
+    }
+
+    private static String newInput(
+            int size) {
+
+        String[] parts = { "if", "abc", "x", "12", "3.25", "<ab>", "<a<b>",
+                "<", "+", ".", " ", "  ", "\t", "\n", "\r\n" };
+        Random random = new Random(0);
+        StringBuilder sb = new StringBuilder(size + 16);
+
+        // Tokens that are not ignored are kept apart, so that they are not
+        // lexed as a single longer token.
+        while (sb.length() < size) {
+            sb.append(parts[random.nextInt(parts.length)]);
+            sb.append(' ');
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,80 @@
+/* This file is part of SableCC ( http://sablecc.org ).
+ *
+ * See the NOTICE file distributed with this work for copyright information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package runtime;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+
+import org.junit.*;
+
+public class TokenBufferTest {
+
+    @Test
+    public void testTokenize()
+            throws Exception {
+
+        TokenBuffer tokens = new TokenBuffer(1);
+        new Lexer(new StringReader("ab 12.5\n<a>")).tokenize(tokens);
+
+        assertEquals(3, tokens.size());
+        assertToken(tokens, 0, "T_Identifier", 0, 2);
+        assertToken(tokens, 1, "T_Number", 3, 4);
+        assertToken(tokens, 2, "T_Tag", 8, 3);
+    }
+
+    @Test
+    public void testLargeOffsets()
+            throws Exception {
+
+        // The input is lexed as if it followed Integer.MAX_VALUE - 3
+        // characters, so that the third token starts past the int offsets.
+        long offset = Integer.MAX_VALUE - 3L;
+        TokenBuffer tokens = new TokenBuffer();
+        Lexer lexer = new Lexer(new StringReader("ab cd ef"), offset, 1,
+                1, offset);
+
+        try {
+            lexer.tokenize(tokens);
+            fail("an offset past Integer.MAX_VALUE may not be truncated");
+        }
+        catch (IllegalStateException e) {
+            // Expected
+        }
+
+        assertEquals("the tokens before the failure should be kept.", 2,
+                tokens.size());
+        assertToken(tokens, 0, "T_Identifier", Integer.MAX_VALUE - 3, 2);
+        assertToken(tokens, 1, "T_Identifier", Integer.MAX_VALUE, 2);
+    }
+
+    private static void assertToken(
+            TokenBuffer tokens,
+            int index,
+            String typeName,
+            int offset,
+            int length) {
+
+        assertEquals("wrong type at " + index + ".", typeName,
+                TokenBuffer.getTypeName(tokens.getType(index)));
+        assertEquals("wrong offset at " + index + ".", offset,
+                tokens.getOffset(index));
+        assertEquals("wrong length at " + index + ".", length,
+                tokens.getLength(index));
+    }
+}
@@ -25,7 +25,6 @@ import java.util.Map.Entry;
 
 import org.sablecc.exception.*;
 import org.sablecc.sablecc.alphabet.*;
-import org.sablecc.sablecc.alphabet.Bound;
 import org.sablecc.sablecc.automaton.*;
 import org.sablecc.sablecc.codegeneration.java.macro.*;
 import org.sablecc.sablecc.core.*;
@@ -45,6 +44,12 @@ public class CodeGenerator {
 
     final private String destinationPackage;
 
+    final private boolean lexerTables;
+
+    final private boolean lazyPositions;
+
+    final private boolean parserTables;
+
     final private Trace trace;
 
     private boolean hasRun;
@@ -54,6 +59,9 @@ public class CodeGenerator {
             String targetLanguage,
             File destinationDirectory,
             String destinationPackage,
+            boolean lexerTables,
+            boolean lazyPositions,
+            boolean parserTables,
             Trace trace) {
 
         if (grammar == null) {
@@ -79,6 +87,9 @@ public class CodeGenerator {
         this.grammar = grammar;
         this.destinationDirectory = destinationDirectory;
         this.destinationPackage = destinationPackage;
+        this.lexerTables = lexerTables;
+        this.lazyPositions = lazyPositions;
+        this.parserTables = parserTables;
         this.trace = trace;
     }
 
@@ -99,18 +110,34 @@ public class CodeGenerator {
         MTransitionState mTransitionState = new MTransitionState();
         MFinalState mFinalState = new MFinalState();
         MSymbol mSymbol = new MSymbol();
+        MTables mTables = new MTables();
+        MAbstractLexer mAbstractLexer = new MAbstractLexer(""
+                + this.lazyPositions);
         MLexer mLexer = new MLexer();
+        MMappedReader mMappedReader = new MMappedReader();
+        MLineIndex mLineIndex = new MLineIndex();
+        MParallelLexer mParallelLexer = new MParallelLexer();
+        MTokenBuffer mTokenBuffer = new MTokenBuffer();
+        MTextPool mTextPool = new MTextPool();
+        MTextSlice mTextSlice = new MTextSlice();
+        MSequenceReader mSequenceReader = new MSequenceReader();
+        MIncrementalLexer mIncrementalLexer = new MIncrementalLexer();
         MLexerException mLexerException = new MLexerException();
         MEnd mEnd = new MEnd();
         MTester mTester = new MTester();
         MParserException mParserException = new MParserException();
         MWalker mWalker = new MWalker();
-        MParser mParser = new MParser();
+        MIterativeWalker mIterativeWalker = new MIterativeWalker();
+        MFilteredWalker mFilteredWalker = new MFilteredWalker();
+        MParallelWalker mParallelWalker = new MParallelWalker();
+        ContainmentMatrix containmentMatrix = new ContainmentMatrix();
+        MParser mParser = new MParser("" + getLookaheadCapacity());
+        MParserPool mParserPool = new MParserPool();
+        MParseListener mParseListener = new MParseListener();
         MParseStack mParseStack = new MParseStack();
         MLrState mLrState = new MLrState();
         MCstProductionType mCstName = new MCstProductionType();
-        MAbstractForest mAbstractForest = new MAbstractForest();
-        MEntry mEntry = new MEntry();
+        MNodeArray mNodeArray = new MNodeArray();
         MNodeList mNodeList = new MNodeList();
         MPairNodeList mPairNodeList = new MPairNodeList();
         MSeparatedNodeList mSeparatedNodeList = new MSeparatedNodeList();
@@ -125,23 +152,43 @@ public class CodeGenerator {
                     .newDefaultPackage(this.grammar.getName_camelCase());
             mFinalState.newDefaultPackage(this.grammar.getName_camelCase());
             mSymbol.newDefaultPackage(this.grammar.getName_camelCase());
+            mTables.newDefaultPackage(this.grammar.getName_camelCase());
+            mAbstractLexer.newDefaultPackage(this.grammar
+                    .getName_camelCase());
             mLexer.newDefaultPackage(this.grammar.getName_camelCase());
+            mMappedReader.newDefaultPackage(this.grammar.getName_camelCase());
+            mLineIndex.newDefaultPackage(this.grammar.getName_camelCase());
+            mParallelLexer.newDefaultPackage(this.grammar.getName_camelCase());
+            mTokenBuffer.newDefaultPackage(this.grammar.getName_camelCase());
+            mTextPool.newDefaultPackage(this.grammar.getName_camelCase());
+            mTextSlice.newDefaultPackage(this.grammar.getName_camelCase());
+            mSequenceReader
+                    .newDefaultPackage(this.grammar.getName_camelCase());
+            mIncrementalLexer.newDefaultPackage(this.grammar
+                    .getName_camelCase());
             mLexerException.newDefaultPackage(this.grammar.getName_camelCase());
             mEnd.newDefaultPackage(this.grammar.getName_camelCase());
             mTester.newDefaultPackage(this.grammar.getName_camelCase());
             mParserException
                     .newDefaultPackage(this.grammar.getName_camelCase());
             mWalker.newDefaultPackage(this.grammar.getName_camelCase());
+            mIterativeWalker.newDefaultPackage(this.grammar
+                    .getName_camelCase());
+            mFilteredWalker.newDefaultPackage(this.grammar
+                    .getName_camelCase());
+            mParallelWalker.newDefaultPackage(this.grammar
+                    .getName_camelCase());
             mParser.newDefaultPackage(this.grammar.getName_camelCase());
+            mParserPool.newDefaultPackage(this.grammar.getName_camelCase());
+            mParseListener.newDefaultPackage(this.grammar.getName_camelCase());
             mParseStack.newDefaultPackage(this.grammar.getName_camelCase());
             mLrState.newDefaultPackage(this.grammar.getName_camelCase());
             mCstName.newDefaultPackage(this.grammar.getName_camelCase());
-            mAbstractForest.newDefaultPackage(this.grammar.getName_camelCase());
             mNodeList.newDefaultPackage(this.grammar.getName_camelCase());
             mPairNodeList.newDefaultPackage(this.grammar.getName_camelCase());
             mSeparatedNodeList.newDefaultPackage(this.grammar
                     .getName_camelCase());
-            mEntry.newDefaultPackage(this.grammar.getName_camelCase());
+            mNodeArray.newDefaultPackage(this.grammar.getName_camelCase());
         }
         else {
             packageDirectory = new File(this.destinationDirectory,
@@ -159,8 +206,28 @@ public class CodeGenerator {
                     this.destinationPackage);
             mSymbol.newSpecifiedPackage(this.grammar.getName_camelCase(),
                     this.destinationPackage);
+            mTables.newSpecifiedPackage(this.grammar.getName_camelCase(),
+                    this.destinationPackage);
+            mAbstractLexer.newSpecifiedPackage(
+                    this.grammar.getName_camelCase(), this.destinationPackage);
             mLexer.newSpecifiedPackage(this.grammar.getName_camelCase(),
                     this.destinationPackage);
+            mMappedReader.newSpecifiedPackage(
+                    this.grammar.getName_camelCase(), this.destinationPackage);
+            mLineIndex.newSpecifiedPackage(this.grammar.getName_camelCase(),
+                    this.destinationPackage);
+            mParallelLexer.newSpecifiedPackage(
+                    this.grammar.getName_camelCase(), this.destinationPackage);
+            mTokenBuffer.newSpecifiedPackage(this.grammar.getName_camelCase(),
+                    this.destinationPackage);
+            mTextPool.newSpecifiedPackage(this.grammar.getName_camelCase(),
+                    this.destinationPackage);
+            mTextSlice.newSpecifiedPackage(this.grammar.getName_camelCase(),
+                    this.destinationPackage);
+            mSequenceReader.newSpecifiedPackage(
+                    this.grammar.getName_camelCase(), this.destinationPackage);
+            mIncrementalLexer.newSpecifiedPackage(
+                    this.grammar.getName_camelCase(), this.destinationPackage);
             mLexerException.newSpecifiedPackage(
                     this.grammar.getName_camelCase(), this.destinationPackage);
             mEnd.newSpecifiedPackage(this.grammar.getName_camelCase(),
@@ -171,28 +238,43 @@ public class CodeGenerator {
                     this.grammar.getName_camelCase(), this.destinationPackage);
             mWalker.newSpecifiedPackage(this.grammar.getName_camelCase(),
                     this.destinationPackage);
+            mIterativeWalker.newSpecifiedPackage(
+                    this.grammar.getName_camelCase(), this.destinationPackage);
+            mFilteredWalker.newSpecifiedPackage(
+                    this.grammar.getName_camelCase(), this.destinationPackage);
+            mParallelWalker.newSpecifiedPackage(
+                    this.grammar.getName_camelCase(), this.destinationPackage);
             mParser.newSpecifiedPackage(this.grammar.getName_camelCase(),
                     this.destinationPackage);
+            mParserPool.newSpecifiedPackage(this.grammar.getName_camelCase(),
+                    this.destinationPackage);
+            mParseListener.newSpecifiedPackage(
+                    this.grammar.getName_camelCase(), this.destinationPackage);
             mParseStack.newSpecifiedPackage(this.grammar.getName_camelCase(),
                     this.destinationPackage);
             mLrState.newSpecifiedPackage(this.grammar.getName_camelCase(),
                     this.destinationPackage);
             mCstName.newSpecifiedPackage(this.grammar.getName_camelCase(),
                     this.destinationPackage);
-            mAbstractForest.newSpecifiedPackage(
-                    this.grammar.getName_camelCase(), this.destinationPackage);
             mNodeList.newSpecifiedPackage(this.grammar.getName_camelCase(),
                     this.destinationPackage);
             mPairNodeList.newSpecifiedPackage(this.grammar.getName_camelCase(),
                     this.destinationPackage);
             mSeparatedNodeList.newSpecifiedPackage(
                     this.grammar.getName_camelCase(), this.destinationPackage);
-            mEntry.newSpecifiedPackage(this.grammar.getName_camelCase(),
+            mNodeArray.newSpecifiedPackage(this.grammar.getName_camelCase(),
                     this.destinationPackage);
         }
 
         packageDirectory.mkdirs();
 
+        if (this.lazyPositions) {
+            mToken.newLazyTokenPositions();
+        }
+        else {
+            mToken.newEagerTokenPositions();
+        }
+
         Context context = this.grammar.getGlobalAnonymousContext();
         Automaton lexer = this.grammar.getLexer().getAutomaton();
 
@@ -200,17 +282,26 @@ public class CodeGenerator {
          * Generate token
          */
 
+        Map<LexerExpression, Integer> tokenTypes = new HashMap<>();
+
         for (LexerExpression token : context.getLexerExpressionTokens()) {
+            tokenTypes.put(token, tokenTypes.size());
+
             if (token instanceof LexerExpression.NamedExpression) {
                 LexerExpression.NamedExpression namedToken = (LexerExpression.NamedExpression) token;
 
                 mNode.newNodeTypeEnumEntry(namedToken.getName_CamelCase());
+                containmentMatrix.addNodeType(namedToken.getName_CamelCase());
                 mToken.newNodeInternalTypeEnumEntry(namedToken
                         .getName_CamelCase());
 
                 mWalker.newWalkerIn(namedToken.getName_CamelCase());
                 mWalker.newWalkerCase(namedToken.getName_CamelCase());
                 mWalker.newWalkerOut(namedToken.getName_CamelCase());
+                mIterativeWalker.newIterativeWalkerCallbacks(namedToken
+                        .getName_CamelCase());
+                mIterativeWalker.newIterativeWalkerDispatch(namedToken
+                        .getName_CamelCase());
 
                 MCustomToken mCustomToken = new MCustomToken(
                         namedToken.getName_CamelCase());
@@ -225,6 +316,15 @@ public class CodeGenerator {
                             this.destinationPackage);
                 }
 
+                String fixedText = token.getFixedText();
+                if (fixedText != null) {
+                    mCustomToken.newCustomFixedText(KeywordTable
+                            .toLiteral(fixedText));
+                }
+                else {
+                    mCustomToken.newCustomVariableText();
+                }
+
                 try {
                     BufferedWriter bw = new BufferedWriter(
                             new FileWriter(new File(packageDirectory, "N"
@@ -258,6 +358,15 @@ public class CodeGenerator {
                             this.destinationPackage);
                 }
 
+                String fixedText = token.getFixedText();
+                if (fixedText != null) {
+                    mAnonymousToken.newAnonymousFixedText(KeywordTable
+                            .toLiteral(fixedText));
+                }
+                else {
+                    mAnonymousToken.newAnonymousVariableText();
+                }
+
                 try {
                     BufferedWriter bw = new BufferedWriter(new FileWriter(
                             new File(packageDirectory, "N"
@@ -285,32 +394,55 @@ public class CodeGenerator {
             mSymbol.newSymbolDeclaration(symbol.getSimpleName());
         }
 
-        for (Map.Entry<Interval, Symbol> entry : lexer.getAlphabet()
-                .getIntervalToSymbolMap().entrySet()) {
-            Interval interval = entry.getKey();
-            Symbol symbol = entry.getValue();
+        SymbolTables symbolTables = new SymbolTables(lexer.getAlphabet());
+        newSymbolTable(mSymbol, "PAGES", symbolTables.getPages());
+        newSymbolTable(mSymbol, "BLOCKS", symbolTables.getBlocks());
 
-            if (interval.getLowerBound() == Bound.MIN) {
-                if (interval.getUpperBound() == Bound.MAX) {
-                    mSymbol.newOpenInterval(symbol.getSimpleName());
-                }
-                else {
-                    mSymbol.newOpenLeftInterval(interval.getUpperBound()
-                            .getValue().toString(), symbol.getSimpleName());
-                }
+        /*
+         * Generate keywords
+         */
+
+        SortedMap<String, LexerExpression> keywords = this.grammar.getLexer()
+                .getKeywords();
+
+        if (!keywords.isEmpty()) {
+            KeywordTable keywordTable = new KeywordTable(keywords.keySet());
+            MKeywords mKeywords = new MKeywords(""
+                    + keywordTable.getMultiplier(), ""
+                    + keywordTable.getShift());
+
+            if (this.destinationPackage.equals("")) {
+                mKeywords.newDefaultPackage(this.grammar.getName_camelCase());
+            }
+            else {
+                mKeywords.newSpecifiedPackage(this.grammar.getName_camelCase(),
+                        this.destinationPackage);
             }
-            else if (interval.getUpperBound() == Bound.MAX) {
-                mSymbol.newOpenRightInterval(interval.getLowerBound()
-                        .getValue().toString(), symbol.getSimpleName());
+
+            for (String text : keywordTable.getTexts()) {
+                mKeywords.newKeywordText(text == null ? "null" : KeywordTable
+                        .toLiteral(text));
             }
-            else if (interval.getLowerBound().equals(interval.getUpperBound())) {
-                mSymbol.newSingleChar(interval.getLowerBound().getValue()
-                        .toString(), symbol.getSimpleName());
+
+            for (Entry<String, LexerExpression> entry : keywords.entrySet()) {
+                mKeywords.newKeywordTokenFactory(
+                        "" + keywordTable.getSlot(entry.getKey()),
+                        getTokenName(entry.getValue()));
+                mKeywords.newKeywordType(
+                        "" + keywordTable.getSlot(entry.getKey()),
+                        getTokenName(entry.getValue()));
             }
-            else {
-                mSymbol.newInterval(interval.getLowerBound().getValue()
-                        .toString(), interval.getUpperBound().getValue()
-                        .toString(), symbol.getSimpleName());
+
+            try {
+                BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
+                        packageDirectory, "Keywords.java")));
+
+                bw.write(mKeywords.toString());
+                bw.close();
+            }
+            catch (IOException e) {
+                throw new InternalException("TODO: raise error "
+                        + "Keywords.java", e);
             }
         }
 
@@ -318,119 +450,209 @@ public class CodeGenerator {
          * Generate lexer states
          */
 
-        for (State state : lexer.getStates()) {
-            if (state.isAcceptState()) {
-                Acceptation acceptation = state.getAcceptations().first();
-                MFinalStateSingleton mFinalStateSingleton = new MFinalStateSingleton(
-                        "" + state.getId(), "" + acceptation.getBackCount());
-
-                if (this.destinationPackage.equals("")) {
-                    mFinalStateSingleton.newDefaultPackage(this.grammar
-                            .getName_camelCase());
-                }
-                else {
-                    mFinalStateSingleton.newSpecifiedPackage(
-                            this.grammar.getName_camelCase(),
-                            this.destinationPackage);
-                }
-
-                Marker marker = acceptation.getMarker();
+        if (this.lexerTables) {
+            LexerTables lexerTables = new LexerTables(lexer);
+            MTableLexer mTableLexer = new MTableLexer(""
+                    + lexerTables.getMarkers().size());
 
-                if (marker == null) {
-                    mFinalStateSingleton.newAcceptTokenNoMarker();
-                }
-                else {
-                    mFinalStateSingleton.newAcceptTokenWithMarker(marker
-                            .getName());
-                }
+            if (this.destinationPackage.equals("")) {
+                mTableLexer.newDefaultPackage(this.grammar.getName_camelCase());
+            }
+            else {
+                mTableLexer.newSpecifiedPackage(
+                        this.grammar.getName_camelCase(),
+                        this.destinationPackage);
+            }
 
+            newLexerTable(mTableLexer, "BASE", lexerTables.getBase());
+            newLexerTable(mTableLexer, "NEXT", lexerTables.getNext());
+            newLexerTable(mTableLexer, "CHECK", lexerTables.getCheck());
+            newLexerTable(mTableLexer, "ACCEPT", lexerTables.getAccept());
+            newLexerTable(mTableLexer, "BACK_COUNT",
+                    lexerTables.getBackCount());
+            newLexerTable(mTableLexer, "MARKER", lexerTables.getMarker());
+            newLexerTable(mTableLexer, "ACCEPT_MARKER",
+                    lexerTables.getAcceptMarker());
+            newLexerTable(mTableLexer, "SELF_LOOP", lexerTables.getSelfLoop());
+
+            int[] ignored = new int[lexerTables.getAcceptations().size()];
+            int acceptationIndex = 0;
+            for (Acceptation acceptation : lexerTables.getAcceptations()) {
                 LexerExpression token = this.grammar
                         .getLexerExpression(acceptation.getName());
 
                 if (context.isIgnored(token)) {
-                    mFinalStateSingleton.newAcceptIgnoredToken();
+                    ignored[acceptationIndex] = 1;
+                }
+                else if (this.grammar.getLexer().isKeywordCover(token)) {
+                    mTableLexer.newTableKeywordTokenFactory(""
+                            + acceptationIndex, getTokenName(token));
+                    mTableLexer.newTableKeywordTokenType(""
+                            + acceptationIndex, getTokenName(token));
                 }
                 else {
-                    if (token instanceof LexerExpression.NamedExpression) {
-                        LexerExpression.NamedExpression namedToken = (LexerExpression.NamedExpression) token;
+                    mTableLexer.newTableTokenFactory("" + acceptationIndex,
+                            getTokenName(token));
+                    mTableLexer.newTableTokenType("" + acceptationIndex,
+                            getTokenName(token));
+                }
+
+                acceptationIndex++;
+            }
+
+            newLexerTable(mTableLexer, "IGNORED", ignored);
+
+            try {
+                BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
+                        packageDirectory, "Lexer.java")));
+
+                bw.write(mTableLexer.toString());
+                bw.close();
+            }
+            catch (IOException e) {
+                throw new InternalException("TODO: raise error "
+                        + "Lexer.java", e);
+            }
+        }
+        else {
+            for (State state : lexer.getStates()) {
+                if (state.isAcceptState()) {
+                    Acceptation acceptation = state.getAcceptations().first();
+                    MFinalStateSingleton mFinalStateSingleton = new MFinalStateSingleton(
+                            "" + state.getId(),
+                            "" + acceptation.getBackCount());
 
-                        mFinalStateSingleton.newAcceptNormalToken(namedToken
-                                .getName_CamelCase());
+                    if (this.destinationPackage.equals("")) {
+                        mFinalStateSingleton.newDefaultPackage(this.grammar
+                                .getName_camelCase());
                     }
                     else {
-                        LexerExpression.InlineExpression anonymousToken = (LexerExpression.InlineExpression) token;
+                        mFinalStateSingleton.newSpecifiedPackage(
+                                this.grammar.getName_camelCase(),
+                                this.destinationPackage);
+                    }
+
+                    Marker marker = acceptation.getMarker();
+                    LexerExpression token = this.grammar
+                            .getLexerExpression(acceptation.getName());
+                    boolean ignored = context.isIgnored(token);
 
-                        mFinalStateSingleton.newAcceptNormalToken(""
-                                + anonymousToken.getInternalName_CamelCase());
+                    if (ignored) {
+                        if (marker == null) {
+                            mFinalStateSingleton.newSkipTokenNoMarker();
+                        }
+                        else {
+                            mFinalStateSingleton.newSkipTokenWithMarker(marker
+                                    .getName());
+                        }
+                    }
+                    else {
+                        if (marker == null) {
+                            mFinalStateSingleton.newAcceptTokenNoMarker();
+                        }
+                        else {
+                            mFinalStateSingleton
+                                    .newAcceptTokenWithMarker(marker.getName());
+                        }
                     }
-                }
 
-                try {
-                    BufferedWriter bw = new BufferedWriter(new FileWriter(
-                            new File(packageDirectory, "S_" + state.getId()
-                                    + ".java")));
+                    if (ignored) {
+                        mFinalStateSingleton.newAcceptIgnoredToken();
+                        mFinalStateSingleton.newIgnoredTokenType();
+                    }
+                    else if (this.grammar.getLexer().isKeywordCover(token)) {
+                        mFinalStateSingleton
+                                .newAcceptKeywordToken(getTokenName(token));
+                        mFinalStateSingleton
+                                .newKeywordTokenType(getTokenName(token));
+                    }
+                    else {
+                        mFinalStateSingleton
+                                .newAcceptNormalToken(getTokenName(token));
+                        mFinalStateSingleton
+                                .newNormalTokenType(getTokenName(token));
+                    }
 
-                    bw.write(mFinalStateSingleton.toString());
-                    bw.close();
-                }
-                catch (IOException e) {
-                    throw new InternalException("TODO: raise error " + "S_"
-                            + state.getId() + ".java", e);
-                }
-            }
-            else {
-                MTransitionStateSingleton mTransitionStateSingleton = new MTransitionStateSingleton(
-                        "" + state.getId());
+                    try {
+                        BufferedWriter bw = new BufferedWriter(new FileWriter(
+                                new File(packageDirectory, "S_" + state.getId()
+                                        + ".java")));
 
-                if (this.destinationPackage.equals("")) {
-                    mTransitionStateSingleton.newDefaultPackage(this.grammar
-                            .getName_camelCase());
+                        bw.write(mFinalStateSingleton.toString());
+                        bw.close();
+                    }
+                    catch (IOException e) {
+                        throw new InternalException("TODO: raise error " + "S_"
+                                + state.getId() + ".java", e);
+                    }
                 }
                 else {
-                    mTransitionStateSingleton.newSpecifiedPackage(
-                            this.grammar.getName_camelCase(),
-                            this.destinationPackage);
-                }
+                    MTransitionStateSingleton mTransitionStateSingleton = new MTransitionStateSingleton(
+                            "" + state.getId());
 
-                Marker marker = state.getMarker();
+                    if (this.destinationPackage.equals("")) {
+                        mTransitionStateSingleton.newDefaultPackage(this.grammar
+                                .getName_camelCase());
+                    }
+                    else {
+                        mTransitionStateSingleton.newSpecifiedPackage(
+                                this.grammar.getName_camelCase(),
+                                this.destinationPackage);
+                    }
 
-                if (marker == null) {
-                    mTransitionStateSingleton.newNoMarker();
-                }
-                else {
-                    mTransitionStateSingleton.newSetMarker(marker.getName());
-                }
+                    Marker marker = state.getMarker();
 
-                for (Entry<RichSymbol, SortedSet<State>> entry : state
-                        .getTransitions().entrySet()) {
-                    RichSymbol richSymbol = entry.getKey();
-                    State target = state.getSingleTarget(richSymbol);
-                    String symbolName = richSymbol == RichSymbol.END ? "end"
-                            : richSymbol.getSymbol().getSimpleName();
+                    if (marker == null) {
+                        mTransitionStateSingleton.newNoMarker();
+                    }
+                    else {
+                        mTransitionStateSingleton
+                                .newSetMarker(marker.getName());
+                    }
 
-                    mTransitionStateSingleton.newTransitionTarget(symbolName,
-                            "" + target.getId());
-                }
+                    for (Entry<RichSymbol, SortedSet<State>> entry : state
+                            .getTransitions().entrySet()) {
+                        RichSymbol richSymbol = entry.getKey();
+                        State target = state.getSingleTarget(richSymbol);
+                        String symbolName = richSymbol == RichSymbol.END ? "end"
+                                : richSymbol.getSymbol().getSimpleName();
 
-                try {
-                    BufferedWriter bw = new BufferedWriter(new FileWriter(
-                            new File(packageDirectory, "S_" + state.getId()
-                                    + ".java")));
+                        mTransitionStateSingleton.newTransitionTarget(
+                                symbolName, "" + target.getId());
+                    }
 
-                    bw.write(mTransitionStateSingleton.toString());
-                    bw.close();
-                }
-                catch (IOException e) {
-                    new InternalException("TODO: raise error " + "S_"
-                            + state.getId() + ".java", e);
+                    long[] selfLoop = selfLoop(state, symbolTables);
+
+                    if (selfLoop != null) {
+                        MSelfLoop mSelfLoop = mTransitionStateSingleton
+                                .newSelfLoop();
+
+                        for (long word : selfLoop) {
+                            mSelfLoop.newSelfLoopWord(String.format(
+                                    "0x%016xL", word));
+                        }
+                    }
+
+                    try {
+                        BufferedWriter bw = new BufferedWriter(new FileWriter(
+                                new File(packageDirectory, "S_" + state.getId()
+                                        + ".java")));
+
+                        bw.write(mTransitionStateSingleton.toString());
+                        bw.close();
+                    }
+                    catch (IOException e) {
+                        new InternalException("TODO: raise error " + "S_"
+                                + state.getId() + ".java", e);
+                    }
                 }
             }
-        }
 
-        for (Marker marker : lexer.getMarkers()) {
-            mLexer.newMarkerDeclaration(marker.getName());
-            mLexer.newSetMarkerDeclaration(marker.getName());
-            mLexer.newAcceptMarkerDeclaration(marker.getName());
+            for (Marker marker : lexer.getMarkers()) {
+                mLexer.newMarkerDeclaration(marker.getName());
+                mLexer.newSetMarkerDeclaration(marker.getName());
+                mLexer.newAcceptMarkerDeclaration(marker.getName());
+            }
         }
 
         /*
@@ -446,6 +668,7 @@ public class CodeGenerator {
                         .getName_CamelCase();
 
                 mNode.newNodeProductionTypeEnumEntry(production_CamelCaseName);
+                containmentMatrix.addProduction(production_CamelCaseName);
 
                 // if production is not a single anonymous alternative
                 if (production.getAlternatives().size() > 1
@@ -505,11 +728,17 @@ public class CodeGenerator {
 
                     alternativeToCamelFullName.put(alternative,
                             alt_CamelCaseFullName);
+                    mAlternative
+                            .newAlternativeProductionType(production_CamelCaseName);
 
                     if (altIsPublic) {
                         mWalker.newWalkerIn(alt_CamelCaseFullName);
                         mWalker.newWalkerCase(alt_CamelCaseFullName);
                         mWalker.newWalkerOut(alt_CamelCaseFullName);
+                        mIterativeWalker
+                                .newIterativeWalkerCallbacks(alt_CamelCaseFullName);
+                        mIterativeWalker
+                                .newIterativeWalkerDispatch(alt_CamelCaseFullName);
                         mAlternative.newAltNormalApply();
                     }
                     else {
@@ -528,6 +757,9 @@ public class CodeGenerator {
 
                     if (altIsPublic) {
                         mNode.newNodeTypeEnumEntry(alt_CamelCaseFullName);
+                        containmentMatrix.addNodeType(alt_CamelCaseFullName);
+                        containmentMatrix.addType(production_CamelCaseName,
+                                alt_CamelCaseFullName);
                         mAlternative.newPublic();
                         mAlternative.newNamedAltType();
                     }
@@ -565,6 +797,8 @@ public class CodeGenerator {
 
                             IReferencable reference = normalElement
                                     .getReference();
+                            addContainment(containmentMatrix,
+                                    production_CamelCaseName, reference);
                             if (reference instanceof LexerExpression.NamedExpression) {
                                 LexerExpression.NamedExpression namedToken = (LexerExpression.NamedExpression) reference;
                                 element_CamelCaseType = namedToken
@@ -641,6 +875,8 @@ public class CodeGenerator {
                             }
                             mAlternative
                                     .newNormalChildApply(element_CamelCaseName);
+                            mAlternative
+                                    .newNormalChildPush(element_CamelCaseName);
 
                         }
                         else {
@@ -662,6 +898,8 @@ public class CodeGenerator {
 
                             IReferencable leftReference = doubleElement
                                     .getLeftReference();
+                            addContainment(containmentMatrix,
+                                    production_CamelCaseName, leftReference);
                             if (leftReference instanceof LexerExpression.NamedExpression) {
                                 LexerExpression.NamedExpression namedToken = (LexerExpression.NamedExpression) leftReference;
                                 leftElement_CamelCaseType = namedToken
@@ -686,6 +924,8 @@ public class CodeGenerator {
 
                             IReferencable rightReference = doubleElement
                                     .getRightReference();
+                            addContainment(containmentMatrix,
+                                    production_CamelCaseName, rightReference);
                             if (rightReference instanceof LexerExpression.NamedExpression) {
                                 LexerExpression.NamedExpression namedToken = (LexerExpression.NamedExpression) rightReference;
                                 rightElement_CamelCaseType = namedToken
@@ -767,6 +1007,8 @@ public class CodeGenerator {
 
                             mAlternative
                                     .newNormalChildApply(element_CamelCaseName);
+                            mAlternative
+                                    .newNormalChildPush(element_CamelCaseName);
                         }
                     }
 
@@ -795,6 +1037,7 @@ public class CodeGenerator {
                         .getName_CamelCase();
 
                 mNode.newNodeProductionTypeEnumEntry(production_CamelCaseName);
+                containmentMatrix.addProduction(production_CamelCaseName);
 
                 // if production is not a single anonymous alternative
                 if (production.getAlternatives().size() > 1
@@ -853,11 +1096,17 @@ public class CodeGenerator {
 
                     alternativeToCamelFullName.put(alternative,
                             alt_CamelCaseFullName);
+                    mAlternative
+                            .newAlternativeProductionType(production_CamelCaseName);
 
                     if (altIsPublic) {
                         mWalker.newWalkerIn(alt_CamelCaseFullName);
                         mWalker.newWalkerCase(alt_CamelCaseFullName);
                         mWalker.newWalkerOut(alt_CamelCaseFullName);
+                        mIterativeWalker
+                                .newIterativeWalkerCallbacks(alt_CamelCaseFullName);
+                        mIterativeWalker
+                                .newIterativeWalkerDispatch(alt_CamelCaseFullName);
                         mAlternative.newAltNormalApply();
                     }
                     else {
@@ -876,6 +1125,9 @@ public class CodeGenerator {
 
                     if (altIsPublic) {
                         mNode.newNodeTypeEnumEntry(alt_CamelCaseFullName);
+                        containmentMatrix.addNodeType(alt_CamelCaseFullName);
+                        containmentMatrix.addType(production_CamelCaseName,
+                                alt_CamelCaseFullName);
                         mAlternative.newPublic();
                         mAlternative.newNamedAltType();
                     }
@@ -912,6 +1164,8 @@ public class CodeGenerator {
 
                             IReferencable reference = normalElement
                                     .getReference();
+                            addContainment(containmentMatrix,
+                                    production_CamelCaseName, reference);
                             if (reference instanceof LexerExpression.NamedExpression) {
                                 LexerExpression.NamedExpression namedToken = (LexerExpression.NamedExpression) reference;
                                 element_CamelCaseType = namedToken
@@ -989,6 +1243,8 @@ public class CodeGenerator {
 
                             mAlternative
                                     .newNormalChildApply(element_CamelCaseName);
+                            mAlternative
+                                    .newNormalChildPush(element_CamelCaseName);
 
                         }
                         else {
@@ -1010,6 +1266,8 @@ public class CodeGenerator {
 
                             IReferencable leftReference = doubleElement
                                     .getLeftReference();
+                            addContainment(containmentMatrix,
+                                    production_CamelCaseName, leftReference);
                             if (leftReference instanceof LexerExpression.NamedExpression) {
                                 LexerExpression.NamedExpression namedToken = (LexerExpression.NamedExpression) leftReference;
                                 leftElement_CamelCaseType = namedToken
@@ -1034,6 +1292,8 @@ public class CodeGenerator {
 
                             IReferencable rightReference = doubleElement
                                     .getRightReference();
+                            addContainment(containmentMatrix,
+                                    production_CamelCaseName, rightReference);
                             if (rightReference instanceof LexerExpression.NamedExpression) {
                                 LexerExpression.NamedExpression namedToken = (LexerExpression.NamedExpression) rightReference;
                                 rightElement_CamelCaseType = namedToken
@@ -1115,6 +1375,8 @@ public class CodeGenerator {
 
                             mAlternative
                                     .newNormalChildApply(element_CamelCaseName);
+                            mAlternative
+                                    .newNormalChildPush(element_CamelCaseName);
 
                         }
 
@@ -1141,10 +1403,12 @@ public class CodeGenerator {
          *
          **/
 
+        Map<String, Integer> productionTypes = new HashMap<>();
+
         for (Production production : this.grammar.getSimplifiedGrammar()
                 .getProductions()) {
             mCstName.newCstProductionTypeDeclaration(production.getName());
-
+            productionTypes.put(production.getName(), productionTypes.size());
         }
 
         mCstName.newCstProductionTypeDeclaration("NOT_A_PRODUCTION");
@@ -1153,322 +1417,363 @@ public class CodeGenerator {
          * Generate LRState
          */
 
-        for (LRState state : this.grammar.getSimplifiedGrammar()
-                .getLrAutomaton().getStates()) {
-            MLrStateSingleton mLrStateSingleton = new MLrStateSingleton(
-                    state.getName());
+        if (this.parserTables) {
+            generateParserTables(packageDirectory, tokenTypes,
+                    productionTypes, alternativeToCamelFullName);
+            mParseStack.newTableStartState();
+        }
+        else {
+            mParseStack.newClassStartState();
 
-            for (Entry<OldToken, LRState> entry : state.getTokenTransitions()
-                    .entrySet()) {
-                OldToken oldToken = entry.getKey();
-                LRState target = entry.getValue();
+            for (LRState state : this.grammar.getSimplifiedGrammar()
+                    .getLrAutomaton().getStates()) {
+                MLrStateSingleton mLrStateSingleton = new MLrStateSingleton(
+                        state.getName());
 
-                if (oldToken.getName().equals("$end")) {
-                    mLrStateSingleton.newEndTokenLrTransitionTarget(target
-                            .getName());
-                }
-                else {
-                    LexerExpression lexerExpression = this.grammar
-                            .getLexerExpression(oldToken.getName());
-                    String element_CamelCaseType;
-                    if (lexerExpression instanceof LexerExpression.NamedExpression) {
-                        LexerExpression.NamedExpression namedExpression = (LexerExpression.NamedExpression) lexerExpression;
-                        element_CamelCaseType = namedExpression
-                                .getName_CamelCase();
+                for (Entry<OldToken, LRState> entry : state.getTokenTransitions()
+                        .entrySet()) {
+                    OldToken oldToken = entry.getKey();
+                    LRState target = entry.getValue();
+
+                    if (oldToken.getName().equals("$end")) {
+                        mLrStateSingleton.newEndTokenLrTransitionTarget(target
+                                .getName());
                     }
                     else {
-                        LexerExpression.InlineExpression inlineExpression = (LexerExpression.InlineExpression) lexerExpression;
+                        LexerExpression lexerExpression = this.grammar
+                                .getLexerExpression(oldToken.getName());
+                        String element_CamelCaseType;
+                        if (lexerExpression instanceof LexerExpression.NamedExpression) {
+                            LexerExpression.NamedExpression namedExpression = (LexerExpression.NamedExpression) lexerExpression;
+                            element_CamelCaseType = namedExpression
+                                    .getName_CamelCase();
+                        }
+                        else {
+                            LexerExpression.InlineExpression inlineExpression = (LexerExpression.InlineExpression) lexerExpression;
 
-                        element_CamelCaseType = ""
-                                + inlineExpression.getInternalName_CamelCase();
-                    }
+                            element_CamelCaseType = ""
+                                    + inlineExpression.getInternalName_CamelCase();
+                        }
 
-                    mLrStateSingleton.newNormalTokenLrTransitionTarget(
-                            element_CamelCaseType, target.getName());
+                        mLrStateSingleton.newNormalTokenLrTransitionTarget(
+                                element_CamelCaseType, target.getName());
+                    }
                 }
-            }
-
-            for (Entry<OldProduction, LRState> entry : state
-                    .getProductionTransitions().entrySet()) {
-                OldProduction oldProduction = entry.getKey();
-                LRState target = entry.getValue();
 
-                String production_camelCaseName = oldProduction.getName();
-                mLrStateSingleton.newProductionLrTransitionTarget(
-                        production_camelCaseName, target.getName());
-            }
+                for (Entry<OldProduction, LRState> entry : state
+                        .getProductionTransitions().entrySet()) {
+                    OldProduction oldProduction = entry.getKey();
+                    LRState target = entry.getValue();
 
-            Map<Integer, MDistance> distanceMap = new LinkedHashMap<Integer, MDistance>();
-            boolean isLr1OrMore = false;
-            for (Action action : state.getActions()) {
-                int maxLookahead = action.getMaxLookahead();
-                while (maxLookahead > distanceMap.size() - 1) {
-                    int distance = distanceMap.size();
-                    distanceMap.put(distance,
-                            mLrStateSingleton.newDistance("" + distance));
+                    String production_camelCaseName = oldProduction.getName();
+                    mLrStateSingleton.newProductionLrTransitionTarget(
+                            production_camelCaseName, target.getName());
                 }
 
-                MDistance mDistance = distanceMap.get(maxLookahead);
-                MAction mAction = mDistance.newAction();
-                if (maxLookahead > 0) {
-                    isLr1OrMore = true;
-                    for (Entry<Integer, Set<Item>> entry : action
-                            .getDistanceToItemSetMap().entrySet()) {
-                        String ahead = "" + entry.getKey();
-                        Set<Item> items = entry.getValue();
-                        Set<OldToken> tokens = new LinkedHashSet<OldToken>();
-                        for (Item item : items) {
-                            tokens.add(item.getTokenElement().getToken());
-                        }
+                // actions are tested by increasing lookahead
+                List<Action> actions = new ArrayList<Action>(
+                        state.getActions());
+                Collections.sort(actions, new Comparator<Action>() {
 
-                        if (tokens.size() == 0) {
-                            mAction.newFalseGroup();
-                        }
-                        else {
-                            MNormalGroup mNormalGroup = mAction
-                                    .newNormalGroup();
+                    @Override
+                    public int compare(
+                            Action action1,
+                            Action action2) {
 
-                            for (OldToken token : tokens) {
-                                if (token.getName().equals("$end")) {
-                                    mNormalGroup.newEndCondition(ahead);
-                                }
-                                else {
-                                    LexerExpression lexerExpression = this.grammar
-                                            .getLexerExpression(token.getName());
-                                    String element_CamelCaseType;
-                                    if (lexerExpression instanceof LexerExpression.NamedExpression) {
-                                        LexerExpression.NamedExpression namedExpression = (LexerExpression.NamedExpression) lexerExpression;
-                                        element_CamelCaseType = namedExpression
-                                                .getName_CamelCase();
-                                    }
-                                    else {
-                                        LexerExpression.InlineExpression inlineExpression = (LexerExpression.InlineExpression) lexerExpression;
+                        return Integer.compare(action1.getMaxLookahead(),
+                                action2.getMaxLookahead());
+                    }
+                });
 
-                                        element_CamelCaseType = ""
-                                                + inlineExpression
-                                                        .getInternalName_CamelCase();
-                                    }
+                DecisionTree<Action, OldToken> decisionTree = DecisionTree
+                        .build(actions);
 
-                                    mNormalGroup.newNormalCondition(ahead,
-                                            element_CamelCaseType);
-                                }
-                            }
-                        }
+                if (decisionTree.isLeaf()) {
+                    MLr0Action mLr0Action = mLrStateSingleton.newLr0Action();
+                    Action action = decisionTree.getAction();
+
+                    if (action.getType() == ActionType.SHIFT) {
+                        mLr0Action.newShift();
                     }
-                }
+                    else {
+                        OldAlternative alternative = ((ReduceAction) action)
+                                .getAlternative();
 
-                if (action.getType() == ActionType.SHIFT) {
-                    mAction.newShift();
+                        newReduce(mLr0Action.newReduce(alternative
+                                .getProduction().getName()), alternative,
+                                alternativeToCamelFullName);
+                    }
                 }
                 else {
-                    ReduceAction reduceAction = (ReduceAction) action;
-                    OldAlternative alternative = reduceAction.getAlternative();
-                    OldProduction production = alternative.getProduction();
-
-                    String production_CamelCaseName = to_CamelCase(production
-                            .getName());
-                    String alt_CamelCaseName = to_CamelCase(alternative
-                            .getName());
-                    String alt_CamelCaseFullName = production_CamelCaseName
-                            + (alt_CamelCaseName.equals("") ? "" : "_"
-                                    + alt_CamelCaseName);
-
-                    MReduce mReduce = mAction.newReduce(production.getName());
-
-                    ArrayList<OldElement> elements = alternative.getElements();
-
-                    int elementCount = elements.size();
-
-                    for (int i = elementCount - 1; i >= 0; i--) {
-
-                        OldElement element = elements.get(i);
-                        String element_CamelCaseName = to_camelCase(element
-                                .getName());
+                    MLr1OrMore mLr1OrMore = mLrStateSingleton.newLr1OrMore();
 
-                        boolean elementIsEndToken;
+                    newDecisionSwitch(mLr1OrMore.newDecisionSwitch("    ",
+                            "" + decisionTree.getDistance()), decisionTree,
+                            actions, "    ");
 
-                        if (element instanceof OldTokenElement) {
+                    Set<Action> selectedActions = new HashSet<Action>();
+                    decisionTree.collectActions(selectedActions);
 
-                            elementIsEndToken = ((OldTokenElement) element)
-                                    .getToken().getName().equals("$end");
-                        }
-                        else {
-                            elementIsEndToken = false;
+                    for (Action action : actions) {
+                        if (!selectedActions.contains(action)) {
+                            continue;
                         }
 
-                        if (elementIsEndToken) {
-                            mReduce.newReduceEndPop();
+                        MAction mAction = mLr1OrMore.newAction(""
+                                + actions.indexOf(action));
+
+                        if (action.getType() == ActionType.SHIFT) {
+                            mAction.newShift();
                         }
                         else {
+                            OldAlternative alternative = ((ReduceAction) action)
+                                    .getAlternative();
 
-                            mReduce.newReduceNormalPop(element_CamelCaseName);
+                            newReduce(mAction.newReduce(alternative
+                                    .getProduction().getName()),
+                                    alternative, alternativeToCamelFullName);
                         }
                     }
+                }
 
-                    if (alt_CamelCaseFullName.equals("$Start")) {
-                        mReduce.newAcceptDecision(to_CamelCase(elements.get(0)
-                                .getName()));
-                    }
-                    else {
-                        MReduceDecision mReduceDecision = mReduce
-                                .newReduceDecision();
+                if (this.destinationPackage.equals("")) {
+                    mLrStateSingleton.newDefaultPackage(this.grammar
+                            .getName_camelCase());
+                }
+                else {
+                    mLrStateSingleton.newSpecifiedPackage(
+                            this.grammar.getName_camelCase(),
+                            this.destinationPackage);
+                }
 
-                        SAlternativeTransformation transformation = alternative
-                                .getOrigin().getTransformation();
+                try {
+                    BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
+                            packageDirectory, "L" + state.getName() + ".java")));
 
-                        for (SAlternativeTransformationElement transformationElement : transformation
-                                .getElements()) {
+                    bw.write(mLrStateSingleton.toString());
+                    bw.close();
+                }
+                catch (IOException e) {
+                    throw new InternalException("TODO: raise error " + "N"
+                            + state.getName() + ".java", e);
+                }
+            }
+        }
 
-                            transformationElement
-                                    .apply(new TransformationGeneration(
-                                            this.grammar, alternative,
-                                            mReduceDecision,
-                                            alternativeToCamelFullName));
+        try {
+            BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
+                    packageDirectory, "Node.java")));
 
-                        }
+            bw.write(mNode.toString());
+            bw.close();
+        }
+        catch (IOException e) {
+            new InternalException("TODO: raise error " + "Node.java", e);
+        }
 
-                        for (OldElement element : elements) {
+        try {
+            BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
+                    packageDirectory, "Token.java")));
 
-                            boolean elementIsEndToken;
-                            if (element instanceof OldTokenElement) {
-                                OldTokenElement tokenElement = (OldTokenElement) element;
+            bw.write(mToken.toString());
+            bw.close();
+        }
+        catch (IOException e) {
+            throw new InternalException("TODO: raise error " + "Token.java", e);
+        }
 
-                                if (tokenElement.getToken().getName()
-                                        .equals("$end")) {
-                                    elementIsEndToken = true;
-                                }
-                                else {
-                                    elementIsEndToken = false;
-                                }
-                            }
-                            else {
-                                elementIsEndToken = false;
-                            }
-                            if (elementIsEndToken) {
-                                mReduce.newEndParameter();
-                            }
-                        }
-                    }
-                }
+        if (!this.lexerTables) {
+            try {
+                BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
+                        packageDirectory, "State.java")));
 
+                bw.write(mState.toString());
+                bw.close();
+            }
+            catch (IOException e) {
+                throw new InternalException("TODO: raise error "
+                        + "State.java", e);
             }
 
-            if (isLr1OrMore) {
-                mLrStateSingleton.newLr1OrMore();
+            try {
+                BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
+                        packageDirectory, "TransitionState.java")));
+
+                bw.write(mTransitionState.toString());
+                bw.close();
+            }
+            catch (IOException e) {
+                throw new InternalException("TODO: raise error "
+                        + "TransitionState.java", e);
             }
 
-            if (this.destinationPackage.equals("")) {
-                mLrStateSingleton.newDefaultPackage(this.grammar
-                        .getName_camelCase());
+            try {
+                BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
+                        packageDirectory, "FinalState.java")));
+
+                bw.write(mFinalState.toString());
+                bw.close();
             }
-            else {
-                mLrStateSingleton.newSpecifiedPackage(
-                        this.grammar.getName_camelCase(),
-                        this.destinationPackage);
+            catch (IOException e) {
+                throw new InternalException("TODO: raise error "
+                        + "FinalState.java", e);
             }
+        }
+
+        try {
+            BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
+                    packageDirectory, "Symbol.java")));
+
+            bw.write(mSymbol.toString());
+            bw.close();
+        }
+        catch (IOException e) {
+            throw new InternalException("TODO: raise error " + "Symbol.java", e);
+        }
+
+        try {
+            BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
+                    packageDirectory, "Tables.java")));
+
+            bw.write(mTables.toString());
+            bw.close();
+        }
+        catch (IOException e) {
+            throw new InternalException("TODO: raise error " + "Tables.java", e);
+        }
+
+        try {
+            BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
+                    packageDirectory, "CSTProductionType.java")));
+
+            bw.write(mCstName.toString());
+            bw.close();
+        }
+        catch (IOException e) {
+            throw new InternalException("TODO: raise error "
+                    + "CSTProductionTypeName.java", e);
+        }
+
+        try {
+            BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
+                    packageDirectory, "AbstractLexer.java")));
+
+            bw.write(mAbstractLexer.toString());
+            bw.close();
+        }
+        catch (IOException e) {
+            throw new InternalException("TODO: raise error "
+                    + "AbstractLexer.java", e);
+        }
 
+        if (!this.lexerTables) {
             try {
                 BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
-                        packageDirectory, "L" + state.getName() + ".java")));
+                        packageDirectory, "Lexer.java")));
 
-                bw.write(mLrStateSingleton.toString());
+                bw.write(mLexer.toString());
                 bw.close();
             }
             catch (IOException e) {
-                throw new InternalException("TODO: raise error " + "N"
-                        + state.getName() + ".java", e);
+                throw new InternalException("TODO: raise error "
+                        + "Lexer.java", e);
             }
         }
 
         try {
             BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
-                    packageDirectory, "Node.java")));
+                    packageDirectory, "MappedReader.java")));
 
-            bw.write(mNode.toString());
+            bw.write(mMappedReader.toString());
             bw.close();
         }
         catch (IOException e) {
-            new InternalException("TODO: raise error " + "Node.java", e);
+            throw new InternalException("TODO: raise error "
+                    + "MappedReader.java", e);
         }
 
         try {
             BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
-                    packageDirectory, "Token.java")));
+                    packageDirectory, "LineIndex.java")));
 
-            bw.write(mToken.toString());
+            bw.write(mLineIndex.toString());
             bw.close();
         }
         catch (IOException e) {
-            throw new InternalException("TODO: raise error " + "Token.java", e);
+            throw new InternalException("TODO: raise error "
+                    + "LineIndex.java", e);
         }
 
         try {
             BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
-                    packageDirectory, "State.java")));
+                    packageDirectory, "TokenBuffer.java")));
 
-            bw.write(mState.toString());
+            bw.write(mTokenBuffer.toString());
             bw.close();
         }
         catch (IOException e) {
-            throw new InternalException("TODO: raise error " + "State.java", e);
+            throw new InternalException("TODO: raise error "
+                    + "TokenBuffer.java", e);
         }
 
         try {
             BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
-                    packageDirectory, "TransitionState.java")));
+                    packageDirectory, "TextPool.java")));
 
-            bw.write(mTransitionState.toString());
+            bw.write(mTextPool.toString());
             bw.close();
         }
         catch (IOException e) {
             throw new InternalException("TODO: raise error "
-                    + "TransitionState.java", e);
+                    + "TextPool.java", e);
         }
 
         try {
             BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
-                    packageDirectory, "FinalState.java")));
+                    packageDirectory, "TextSlice.java")));
 
-            bw.write(mFinalState.toString());
+            bw.write(mTextSlice.toString());
             bw.close();
         }
         catch (IOException e) {
             throw new InternalException("TODO: raise error "
-                    + "FinalState.java", e);
+                    + "TextSlice.java", e);
         }
 
         try {
             BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
-                    packageDirectory, "Symbol.java")));
+                    packageDirectory, "SequenceReader.java")));
 
-            bw.write(mSymbol.toString());
+            bw.write(mSequenceReader.toString());
             bw.close();
         }
         catch (IOException e) {
-            throw new InternalException("TODO: raise error " + "Symbol.java", e);
+            throw new InternalException("TODO: raise error "
+                    + "SequenceReader.java", e);
         }
 
         try {
             BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
-                    packageDirectory, "CSTProductionType.java")));
+                    packageDirectory, "IncrementalLexer.java")));
 
-            bw.write(mCstName.toString());
+            bw.write(mIncrementalLexer.toString());
             bw.close();
         }
         catch (IOException e) {
             throw new InternalException("TODO: raise error "
-                    + "CSTProductionTypeName.java", e);
+                    + "IncrementalLexer.java", e);
         }
 
         try {
             BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
-                    packageDirectory, "Lexer.java")));
+                    packageDirectory, "ParallelLexer.java")));
 
-            bw.write(mLexer.toString());
+            bw.write(mParallelLexer.toString());
             bw.close();
         }
         catch (IOException e) {
-            throw new InternalException("TODO: raise error " + "Lexer.java", e);
+            throw new InternalException("TODO: raise error "
+                    + "ParallelLexer.java", e);
         }
 
         try {
@@ -1528,6 +1833,53 @@ public class CodeGenerator {
             new InternalException("TODO: raise error " + "Walker.java", e);
         }
 
+        try {
+            BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
+                    packageDirectory, "IterativeWalker.java")));
+
+            bw.write(mIterativeWalker.toString());
+            bw.close();
+        }
+        catch (IOException e) {
+            new InternalException("TODO: raise error "
+                    + "IterativeWalker.java", e);
+        }
+
+        long[][] containmentRows = containmentMatrix.getRows();
+        for (int i = 0; i < containmentRows.length; i++) {
+            MContainmentRow mContainmentRow = mFilteredWalker
+                    .newContainmentRow(containmentMatrix.getProductionNames()
+                            .get(i));
+            for (long word : containmentRows[i]) {
+                mContainmentRow.newContainmentWord(String.format("0x%016xL",
+                        word));
+            }
+        }
+
+        try {
+            BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
+                    packageDirectory, "FilteredWalker.java")));
+
+            bw.write(mFilteredWalker.toString());
+            bw.close();
+        }
+        catch (IOException e) {
+            new InternalException("TODO: raise error " + "FilteredWalker.java",
+                    e);
+        }
+
+        try {
+            BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
+                    packageDirectory, "ParallelWalker.java")));
+
+            bw.write(mParallelWalker.toString());
+            bw.close();
+        }
+        catch (IOException e) {
+            new InternalException("TODO: raise error " + "ParallelWalker.java",
+                    e);
+        }
+
         try {
             BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
                     packageDirectory, "Parser.java")));
@@ -1541,36 +1893,48 @@ public class CodeGenerator {
 
         try {
             BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
-                    packageDirectory, "ParseStack.java")));
+                    packageDirectory, "ParserPool.java")));
 
-            bw.write(mParseStack.toString());
+            bw.write(mParserPool.toString());
             bw.close();
         }
         catch (IOException e) {
-            new InternalException("TODO: raise error " + "ParseStack.java", e);
+            throw new InternalException("TODO: raise error "
+                    + "ParserPool.java", e);
         }
 
         try {
             BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
-                    packageDirectory, "LRState.java")));
+                    packageDirectory, "ParseListener.java")));
 
-            bw.write(mLrState.toString());
+            bw.write(mParseListener.toString());
             bw.close();
         }
         catch (IOException e) {
-            new InternalException("TODO: raise error " + "LRState.java", e);
+            new InternalException("TODO: raise error " + "ParseListener.java",
+                    e);
         }
 
         try {
             BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
-                    packageDirectory, "AbstractForest.java")));
+                    packageDirectory, "ParseStack.java")));
 
-            bw.write(mAbstractForest.toString());
+            bw.write(mParseStack.toString());
             bw.close();
         }
         catch (IOException e) {
-            new InternalException("TODO: raise error " + "AbstractForest.java",
-                    e);
+            new InternalException("TODO: raise error " + "ParseStack.java", e);
+        }
+
+        try {
+            BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
+                    packageDirectory, "LRState.java")));
+
+            bw.write(mLrState.toString());
+            bw.close();
+        }
+        catch (IOException e) {
+            new InternalException("TODO: raise error " + "LRState.java", e);
         }
 
         try {
@@ -1586,13 +1950,13 @@ public class CodeGenerator {
 
         try {
             BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
-                    packageDirectory, "Entry.java")));
+                    packageDirectory, "NodeArray.java")));
 
-            bw.write(mEntry.toString());
+            bw.write(mNodeArray.toString());
             bw.close();
         }
         catch (IOException e) {
-            new InternalException("TODO: raise error " + "Entry.java", e);
+            new InternalException("TODO: raise error " + "NodeArray.java", e);
         }
 
         try {
@@ -1618,4 +1982,377 @@ public class CodeGenerator {
                     + "SeparatedNodeList.java", e);
         }
     }
+
+    private static void newSymbolTable(
+            MSymbol mSymbol,
+            String name,
+            int[] table) {
+
+        MSymbolTable mSymbolTable = mSymbol.newSymbolTable(name);
+
+        for (String chunk : TablePacker.pack(table)) {
+            mSymbolTable.newSymbolTableChunk(chunk);
+        }
+    }
+
+    /**
+     * Returns the name of the generated class of the provided token, without
+     * its <code>N</code> prefix.
+     */
+    private static String getTokenName(
+            LexerExpression token) {
+
+        if (token instanceof LexerExpression.NamedExpression) {
+            return ((LexerExpression.NamedExpression) token)
+                    .getName_CamelCase();
+        }
+
+        return ((LexerExpression.InlineExpression) token)
+                .getInternalName_CamelCase();
+    }
+
+    /**
+     * Returns the bitmap of the indices of the symbols on which the provided
+     * state loops to itself, or <code>null</code> when it has no such
+     * transition.
+     */
+    private static long[] selfLoop(
+            State state,
+            SymbolTables symbolTables) {
+
+        long[] bitmap = new long[(symbolTables.getSymbolCount() + 63) / 64];
+        boolean found = false;
+
+        for (RichSymbol richSymbol : state.getTransitions().keySet()) {
+            if (richSymbol != RichSymbol.END
+                    && state.getSingleTarget(richSymbol) == state) {
+                int index = symbolTables
+                        .getSymbolIndex(richSymbol.getSymbol());
+                bitmap[index >>> 6] |= 1L << index;
+                found = true;
+            }
+        }
+
+        return found ? bitmap : null;
+    }
+
+    /**
+     * Fills the provided switch macro with the branches of the provided inner
+     * node of a decision tree. Leaves select the index of their action in the
+     * provided list.
+     */
+    private void newDecisionSwitch(
+            MDecisionSwitch mDecisionSwitch,
+            DecisionTree<Action, OldToken> decisionTree,
+            List<Action> actions,
+            String indent) {
+
+        for (Entry<DecisionTree<Action, OldToken>, Set<OldToken>> entry : decisionTree
+                .getBranches().entrySet()) {
+            MDecisionBranch mDecisionBranch = mDecisionSwitch
+                    .newDecisionBranch();
+
+            for (OldToken token : entry.getValue()) {
+                mDecisionBranch.newDecisionCase(getInternalType(token));
+            }
+
+            newDecisionBranch(mDecisionBranch, entry.getKey(), actions, indent);
+        }
+
+        if (decisionTree.getDefaultBranch() != null) {
+            MDecisionBranch mDecisionBranch = mDecisionSwitch
+                    .newDecisionBranch();
+
+            mDecisionBranch.newDecisionDefault();
+            newDecisionBranch(mDecisionBranch,
+                    decisionTree.getDefaultBranch(), actions, indent);
+        }
+    }
+
+    private void newDecisionBranch(
+            MDecisionBranch mDecisionBranch,
+            DecisionTree<Action, OldToken> decisionTree,
+            List<Action> actions,
+            String indent) {
+
+        if (decisionTree.isLeaf()) {
+            mDecisionBranch.newDecisionAction(""
+                    + actions.indexOf(decisionTree.getAction()));
+        }
+        else {
+            String innerIndent = indent + "  ";
+            newDecisionSwitch(mDecisionBranch.newDecisionSwitch(innerIndent,
+                    "" + decisionTree.getDistance()), decisionTree, actions,
+                    innerIndent);
+        }
+    }
+
+    /**
+     * Records in the containment matrix that a node of the provided production
+     * can have a child of the referenced token or production.
+     */
+    private void addContainment(
+            ContainmentMatrix containmentMatrix,
+            String production,
+            IReferencable reference) {
+
+        if (reference instanceof LexerExpression.NamedExpression) {
+            containmentMatrix.addType(production,
+                    ((LexerExpression.NamedExpression) reference)
+                            .getName_CamelCase());
+        }
+        else if (reference instanceof Tree.TreeProduction) {
+            containmentMatrix.addReference(production,
+                    ((Tree.TreeProduction) reference).getName_CamelCase());
+        }
+        else if (reference instanceof Parser.ParserProduction) {
+            containmentMatrix.addReference(production,
+                    ((Parser.ParserProduction) reference).getName_CamelCase());
+        }
+    }
+
+    /**
+     * Returns the name of the internal type of the provided token in the
+     * generated Token class.
+     */
+    private String getInternalType(
+            OldToken token) {
+
+        if (token.getName().equals("$end")) {
+            return "TEnd";
+        }
+
+        LexerExpression lexerExpression = this.grammar
+                .getLexerExpression(token.getName());
+
+        if (lexerExpression instanceof LexerExpression.NamedExpression) {
+            return "T_"
+                    + ((LexerExpression.NamedExpression) lexerExpression)
+                            .getName_CamelCase();
+        }
+
+        return "T_"
+                + ((LexerExpression.InlineExpression) lexerExpression)
+                        .getInternalName_CamelCase();
+    }
+
+    /**
+     * Returns the capacity of the lookahead buffer of the parser: the smallest
+     * power of two no smaller than the largest lookahead distance.
+     */
+    private int getLookaheadCapacity() {
+
+        int maxLookahead = 1;
+        for (LRState state : this.grammar.getSimplifiedGrammar()
+                .getLrAutomaton().getStates()) {
+            for (Action action : state.getActions()) {
+                maxLookahead = Math.max(maxLookahead,
+                        action.getMaxLookahead());
+            }
+        }
+
+        int capacity = 1;
+        while (capacity < maxLookahead) {
+            capacity *= 2;
+        }
+        return capacity;
+    }
+
+    private void generateParserTables(
+            File packageDirectory,
+            Map<LexerExpression, Integer> tokenTypes,
+            Map<String, Integer> productionTypes,
+            Map<IReferencable, String> alternativeToCamelFullName) {
+
+        ParserTables parserTables = new ParserTables(this.grammar,
+                this.grammar.getSimplifiedGrammar().getLrAutomaton(),
+                tokenTypes, productionTypes);
+
+        MTableState mTableState = new MTableState(""
+                + parserTables.getStateCount());
+        MReductions mReductions = new MReductions();
+
+        if (this.destinationPackage.equals("")) {
+            mTableState.newDefaultPackage(this.grammar.getName_camelCase());
+            mReductions.newDefaultPackage(this.grammar.getName_camelCase());
+        }
+        else {
+            mTableState.newSpecifiedPackage(this.grammar.getName_camelCase(),
+                    this.destinationPackage);
+            mReductions.newSpecifiedPackage(this.grammar.getName_camelCase(),
+                    this.destinationPackage);
+        }
+
+        newParserTable(mTableState, "LOOKAHEAD", parserTables.getLookahead());
+        newParserTable(mTableState, "DEFAULT_ACTION",
+                parserTables.getDefaultAction());
+        newParserTable(mTableState, "ACTION_BASE", parserTables
+                .getActionTable().getBase());
+        newParserTable(mTableState, "ACTION_NEXT", parserTables
+                .getActionTable().getNext());
+        newParserTable(mTableState, "ACTION_CHECK", parserTables
+                .getActionTable().getCheck());
+        newParserTable(mTableState, "DECISION_START",
+                parserTables.getDecisionStart());
+        newParserTable(mTableState, "DECISIONS", parserTables.getDecisions());
+        newParserTable(mTableState, "TOKEN_SETS", parserTables.getTokenSets());
+        newParserTable(mTableState, "SHIFT_BASE", parserTables
+                .getShiftTable().getBase());
+        newParserTable(mTableState, "SHIFT_NEXT", parserTables
+                .getShiftTable().getNext());
+        newParserTable(mTableState, "SHIFT_CHECK", parserTables
+                .getShiftTable().getCheck());
+        newParserTable(mTableState, "GOTO_BASE", parserTables.getGotoTable()
+                .getBase());
+        newParserTable(mTableState, "GOTO_NEXT", parserTables.getGotoTable()
+                .getNext());
+        newParserTable(mTableState, "GOTO_CHECK", parserTables.getGotoTable()
+                .getCheck());
+
+        int index = 0;
+        for (OldAlternative alternative : parserTables.getAlternatives()) {
+            MReduction mReduction = mReductions.newReduction("" + index++);
+            newReduce(mReduction.newReduce(alternative.getProduction()
+                    .getName()), alternative, alternativeToCamelFullName);
+        }
+
+        try {
+            BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
+                    packageDirectory, "TableState.java")));
+
+            bw.write(mTableState.toString());
+            bw.close();
+        }
+        catch (IOException e) {
+            throw new InternalException("TODO: raise error "
+                    + "TableState.java", e);
+        }
+
+        try {
+            BufferedWriter bw = new BufferedWriter(new FileWriter(new File(
+                    packageDirectory, "Reductions.java")));
+
+            bw.write(mReductions.toString());
+            bw.close();
+        }
+        catch (IOException e) {
+            throw new InternalException("TODO: raise error "
+                    + "Reductions.java", e);
+        }
+    }
+
+    private void newReduce(
+            MReduce mReduce,
+            OldAlternative alternative,
+            Map<IReferencable, String> alternativeToCamelFullName) {
+
+        OldProduction production = alternative.getProduction();
+
+        String production_CamelCaseName = to_CamelCase(production.getName());
+        String alt_CamelCaseName = to_CamelCase(alternative.getName());
+        String alt_CamelCaseFullName = production_CamelCaseName
+                + (alt_CamelCaseName.equals("") ? "" : "_" + alt_CamelCaseName);
+
+        ArrayList<OldElement> elements = alternative.getElements();
+
+        int elementCount = elements.size();
+
+        if (alt_CamelCaseFullName.equals("$Start")) {
+            mReduce.newListenerAccept();
+        }
+        else {
+            mReduce.newListenerReduce(""
+                    + production.getAlternatives().indexOf(alternative), ""
+                    + elementCount);
+        }
+
+        for (int i = elementCount - 1; i >= 0; i--) {
+
+            OldElement element = elements.get(i);
+            String element_CamelCaseName = to_camelCase(element.getName());
+
+            boolean elementIsEndToken;
+
+            if (element instanceof OldTokenElement) {
+
+                elementIsEndToken = ((OldTokenElement) element).getToken()
+                        .getName().equals("$end");
+            }
+            else {
+                elementIsEndToken = false;
+            }
+
+            if (elementIsEndToken) {
+                mReduce.newReduceEndPop();
+            }
+            else {
+
+                mReduce.newReduceNormalPop(element_CamelCaseName);
+            }
+        }
+
+        if (alt_CamelCaseFullName.equals("$Start")) {
+            mReduce.newAcceptDecision(to_CamelCase(elements.get(0).getName()));
+        }
+        else {
+            MReduceDecision mReduceDecision = mReduce.newReduceDecision();
+
+            SAlternativeTransformation transformation = alternative
+                    .getOrigin().getTransformation();
+
+            for (SAlternativeTransformationElement transformationElement : transformation
+                    .getElements()) {
+
+                transformationElement.apply(new TransformationGeneration(
+                        this.grammar, alternative, mReduceDecision,
+                        alternativeToCamelFullName));
+
+            }
+
+            for (OldElement element : elements) {
+
+                boolean elementIsEndToken;
+                if (element instanceof OldTokenElement) {
+                    OldTokenElement tokenElement = (OldTokenElement) element;
+
+                    if (tokenElement.getToken().getName().equals("$end")) {
+                        elementIsEndToken = true;
+                    }
+                    else {
+                        elementIsEndToken = false;
+                    }
+                }
+                else {
+                    elementIsEndToken = false;
+                }
+                if (elementIsEndToken) {
+                    mReduce.newEndParameter();
+                }
+            }
+        }
+    }
+
+    private static void newLexerTable(
+            MTableLexer mTableLexer,
+            String name,
+            int[] table) {
+
+        MLexerTable mLexerTable = mTableLexer.newLexerTable(name);
+
+        for (String chunk : TablePacker.pack(table)) {
+            mLexerTable.newLexerTableChunk(chunk);
+        }
+    }
+
+    private static void newParserTable(
+            MTableState mTableState,
+            String name,
+            int[] table) {
+
+        MParserTable mParserTable = mTableState.newParserTable(name);
+
+        for (String chunk : TablePacker.pack(table)) {
+            mParserTable.newParserTableChunk(chunk);
+        }
+    }
 }
@@ -0,0 +1,161 @@
+/* This file is part of SableCC ( http://sablecc.org ).
+ *
+ * See the NOTICE file distributed with this work for copyright information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sablecc.sablecc.codegeneration;
+
+import java.util.*;
+
+import org.sablecc.exception.*;
+
+/**
+ * A ContainmentMatrix instance records, for each production of the generated
+ * tree, the node types that can occur in the subtree of one of its nodes, the
+ * node itself included. Rows follow the order of the generated
+ * <code>Node.ProductionType</code> enum, and each row is a bit set over the
+ * ordinals of the generated <code>Node.Type</code> enum.
+ */
+class ContainmentMatrix {
+
+    private final List<String> typeNames = new ArrayList<>();
+
+    private final List<String> productionNames = new ArrayList<>();
+
+    private final Map<String, Set<String>> types = new HashMap<>();
+
+    private final Map<String, Set<String>> references = new HashMap<>();
+
+    /**
+     * Adds a node type. Types must be added in the order of the generated
+     * enum.
+     */
+    void addNodeType(
+            String type) {
+
+        this.typeNames.add(type);
+    }
+
+    /**
+     * Adds a production. Productions must be added in the order of the
+     * generated enum.
+     */
+    void addProduction(
+            String production) {
+
+        this.productionNames.add(production);
+    }
+
+    /**
+     * Records that a node of the provided production can be, or have as a
+     * child, a node of the provided type.
+     */
+    void addType(
+            String production,
+            String type) {
+
+        getSet(this.types, production).add(type);
+    }
+
+    /**
+     * Records that a node of the provided production can have as a child a
+     * node of the referenced production.
+     */
+    void addReference(
+            String production,
+            String referencedProduction) {
+
+        getSet(this.references, production).add(referencedProduction);
+    }
+
+    private static Set<String> getSet(
+            Map<String, Set<String>> map,
+            String production) {
+
+        Set<String> set = map.get(production);
+        if (set == null) {
+            set = new HashSet<String>();
+            map.put(production, set);
+        }
+        return set;
+    }
+
+    List<String> getProductionNames() {
+
+        return this.productionNames;
+    }
+
+    int getWordCount() {
+
+        return Math.max(1, (this.typeNames.size() + 63) / 64);
+    }
+
+    /**
+     * Returns the rows of the matrix, one per production, each made of
+     * <code>getWordCount()</code> words.
+     */
+    long[][] getRows() {
+
+        int productionCount = this.productionNames.size();
+        BitSet[] rows = new BitSet[productionCount];
+        Map<String, Integer> productionIndex = new HashMap<>();
+
+        for (int i = 0; i < productionCount; i++) {
+            String production = this.productionNames.get(i);
+            productionIndex.put(production, i);
+            rows[i] = new BitSet();
+
+            for (String type : getSet(this.types, production)) {
+                int ordinal = this.typeNames.indexOf(type);
+                if (ordinal == -1) {
+                    throw new InternalException("unknown type: " + type);
+                }
+                rows[i].set(ordinal);
+            }
+        }
+
+        // propagate the contents of referenced productions to a fixed point
+        boolean modified = true;
+        while (modified) {
+            modified = false;
+
+            for (int i = 0; i < productionCount; i++) {
+                BitSet row = rows[i];
+                int cardinality = row.cardinality();
+
+                for (String reference : getSet(this.references,
+                        this.productionNames.get(i))) {
+                    Integer index = productionIndex.get(reference);
+                    if (index == null) {
+                        throw new InternalException("unknown production: "
+                                + reference);
+                    }
+                    row.or(rows[index]);
+                }
+
+                if (row.cardinality() != cardinality) {
+                    modified = true;
+                }
+            }
+        }
+
+        long[][] result = new long[productionCount][];
+        for (int i = 0; i < productionCount; i++) {
+            result[i] = Arrays.copyOf(rows[i].toLongArray(), getWordCount());
+        }
+
+        return result;
+    }
+}
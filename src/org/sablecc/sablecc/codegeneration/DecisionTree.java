@@ -0,0 +1,279 @@
+/* This file is part of SableCC ( http://sablecc.org ).
+ *
+ * See the NOTICE file distributed with this work for copyright information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sablecc.sablecc.codegeneration;
+
+import java.util.*;
+
+import org.sablecc.exception.*;
+import org.sablecc.sablecc.oldlrautomaton.*;
+
+/**
+ * A DecisionTree instance selects the action of an LR state from its
+ * lookahead. A leaf holds the selected action. An inner node tests the token
+ * at some distance and leads to a subtree for each set of tokens, and to a
+ * default subtree for the other tokens, when some action does not depend on
+ * that token. When no subtree applies, no action is selected and the parser
+ * shifts.
+ * <p>
+ * The tree selects the same action as testing the conditions of each action
+ * in order, but it looks at each token of the lookahead at most once, and
+ * only when some candidate action depends on it.
+ * <p>
+ * The conditions of an action map each distance to the set of tokens allowed
+ * at that distance. An action without conditions needs no lookahead.
+ */
+class DecisionTree<A, T> {
+
+    private final A action;
+
+    private final int distance;
+
+    private final Map<DecisionTree<A, T>, Set<T>> branches = new LinkedHashMap<>();
+
+    private DecisionTree<A, T> defaultBranch;
+
+    private DecisionTree(
+            A action) {
+
+        this.action = action;
+        this.distance = 0;
+    }
+
+    private DecisionTree(
+            int distance) {
+
+        this.action = null;
+        this.distance = distance;
+    }
+
+    /**
+     * Returns the decision tree of the provided LR actions, which are tested
+     * in order. The tree is a leaf when the first action needs no lookahead.
+     */
+    static DecisionTree<Action, OldToken> build(
+            List<Action> actions) {
+
+        if (actions == null) {
+            throw new InternalException("actions may not be null");
+        }
+
+        Map<Action, Map<Integer, Set<OldToken>>> conditions = new HashMap<>();
+        for (Action action : actions) {
+            Map<Integer, Set<Item>> distanceToItemSetMap = action
+                    .getDistanceToItemSetMap();
+
+            if (distanceToItemSetMap == null) {
+                continue;
+            }
+
+            Map<Integer, Set<OldToken>> actionConditions = new LinkedHashMap<>();
+            for (Map.Entry<Integer, Set<Item>> entry : distanceToItemSetMap
+                    .entrySet()) {
+                Set<OldToken> tokens = new LinkedHashSet<>();
+                for (Item item : entry.getValue()) {
+                    tokens.add(item.getTokenElement().getToken());
+                }
+                actionConditions.put(entry.getKey(), tokens);
+            }
+            conditions.put(action, actionConditions);
+        }
+
+        return build(actions, conditions);
+    }
+
+    /**
+     * Returns the decision tree of the provided actions, which are tested in
+     * order, with the provided conditions. Actions missing from the
+     * conditions need no lookahead.
+     */
+    static <A, T> DecisionTree<A, T> build(
+            List<A> actions,
+            Map<A, Map<Integer, Set<T>>> conditions) {
+
+        if (actions == null) {
+            throw new InternalException("actions may not be null");
+        }
+
+        if (actions.isEmpty()) {
+            throw new InternalException("actions may not be empty");
+        }
+
+        if (conditions == null) {
+            throw new InternalException("conditions may not be null");
+        }
+
+        return build(actions, conditions, 1);
+    }
+
+    private static <A, T> DecisionTree<A, T> build(
+            List<A> candidates,
+            Map<A, Map<Integer, Set<T>>> conditions,
+            int distance) {
+
+        A first = candidates.get(0);
+        if (!dependsOn(conditions.get(first), distance)) {
+            return new DecisionTree<A, T>(first);
+        }
+
+        DecisionTree<A, T> tree = new DecisionTree<A, T>(distance);
+
+        Set<T> tokens = new LinkedHashSet<>();
+        List<A> others = new ArrayList<>();
+        for (A candidate : candidates) {
+            Set<T> candidateTokens = getTokens(conditions, candidate,
+                    distance);
+
+            if (candidateTokens == null) {
+                others.add(candidate);
+                continue;
+            }
+
+            tokens.addAll(candidateTokens);
+        }
+
+        // tokens leading to the same candidates share a subtree
+        Map<List<A>, Set<T>> branches = new LinkedHashMap<>();
+        for (T token : tokens) {
+            List<A> tokenCandidates = new ArrayList<>();
+            for (A candidate : candidates) {
+                Set<T> candidateTokens = getTokens(conditions, candidate,
+                        distance);
+
+                if (candidateTokens == null
+                        || candidateTokens.contains(token)) {
+                    tokenCandidates.add(candidate);
+                }
+            }
+
+            if (tokenCandidates.equals(others)) {
+                continue;
+            }
+
+            Set<T> branchTokens = branches.get(tokenCandidates);
+            if (branchTokens == null) {
+                branchTokens = new LinkedHashSet<>();
+                branches.put(tokenCandidates, branchTokens);
+            }
+            branchTokens.add(token);
+        }
+
+        for (Map.Entry<List<A>, Set<T>> entry : branches.entrySet()) {
+            tree.branches.put(build(entry.getKey(), conditions, distance + 1),
+                    entry.getValue());
+        }
+
+        if (!others.isEmpty()) {
+            tree.defaultBranch = build(others, conditions, distance + 1);
+        }
+
+        return tree;
+    }
+
+    /**
+     * Returns the tokens allowed at the provided distance by the conditions
+     * of the provided action, or <code>null</code> when any token is.
+     */
+    private static <A, T> Set<T> getTokens(
+            Map<A, Map<Integer, Set<T>>> conditions,
+            A action,
+            int distance) {
+
+        Map<Integer, Set<T>> actionConditions = conditions.get(action);
+
+        if (actionConditions == null) {
+            return null;
+        }
+
+        return actionConditions.get(distance);
+    }
+
+    /**
+     * Returns whether the provided conditions test the token at the provided
+     * distance or farther.
+     */
+    private static <T> boolean dependsOn(
+            Map<Integer, Set<T>> actionConditions,
+            int distance) {
+
+        if (actionConditions == null) {
+            return false;
+        }
+
+        for (int conditionDistance : actionConditions.keySet()) {
+            if (conditionDistance >= distance) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    boolean isLeaf() {
+
+        return this.action != null;
+    }
+
+    A getAction() {
+
+        return this.action;
+    }
+
+    int getDistance() {
+
+        return this.distance;
+    }
+
+    /**
+     * Returns the subtrees of this inner node, with the tokens leading to
+     * each of them.
+     */
+    Map<DecisionTree<A, T>, Set<T>> getBranches() {
+
+        return this.branches;
+    }
+
+    /**
+     * Returns the subtree for the tokens that lead to no other subtree, or
+     * <code>null</code> when no action is selected for them.
+     */
+    DecisionTree<A, T> getDefaultBranch() {
+
+        return this.defaultBranch;
+    }
+
+    /**
+     * Adds the actions selected by the leaves of this tree to the provided
+     * set.
+     */
+    void collectActions(
+            Set<A> actions) {
+
+        if (isLeaf()) {
+            actions.add(this.action);
+            return;
+        }
+
+        for (DecisionTree<A, T> branch : this.branches.keySet()) {
+            branch.collectActions(actions);
+        }
+
+        if (this.defaultBranch != null) {
+            this.defaultBranch.collectActions(actions);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/* This file is part of SableCC ( http://sablecc.org ).
+ *
+ * See the NOTICE file distributed with this work for copyright information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sablecc.sablecc.codegeneration;
+
+import java.util.*;
+import java.util.Map.Entry;
+
+import org.sablecc.exception.*;
+
+/**
+ * A DisplacedTable instance stores sparse rows of a two-dimensional integer
+ * table in shared arrays. The value of row <code>r</code> at column
+ * <code>c</code> is <code>next[base[r] + c]</code> when
+ * <code>check[base[r] + c] == r</code>, and is absent otherwise. The arrays
+ * are always long enough for <code>base[r] + c</code> to be a valid index.
+ */
+class DisplacedTable {
+
+    private final int columnCount;
+
+    private final int[] base;
+
+    private int[] next = new int[0];
+
+    private int[] check = new int[0];
+
+    DisplacedTable(
+            int rowCount,
+            int columnCount) {
+
+        if (rowCount < 0 || columnCount < 0) {
+            throw new InternalException("invalid table size");
+        }
+
+        this.columnCount = columnCount;
+        this.base = new int[rowCount];
+        grow(columnCount);
+    }
+
+    /**
+     * Finds the lowest base at which the provided entries do not collide with
+     * the already placed rows, and places them.
+     */
+    void place(
+            int row,
+            SortedMap<Integer, Integer> entries) {
+
+        int base = 0;
+        search: while (true) {
+            for (int column : entries.keySet()) {
+                int index = base + column;
+                if (index < this.check.length && this.check[index] != -1) {
+                    base++;
+                    continue search;
+                }
+            }
+            break;
+        }
+
+        grow(base + this.columnCount);
+
+        for (Entry<Integer, Integer> entry : entries.entrySet()) {
+            int index = base + entry.getKey();
+            this.check[index] = row;
+            this.next[index] = entry.getValue();
+        }
+
+        this.base[row] = base;
+    }
+
+    private void grow(
+            int length) {
+
+        if (length <= this.check.length) {
+            return;
+        }
+
+        int oldLength = this.check.length;
+        this.next = Arrays.copyOf(this.next, length);
+        this.check = Arrays.copyOf(this.check, length);
+        Arrays.fill(this.check, oldLength, length, -1);
+    }
+
+    int[] getBase() {
+
+        return this.base;
+    }
+
+    int[] getNext() {
+
+        return this.next;
+    }
+
+    int[] getCheck() {
+
+        return this.check;
+    }
+}
@@ -0,0 +1,165 @@
+/* This file is part of SableCC ( http://sablecc.org ).
+ *
+ * See the NOTICE file distributed with this work for copyright information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sablecc.sablecc.codegeneration;
+
+import java.util.*;
+
+import org.sablecc.exception.*;
+
+/**
+ * A KeywordTable instance is a perfect hash table over a set of keyword
+ * strings. The slot of a string <code>s</code> is
+ * <code>(s.hashCode() * multiplier) >>> shift</code>, and no two keywords
+ * share a slot, so a lookup needs a single string comparison.
+ */
+class KeywordTable {
+
+    /** The number of multipliers tried for each table size. */
+    private static final int MAX_ATTEMPTS = 4096;
+
+    private final String[] texts;
+
+    private final int multiplier;
+
+    private final int shift;
+
+    KeywordTable(
+            Collection<String> keywords) {
+
+        if (keywords == null) {
+            throw new InternalException("keywords may not be null");
+        }
+
+        if (keywords.isEmpty()) {
+            throw new InternalException("keywords may not be empty");
+        }
+
+        int bits = 1;
+        while (1 << bits < 2 * keywords.size()) {
+            bits++;
+        }
+
+        String[] texts = null;
+        int multiplier = 0;
+
+        search: while (true) {
+            // odd multipliers derived from the golden ratio
+            for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+                multiplier = 0x9E3779B9 + 2 * attempt;
+                texts = place(keywords, multiplier, 32 - bits, bits);
+
+                if (texts != null) {
+                    break search;
+                }
+            }
+
+            bits++;
+        }
+
+        this.texts = texts;
+        this.multiplier = multiplier;
+        this.shift = 32 - bits;
+    }
+
+    /**
+     * Returns the table of keywords indexed by slot, or <code>null</code> when
+     * two keywords collide.
+     */
+    private static String[] place(
+            Collection<String> keywords,
+            int multiplier,
+            int shift,
+            int bits) {
+
+        String[] texts = new String[1 << bits];
+
+        for (String keyword : keywords) {
+            int slot = keyword.hashCode() * multiplier >>> shift;
+
+            if (texts[slot] != null) {
+                return null;
+            }
+
+            texts[slot] = keyword;
+        }
+
+        return texts;
+    }
+
+    /**
+     * Returns the keywords indexed by slot. Empty slots are <code>null</code>.
+     */
+    String[] getTexts() {
+
+        return this.texts;
+    }
+
+    int getMultiplier() {
+
+        return this.multiplier;
+    }
+
+    int getShift() {
+
+        return this.shift;
+    }
+
+    int getSlot(
+            String keyword) {
+
+        int slot = keyword.hashCode() * this.multiplier >>> this.shift;
+
+        if (!keyword.equals(this.texts[slot])) {
+            throw new InternalException("unknown keyword: " + keyword);
+        }
+
+        return slot;
+    }
+
+    /**
+     * Returns the Java string literal of the provided text. Characters outside
+     * printable ASCII are escaped, and octal escapes are used below 128 so
+     * that line terminators never appear in the literal.
+     */
+    static String toLiteral(
+            String text) {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append('"');
+
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+
+            if (c >= ' ' && c < 127 && c != '"' && c != '\\') {
+                sb.append(c);
+            }
+            else if (c < 128) {
+                sb.append('\\');
+                sb.append((char) ('0' + (c >> 6)));
+                sb.append((char) ('0' + (c >> 3 & 7)));
+                sb.append((char) ('0' + (c & 7)));
+            }
+            else {
+                sb.append(String.format("\\u%04x", (int) c));
+            }
+        }
+
+        sb.append('"');
+        return sb.toString();
+    }
+}
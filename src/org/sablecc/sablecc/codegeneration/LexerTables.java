@@ -0,0 +1,261 @@
+/* This file is part of SableCC ( http://sablecc.org ).
+ *
+ * See the NOTICE file distributed with this work for copyright information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sablecc.sablecc.codegeneration;
+
+import java.util.*;
+import java.util.Map.Entry;
+
+import org.sablecc.exception.*;
+import org.sablecc.sablecc.alphabet.*;
+import org.sablecc.sablecc.automaton.*;
+
+/**
+ * A LexerTables instance encodes a deterministic lexer automaton as the flat
+ * arrays used by the table-driven lexer. Transitions are stored in a
+ * row-displaced table: the target of state <code>s</code> on symbol
+ * <code>c</code> is <code>next[base[s] + c]</code> when
+ * <code>check[base[s] + c] == s</code>.
+ */
+class LexerTables {
+
+    private final Automaton automaton;
+
+    private final Map<Symbol, Integer> symbolIndex = new HashMap<>();
+
+    private final int endSymbolIndex;
+
+    private final List<Acceptation> acceptations = new ArrayList<>();
+
+    private final List<Marker> markers = new ArrayList<>();
+
+    private final int[] base;
+
+    private final int[] accept;
+
+    private final int[] backCount;
+
+    private final int[] marker;
+
+    private final int[] acceptMarker;
+
+    private final int[] selfLoop;
+
+    private int[] next;
+
+    private int[] check;
+
+    LexerTables(
+            Automaton automaton) {
+
+        if (automaton == null) {
+            throw new InternalException("automaton may not be null");
+        }
+
+        if (!automaton.isDeterministic()) {
+            throw new InternalException("automaton must be deterministic");
+        }
+
+        this.automaton = automaton;
+
+        int index = 0;
+        for (Symbol symbol : automaton.getAlphabet().getSymbols()) {
+            this.symbolIndex.put(symbol, index++);
+        }
+        this.endSymbolIndex = index;
+
+        this.markers.addAll(automaton.getMarkers());
+
+        int stateCount = automaton.getStates().size();
+        this.base = new int[stateCount];
+        this.accept = new int[stateCount];
+        this.backCount = new int[stateCount];
+        this.marker = new int[stateCount];
+        this.acceptMarker = new int[stateCount];
+        this.selfLoop = new int[stateCount];
+        this.next = new int[0];
+        this.check = new int[0];
+
+        for (State state : automaton.getStates()) {
+            int id = state.getId();
+
+            if (id >= stateCount) {
+                throw new InternalException("state ids must be contiguous");
+            }
+
+            this.marker[id] = indexOf(state.getMarker());
+
+            if (state.isAcceptState()) {
+                Acceptation acceptation = state.getAcceptations().first();
+
+                int acceptationIndex = this.acceptations.indexOf(acceptation);
+                if (acceptationIndex == -1) {
+                    acceptationIndex = this.acceptations.size();
+                    this.acceptations.add(acceptation);
+                }
+
+                this.accept[id] = acceptationIndex;
+                this.backCount[id] = acceptation.getBackCount();
+                this.acceptMarker[id] = indexOf(acceptation.getMarker());
+            }
+            else {
+                this.accept[id] = -1;
+                this.acceptMarker[id] = -1;
+                this.base[id] = place(state);
+            }
+        }
+
+        // make sure that base[s] + c is always a valid index
+        int length = 0;
+        for (int id = 0; id < stateCount; id++) {
+            length = Math.max(length, this.base[id] + this.endSymbolIndex + 1);
+        }
+        grow(length);
+    }
+
+    private int indexOf(
+            Marker marker) {
+
+        return marker == null ? -1 : this.markers.indexOf(marker);
+    }
+
+    /**
+     * Finds the lowest base at which the transitions of the provided state do
+     * not collide with the already placed rows, and places them.
+     */
+    private int place(
+            State state) {
+
+        int id = state.getId();
+        SortedMap<Integer, Integer> row = new TreeMap<>();
+
+        for (Entry<RichSymbol, SortedSet<State>> entry : state.getTransitions()
+                .entrySet()) {
+            RichSymbol richSymbol = entry.getKey();
+            int column = richSymbol == RichSymbol.END ? this.endSymbolIndex
+                    : this.symbolIndex.get(richSymbol.getSymbol());
+
+            State target = state.getSingleTarget(richSymbol);
+            row.put(column, target.getId());
+
+            if (target == state && richSymbol != RichSymbol.END) {
+                this.selfLoop[id] = 1;
+            }
+        }
+
+        int base = 0;
+        search: while (true) {
+            for (int column : row.keySet()) {
+                int index = base + column;
+                if (index < this.check.length && this.check[index] != -1) {
+                    base++;
+                    continue search;
+                }
+            }
+            break;
+        }
+
+        for (Entry<Integer, Integer> entry : row.entrySet()) {
+            int index = base + entry.getKey();
+            grow(index + 1);
+            this.check[index] = id;
+            this.next[index] = entry.getValue();
+        }
+
+        return base;
+    }
+
+    private void grow(
+            int length) {
+
+        if (length <= this.check.length) {
+            return;
+        }
+
+        int oldLength = this.check.length;
+        this.next = Arrays.copyOf(this.next, length);
+        this.check = Arrays.copyOf(this.check, length);
+        Arrays.fill(this.check, oldLength, length, -1);
+    }
+
+    Automaton getAutomaton() {
+
+        return this.automaton;
+    }
+
+    /**
+     * Returns the acceptations of the automaton, in the order of the indices
+     * stored in the accept table.
+     */
+    List<Acceptation> getAcceptations() {
+
+        return this.acceptations;
+    }
+
+    /**
+     * Returns the markers of the automaton, in the order of the indices stored
+     * in the marker tables.
+     */
+    List<Marker> getMarkers() {
+
+        return this.markers;
+    }
+
+    int[] getBase() {
+
+        return this.base;
+    }
+
+    int[] getNext() {
+
+        return this.next;
+    }
+
+    int[] getCheck() {
+
+        return this.check;
+    }
+
+    int[] getAccept() {
+
+        return this.accept;
+    }
+
+    int[] getBackCount() {
+
+        return this.backCount;
+    }
+
+    int[] getMarker() {
+
+        return this.marker;
+    }
+
+    int[] getAcceptMarker() {
+
+        return this.acceptMarker;
+    }
+
+    /**
+     * Returns, for each state, <code>1</code> when the state has a transition
+     * to itself on some symbol, and <code>0</code> otherwise.
+     */
+    int[] getSelfLoop() {
+
+        return this.selfLoop;
+    }
+}
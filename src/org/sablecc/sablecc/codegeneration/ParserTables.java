@@ -0,0 +1,402 @@
+/* This file is part of SableCC ( http://sablecc.org ).
+ *
+ * See the NOTICE file distributed with this work for copyright information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sablecc.sablecc.codegeneration;
+
+import java.util.*;
+import java.util.Map.Entry;
+
+import org.sablecc.exception.*;
+import org.sablecc.sablecc.core.*;
+import org.sablecc.sablecc.oldlrautomaton.*;
+
+/**
+ * A ParserTables instance encodes an LR automaton as the flat arrays used by
+ * the table-driven parser. States are numbered in the order of the
+ * automaton, so the start state is <code>0</code>. An action is either
+ * <code>SHIFT</code> or the index of the reduced alternative.
+ * <p>
+ * Token transitions, production transitions and LR(1) decisions are stored
+ * in row-displaced tables indexed by token type and production type. Each
+ * state has a default action: the only action of an LR(0) state, the most
+ * frequent reduction of an LR(1) state that cannot shift and has an action
+ * for every token, or the shift. Only the LR(1) decisions that differ from
+ * the default are stored. An LR(1) state thus never reduces on an erroneous
+ * token: it takes the default shift, which reports the token.
+ * <p>
+ * The actions of a state that needs more than one token of lookahead are
+ * stored as a decision list, tested in order: the action, the number of
+ * conditions, then the distance and token set offset of each condition, or
+ * <code>-1</code> as offset when no token satisfies the condition. A token
+ * set is stored once as its size followed by its token types.
+ */
+class ParserTables {
+
+    static final int SHIFT = -1;
+
+    private final Grammar grammar;
+
+    private final Map<LexerExpression, Integer> tokenTypes;
+
+    private final int endTokenType;
+
+    private final Map<LRState, Integer> stateIndex = new HashMap<>();
+
+    private final List<OldAlternative> alternatives = new ArrayList<>();
+
+    private final Map<OldAlternative, Integer> alternativeIndex = new HashMap<>();
+
+    private final int[] lookahead;
+
+    private final int[] defaultAction;
+
+    private final int[] decisionStart;
+
+    private final List<Integer> decisions = new ArrayList<>();
+
+    private final List<Integer> tokenSets = new ArrayList<>();
+
+    private final Map<List<Integer>, Integer> tokenSetOffsets = new HashMap<>();
+
+    private final DisplacedTable actionTable;
+
+    private final DisplacedTable shiftTable;
+
+    private final DisplacedTable gotoTable;
+
+    /**
+     * Builds the tables of the provided automaton. Token types are the
+     * indices of the tokens, followed by the end token, and production types
+     * are the indices of the productions, by name.
+     */
+    ParserTables(
+            Grammar grammar,
+            LRAutomaton automaton,
+            Map<LexerExpression, Integer> tokenTypes,
+            Map<String, Integer> productionTypes) {
+
+        if (grammar == null) {
+            throw new InternalException("grammar may not be null");
+        }
+
+        if (automaton == null) {
+            throw new InternalException("automaton may not be null");
+        }
+
+        if (tokenTypes == null) {
+            throw new InternalException("tokenTypes may not be null");
+        }
+
+        if (productionTypes == null) {
+            throw new InternalException("productionTypes may not be null");
+        }
+
+        this.grammar = grammar;
+        this.tokenTypes = tokenTypes;
+        this.endTokenType = tokenTypes.size();
+
+        for (LRState state : automaton.getStates()) {
+            this.stateIndex.put(state, this.stateIndex.size());
+        }
+
+        int stateCount = this.stateIndex.size();
+        this.lookahead = new int[stateCount];
+        this.defaultAction = new int[stateCount];
+        this.decisionStart = new int[stateCount + 1];
+        this.actionTable = new DisplacedTable(stateCount,
+                this.endTokenType + 1);
+        this.shiftTable = new DisplacedTable(stateCount,
+                this.endTokenType + 1);
+        this.gotoTable = new DisplacedTable(stateCount,
+                productionTypes.size());
+
+        for (LRState state : automaton.getStates()) {
+            int id = this.stateIndex.get(state);
+
+            SortedMap<Integer, Integer> shifts = new TreeMap<>();
+            for (Entry<OldToken, LRState> entry : state.getTokenTransitions()
+                    .entrySet()) {
+                shifts.put(getTokenType(entry.getKey()),
+                        this.stateIndex.get(entry.getValue()));
+            }
+            this.shiftTable.place(id, shifts);
+
+            SortedMap<Integer, Integer> gotos = new TreeMap<>();
+            for (Entry<OldProduction, LRState> entry : state
+                    .getProductionTransitions().entrySet()) {
+                Integer productionType = productionTypes.get(entry.getKey()
+                        .getName());
+
+                if (productionType == null) {
+                    throw new InternalException("unknown production: "
+                            + entry.getKey().getName());
+                }
+
+                gotos.put(productionType, this.stateIndex.get(entry
+                        .getValue()));
+            }
+            this.gotoTable.place(id, gotos);
+
+            this.decisionStart[id] = this.decisions.size();
+            encodeActions(id, state);
+        }
+
+        this.decisionStart[stateCount] = this.decisions.size();
+    }
+
+    private void encodeActions(
+            int id,
+            LRState state) {
+
+        // actions are tested by increasing lookahead, as in the generated
+        // state classes
+        List<Action> actions = new ArrayList<>(state.getActions());
+        Collections.sort(actions, new Comparator<Action>() {
+
+            @Override
+            public int compare(
+                    Action action1,
+                    Action action2) {
+
+                return Integer.compare(action1.getMaxLookahead(),
+                        action2.getMaxLookahead());
+            }
+        });
+
+        this.defaultAction[id] = SHIFT;
+
+        if (actions.isEmpty()) {
+            return;
+        }
+
+        Action first = actions.get(0);
+        if (first.getMaxLookahead() == 0) {
+            this.defaultAction[id] = encode(first);
+            return;
+        }
+
+        int maxLookahead = actions.get(actions.size() - 1).getMaxLookahead();
+        this.lookahead[id] = maxLookahead;
+
+        if (maxLookahead > 1) {
+            for (Action action : actions) {
+                Map<Integer, Set<Item>> distanceToItemSetMap = action
+                        .getDistanceToItemSetMap();
+
+                this.decisions.add(encode(action));
+                this.decisions.add(distanceToItemSetMap.size());
+
+                for (Entry<Integer, Set<Item>> entry : distanceToItemSetMap
+                        .entrySet()) {
+                    this.decisions.add(entry.getKey());
+                    this.decisions.add(getTokenSet(entry.getValue()));
+                }
+            }
+
+            return;
+        }
+
+        SortedMap<Integer, Integer> row = new TreeMap<>();
+        for (Action action : actions) {
+            Set<Item> items = action.getDistanceToItemSetMap().get(1);
+            if (items == null) {
+                continue;
+            }
+
+            int encodedAction = encode(action);
+            for (Item item : items) {
+                int tokenType = getTokenType(item.getTokenElement().getToken());
+                if (!row.containsKey(tokenType)) {
+                    row.put(tokenType, encodedAction);
+                }
+            }
+        }
+
+        // a default reduction would also be taken on erroneous tokens,
+        // which would only be reported after reductions and their events
+        if (state.getTokenTransitions().isEmpty()
+                && row.size() == this.endTokenType + 1) {
+            this.defaultAction[id] = getMostFrequent(row.values());
+        }
+
+        for (Iterator<Integer> i = row.values().iterator(); i.hasNext();) {
+            if (i.next() == this.defaultAction[id]) {
+                i.remove();
+            }
+        }
+
+        this.actionTable.place(id, row);
+    }
+
+    private int encode(
+            Action action) {
+
+        if (action.getType() == ActionType.SHIFT) {
+            return SHIFT;
+        }
+
+        OldAlternative alternative = ((ReduceAction) action).getAlternative();
+        Integer index = this.alternativeIndex.get(alternative);
+
+        if (index == null) {
+            index = this.alternatives.size();
+            this.alternatives.add(alternative);
+            this.alternativeIndex.put(alternative, index);
+        }
+
+        return index;
+    }
+
+    private int getTokenType(
+            OldToken token) {
+
+        if (token.getName().equals("$end")) {
+            return this.endTokenType;
+        }
+
+        Integer tokenType = this.tokenTypes.get(this.grammar
+                .getLexerExpression(token.getName()));
+
+        if (tokenType == null) {
+            throw new InternalException("unknown token: " + token.getName());
+        }
+
+        return tokenType;
+    }
+
+    /**
+     * Returns the offset of the set of tokens expected by the provided items,
+     * or <code>-1</code> when the set is empty.
+     */
+    private int getTokenSet(
+            Set<Item> items) {
+
+        SortedSet<Integer> tokenTypes = new TreeSet<>();
+        for (Item item : items) {
+            tokenTypes.add(getTokenType(item.getTokenElement().getToken()));
+        }
+
+        if (tokenTypes.isEmpty()) {
+            return -1;
+        }
+
+        List<Integer> tokenSet = new ArrayList<>(tokenTypes);
+        Integer offset = this.tokenSetOffsets.get(tokenSet);
+
+        if (offset == null) {
+            offset = this.tokenSets.size();
+            this.tokenSetOffsets.put(tokenSet, offset);
+            this.tokenSets.add(tokenSet.size());
+            this.tokenSets.addAll(tokenSet);
+        }
+
+        return offset;
+    }
+
+    private static int getMostFrequent(
+            Collection<Integer> values) {
+
+        Map<Integer, Integer> counts = new HashMap<>();
+        int mostFrequent = SHIFT;
+        int maxCount = 0;
+
+        for (int value : values) {
+            Integer count = counts.get(value);
+            count = count == null ? 1 : count + 1;
+            counts.put(value, count);
+
+            if (count > maxCount) {
+                mostFrequent = value;
+                maxCount = count;
+            }
+        }
+
+        return mostFrequent;
+    }
+
+    private static int[] toArray(
+            List<Integer> list) {
+
+        int[] array = new int[list.size()];
+        for (int i = 0; i < array.length; i++) {
+            array[i] = list.get(i);
+        }
+        return array;
+    }
+
+    int getStateCount() {
+
+        return this.stateIndex.size();
+    }
+
+    /**
+     * Returns the reduced alternatives, in the order of the indices stored in
+     * the action tables.
+     */
+    List<OldAlternative> getAlternatives() {
+
+        return this.alternatives;
+    }
+
+    /**
+     * Returns, for each state, the number of tokens of lookahead needed by
+     * its decision.
+     */
+    int[] getLookahead() {
+
+        return this.lookahead;
+    }
+
+    int[] getDefaultAction() {
+
+        return this.defaultAction;
+    }
+
+    /**
+     * Returns, for each state, the offset of its decision list, followed by
+     * the length of all decision lists.
+     */
+    int[] getDecisionStart() {
+
+        return this.decisionStart;
+    }
+
+    int[] getDecisions() {
+
+        return toArray(this.decisions);
+    }
+
+    int[] getTokenSets() {
+
+        return toArray(this.tokenSets);
+    }
+
+    DisplacedTable getActionTable() {
+
+        return this.actionTable;
+    }
+
+    DisplacedTable getShiftTable() {
+
+        return this.shiftTable;
+    }
+
+    DisplacedTable getGotoTable() {
+
+        return this.gotoTable;
+    }
+}
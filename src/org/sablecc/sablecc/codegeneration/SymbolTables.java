@@ -0,0 +1,152 @@
+/* This file is part of SableCC ( http://sablecc.org ).
+ *
+ * See the NOTICE file distributed with this work for copyright information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sablecc.sablecc.codegeneration;
+
+import java.math.*;
+import java.util.*;
+
+import org.sablecc.exception.*;
+import org.sablecc.sablecc.alphabet.*;
+
+/**
+ * A SymbolTables instance maps each character of the Basic Multilingual Plane
+ * to the index of its symbol in an alphabet, or to <code>-1</code> when no
+ * symbol contains it. The mapping is stored as a two-level page table: the
+ * symbol index of <code>c</code> is <code>blocks[pages[c >> 8] + (c &amp;
+ * 0xFF)]</code>. Identical pages share a single block, and the first block
+ * always holds the Latin-1 page, so that it doubles as a direct table for the
+ * most common characters.
+ */
+class SymbolTables {
+
+    private static final int PAGE_SIZE = 256;
+
+    private static final int PAGE_COUNT = (Character.MAX_VALUE + 1)
+            / PAGE_SIZE;
+
+    private final int[] pages = new int[PAGE_COUNT];
+
+    private final int[] blocks;
+
+    private final Map<Symbol, Integer> symbolIndex = new HashMap<>();
+
+    SymbolTables(
+            Alphabet alphabet) {
+
+        if (alphabet == null) {
+            throw new InternalException("alphabet may not be null");
+        }
+
+        int index = 0;
+        for (Symbol symbol : alphabet.getSymbols()) {
+            this.symbolIndex.put(symbol, index++);
+        }
+
+        int[] flat = new int[Character.MAX_VALUE + 1];
+        Arrays.fill(flat, -1);
+
+        for (Map.Entry<Interval, Symbol> entry : alphabet
+                .getIntervalToSymbolMap().entrySet()) {
+            Interval interval = entry.getKey();
+            int lower = valueOf(interval.getLowerBound());
+            int upper = valueOf(interval.getUpperBound());
+
+            // characters beyond the Basic Multilingual Plane are not
+            // represented by a single char
+            if (lower > Character.MAX_VALUE) {
+                continue;
+            }
+
+            upper = Math.min(upper, Character.MAX_VALUE);
+            Arrays.fill(flat, lower, upper + 1,
+                    this.symbolIndex.get(entry.getValue()));
+        }
+
+        Map<List<Integer>, Integer> blockOffsets = new HashMap<>();
+        List<Integer> blockList = new ArrayList<>();
+
+        for (int page = 0; page < PAGE_COUNT; page++) {
+            List<Integer> block = new ArrayList<>(PAGE_SIZE);
+            for (int i = 0; i < PAGE_SIZE; i++) {
+                block.add(flat[page * PAGE_SIZE + i]);
+            }
+
+            Integer offset = blockOffsets.get(block);
+            if (offset == null) {
+                offset = blockList.size();
+                blockOffsets.put(block, offset);
+                blockList.addAll(block);
+            }
+
+            this.pages[page] = offset;
+        }
+
+        this.blocks = new int[blockList.size()];
+        for (int i = 0; i < this.blocks.length; i++) {
+            this.blocks[i] = blockList.get(i);
+        }
+    }
+
+    /**
+     * Returns the value of the provided bound. Open bounds are replaced by the
+     * smallest or largest character, and values beyond the Basic Multilingual
+     * Plane are all reported as <code>Character.MAX_VALUE + 1</code>.
+     */
+    private static int valueOf(
+            Bound bound) {
+
+        if (bound == Bound.MIN) {
+            return 0;
+        }
+
+        if (bound == Bound.MAX) {
+            return Character.MAX_VALUE;
+        }
+
+        BigInteger value = bound.getValue();
+        if (value.compareTo(BigInteger.valueOf(Character.MAX_VALUE)) > 0) {
+            return Character.MAX_VALUE + 1;
+        }
+
+        return value.intValue();
+    }
+
+    /**
+     * Returns the index of the provided symbol, as stored in the tables.
+     */
+    int getSymbolIndex(
+            Symbol symbol) {
+
+        return this.symbolIndex.get(symbol);
+    }
+
+    int getSymbolCount() {
+
+        return this.symbolIndex.size();
+    }
+
+    int[] getPages() {
+
+        return this.pages;
+    }
+
+    int[] getBlocks() {
+
+        return this.blocks;
+    }
+}
@@ -0,0 +1,85 @@
+/* This file is part of SableCC ( http://sablecc.org ).
+ *
+ * See the NOTICE file distributed with this work for copyright information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sablecc.sablecc.codegeneration;
+
+import java.util.*;
+
+import org.sablecc.exception.*;
+
+/**
+ * The TablePacker class encodes integer tables as Java string literal
+ * contents. Each value <code>v</code> is stored as the character
+ * <code>v + 1</code>, so <code>-1</code> is allowed. Tables are split in
+ * chunks to stay within the class file limit on constant strings. The
+ * generated <code>Tables.unpack</code> method reverses the encoding.
+ */
+class TablePacker {
+
+    /**
+     * The number of characters per chunk. Each character takes at most three
+     * bytes in the constant pool, which limits a constant string to 65535
+     * bytes.
+     */
+    private static final int CHUNK_SIZE = 16384;
+
+    private TablePacker() {
+
+        throw new InternalException("no instance allowed");
+    }
+
+    /**
+     * Returns the escaped string literal contents encoding the provided table.
+     */
+    static List<String> pack(
+            int[] table) {
+
+        List<String> chunks = new LinkedList<>();
+        StringBuilder sb = new StringBuilder();
+
+        for (int i = 0; i < table.length; i++) {
+            int value = table[i] + 1;
+
+            if (value < 0 || value > Character.MAX_VALUE) {
+                throw new InternalException(
+                        "table value out of range: " + table[i]);
+            }
+
+            if (value < 128) {
+                // octal escapes are safe for line terminators and quotes
+                sb.append('\\');
+                sb.append((char) ('0' + (value >> 6)));
+                sb.append((char) ('0' + (value >> 3 & 7)));
+                sb.append((char) ('0' + (value & 7)));
+            }
+            else {
+                sb.append(String.format("\\u%04x", value));
+            }
+
+            if ((i + 1) % CHUNK_SIZE == 0) {
+                chunks.add(sb.toString());
+                sb.setLength(0);
+            }
+        }
+
+        if (sb.length() > 0 || chunks.isEmpty()) {
+            chunks.add(sb.toString());
+        }
+
+        return chunks;
+    }
+}
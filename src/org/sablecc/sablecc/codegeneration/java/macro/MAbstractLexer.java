@@ -0,0 +1,901 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MAbstractLexer {
+
+    private final String pLazyPositions;
+
+    private final MAbstractLexer mAbstractLexer = this;
+
+    private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
+
+    public MAbstractLexer(
+            String pLazyPositions) {
+
+        if (pLazyPositions == null) {
+            throw new NullPointerException();
+        }
+        this.pLazyPositions = pLazyPositions;
+    }
+
+    public MDefaultPackage newDefaultPackage(
+            String pLanguageName) {
+
+        MDefaultPackage lDefaultPackage = new MDefaultPackage(pLanguageName);
+        this.eDefaultPackage_SpecifiedPackage.add(lDefaultPackage);
+        return lDefaultPackage;
+    }
+
+    public MSpecifiedPackage newSpecifiedPackage(
+            String pLanguageName,
+            String pPackage) {
+
+        MSpecifiedPackage lSpecifiedPackage = new MSpecifiedPackage(
+                pLanguageName, pPackage);
+        this.eDefaultPackage_SpecifiedPackage.add(lSpecifiedPackage);
+        return lSpecifiedPackage;
+    }
+
+    String pLazyPositions() {
+
+        return this.pLazyPositions;
+    }
+
+    private String rLazyPositions() {
+
+        return this.mAbstractLexer.pLazyPositions();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(new MHeader().toString());
+        if (this.eDefaultPackage_SpecifiedPackage.size() > 0) {
+            sb.append(System.getProperty("line.separator"));
+        }
+        for (Object oDefaultPackage_SpecifiedPackage : this.eDefaultPackage_SpecifiedPackage) {
+            sb.append(oDefaultPackage_SpecifiedPackage.toString());
+        }
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.io.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.nio.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// The buffer, position and acceptance bookkeeping shared by the lexers. A");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// lexer only provides the transition step, which scans the next token and");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// then accepts or skips it.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("abstract class AbstractLexer {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  static final int SKIPPED = -1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  static final int NO_TOKEN = -2;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // In lazy positions mode, the lexer indexes the line starts of the input");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // instead of following the line and position of each token, and tokens");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // find their position in the index when it is asked for.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  static final boolean LAZY_POSITIONS = ");
+        sb.append(rLazyPositions());
+        sb.append(";");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final int INITIAL_BUFFER_SIZE = 4096;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  Reader reader;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  char[] buffer = new char[INITIAL_BUFFER_SIZE];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  long bufferPosition;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  int start;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  int scan;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  int limit;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  boolean eof;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int line = 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int pos = 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private boolean last_is_cr;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int acceptLine;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int acceptPos;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  boolean scan_reached_eof;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final boolean sharedText;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  int acceptOffset;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  int acceptLength;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private LineIndex lineIndex;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private boolean indexLines;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private long skippedTokenCount;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private long skippedCharCount;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  boolean inputNeeded;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private long reach;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private TextPool textPool;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  AbstractLexer(Reader reader, boolean sharedText) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.reader = reader;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.sharedText = sharedText;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(LAZY_POSITIONS) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.lineIndex = new LineIndex();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.indexLines = true;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Lexes the input that follows the provided offset, using the positions");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // of an index of the whole input that is built separately.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  AbstractLexer(Reader reader, long offset, LineIndex lineIndex) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.reader = reader;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.sharedText = false;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.bufferPosition = offset;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(LAZY_POSITIONS) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.lineIndex = lineIndex;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    else {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.line = lineIndex.getLine(offset);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.pos = lineIndex.getPos(offset);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Lexes the input that follows the provided offset, which is at the");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // provided position, after tokens whose lexing read up to the provided");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // reach.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  AbstractLexer(Reader reader, long offset, int line, int pos, long reach) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.reader = reader;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.sharedText = false;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.bufferPosition = offset;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.reach = reach;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(LAZY_POSITIONS) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      // the index starts at the line of the offset");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.lineIndex = new LineIndex(line, offset - pos + 1);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.indexLines = true;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    else {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.line = line;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.pos = pos;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public long getSkippedTokenCount() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.skippedTokenCount;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public long getSkippedCharCount() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.skippedCharCount;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public TextPool getTextPool() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.textPool;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Makes the tokens whose text is not fixed share the texts of the pool.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // It has no effect on shared text tokens.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public void setTextPool(TextPool textPool) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.textPool = textPool;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Restarts lexing on the provided reader. The settings and the buffers");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // of the lexer are kept, so that many small inputs can be lexed by the");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // same lexer.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public void reset(Reader reader) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.reader = reader;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    clear();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Restarts lexing on the provided text, which is copied to the buffer of");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // the lexer.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public void reset(CharSequence text) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.reader = null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    clear();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int length = text.length();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.buffer.length < length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.buffer = new char[length];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(text instanceof String) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      ((String) text).getChars(0, length, this.buffer, 0);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    else {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      for(int i = 0; i < length; i++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        this.buffer[i] = text.charAt(i);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    fed(length);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.eof = true;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Lexers that keep scan state of their own clear it here too.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  void clear() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.sharedText) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      // the tokens of the previous input may refer to the buffer");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.buffer = new char[INITIAL_BUFFER_SIZE];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.bufferPosition = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.start = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.scan = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.limit = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.eof = false;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.line = 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.pos = 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.last_is_cr = false;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.scan_reached_eof = false;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(LAZY_POSITIONS) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.lineIndex = new LineIndex();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.indexLines = true;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.skippedTokenCount = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.skippedCharCount = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.inputNeeded = false;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.reach = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // In push mode, returns null when the fed characters do not determine");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // the next token yet. Lexing resumes where it stopped once more input is");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // fed.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public Token next()");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws LexerException, IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    Token token;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    do {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      token = internalNext();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    } while (token == null && !this.inputNeeded);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return token;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public void feed(char[] chars, int offset, int length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    checkFeed();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.buffer.length - this.limit < length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      reserve(length);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    System.arraycopy(chars, offset, this.buffer, this.limit, length);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    fed(length);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public void feed(CharBuffer chars) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    checkFeed();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int length = chars.remaining();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.buffer.length - this.limit < length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      reserve(length);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    chars.get(this.buffer, this.limit, length);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    fed(length);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public void endOfInput() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    checkFeed();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.eof = true;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private void checkFeed() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.reader != null) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throw new IllegalStateException(\"not a push lexer\");");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.eof) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throw new IllegalStateException(\"input already ended\");");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private void fed(int length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.indexLines) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.lineIndex.scan(this.buffer, this.limit, length, this.bufferPosition + this.limit);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.limit += length;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Returns the next token, the end of input once it is reached, or null");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // for an ignored token or when more input is needed.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  abstract Token internalNext()");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws LexerException, IOException;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Returns the Token.InternalType ordinal of the next token, SKIPPED for an");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // ignored token, or NO_TOKEN at the end of input or when more input is");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // needed.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  abstract int nextTokenType()");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws LexerException, IOException;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Lexes the remaining input into the provided buffer without creating");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // tokens or strings. Ignored tokens are left out, and so is the end of");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // input. In push mode, returns when more input is needed. Fails with an");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // IllegalStateException at the first token past the int offsets of the");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // buffer; the tokens before it are kept.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public void tokenize(TokenBuffer tokens)");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws LexerException, IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    while(true) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      int type = nextTokenType();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(type == NO_TOKEN) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        return;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(type != SKIPPED) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        tokens.add(type, this.bufferPosition + this.acceptOffset, this.acceptLength);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Accepts the end of input, which is empty, and returns its token.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  Token newEnd() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(!LAZY_POSITIONS) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.acceptLine = this.line;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.acceptPos = this.pos;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.acceptOffset = this.start;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.acceptLength = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return new End(this);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Reports the character that starts the token being scanned.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  LexerException unexpectedCharacter() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return new LexerException(this.buffer[this.start], currentLine(), currentPos());");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Makes room for the provided number of characters after the limit,");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // dropping the characters that precede the current token.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private void reserve(int count) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int length = this.limit - this.start;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    char[] newBuffer = this.buffer;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.sharedText) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      // tokens may refer to the current buffer, so it is never overwritten");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      newBuffer = new char[Math.max(INITIAL_BUFFER_SIZE, (length + count) * 2)];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    else if(length + count > this.buffer.length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      newBuffer = new char[Math.max(this.buffer.length * 2, length + count)];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    System.arraycopy(this.buffer, this.start, newBuffer, 0, length);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.buffer = newBuffer;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.bufferPosition += this.start;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.scan -= this.start;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.start = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.limit = length;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  void fill()");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.limit == this.buffer.length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      reserve(1);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int count;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    do {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      count = this.reader.read(this.buffer, this.limit, this.buffer.length - this.limit);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    } while (count == 0);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(count == -1) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.eof = true;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.reader.close();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    else {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(this.indexLines) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        this.lineIndex.scan(this.buffer, this.limit, count, this.bufferPosition + this.limit);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.limit += count;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  long getNextOffset() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.bufferPosition + this.start;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  long getReach() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.reach;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Returns the index of the line starts of the input, in lazy positions");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // mode.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  LineIndex getLineIndex() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.lineIndex;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  int getAcceptLine() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.acceptLine;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  int getAcceptPos() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.acceptPos;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Returns the text of the accepted token: a slice of the buffer for shared");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // text tokens, or else a string, which comes from the text pool if there");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // is one.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  CharSequence getAcceptText() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.sharedText) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return new TextSlice(this.buffer, this.acceptOffset, this.acceptLength);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.textPool != null) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return this.textPool.get(this.buffer, this.acceptOffset, this.acceptLength);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return new String(this.buffer, this.acceptOffset, this.acceptLength);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  char[] getAcceptBuffer() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.buffer;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  int getAcceptOffset() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.acceptOffset;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  int getAcceptLength() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.acceptLength;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  long getAcceptInputOffset() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.bufferPosition + this.acceptOffset;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int currentLine() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(LAZY_POSITIONS) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return this.lineIndex.getLine(this.bufferPosition + this.start);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.line;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int currentPos() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(LAZY_POSITIONS) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return this.lineIndex.getPos(this.bufferPosition + this.start);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.pos;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private void updateLinePos(int length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.last_is_cr && this.start < this.limit) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(this.buffer[this.start] != 10) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        this.last_is_cr = false;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        this.line++;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        this.pos = 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.acceptLine = this.line;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.acceptPos = this.pos;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int end = this.start + length;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(int i = this.start; i < end; i++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      char c = this.buffer[i];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(c == 10) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        this.line++;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        this.pos = 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      else {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        if(last_is_cr) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          this.line++;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          this.pos = 2;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        else {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          this.pos++;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.last_is_cr = c == 13;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Records how far the scan of the current token read. Reading the end of");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // input counts as reading one more character.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private void updateReach() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    long end = this.bufferPosition + this.scan;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.eof && this.scan == this.limit) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      end++;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(end > this.reach) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.reach = end;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  void accept(int length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    updateReach();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(!LAZY_POSITIONS) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      updateLinePos(length);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.acceptOffset = this.start;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.acceptLength = length;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.start += length;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Ignored tokens only need the position bookkeeping.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  void skip(int length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    updateReach();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(!LAZY_POSITIONS) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      updateLinePos(length);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.start += length;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.skippedTokenCount++;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.skippedCharCount += length;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  int lengthWithBackCount(int backCount) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.scan_reached_eof) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.scan_reached_eof = false;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      backCount--;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.scan - this.start - backCount;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("}");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
@@ -31,9 +31,9 @@ public class MAcceptDecision {
     public String toString() {
 
         StringBuilder sb = new StringBuilder();
-        sb.append("      return l");
+        sb.append("      return stack.get(l");
         sb.append(rElementName());
-        sb.append(".getNodes().get(0);");
+        sb.append(");");
         sb.append(System.getProperty("line.separator"));
         return sb.toString();
     }
@@ -0,0 +1,49 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MAcceptKeywordToken {
+
+    private final String pTokenName;
+
+    private final MAcceptKeywordToken mAcceptKeywordToken = this;
+
+    MAcceptKeywordToken(
+            String pTokenName) {
+
+        if (pTokenName == null) {
+            throw new NullPointerException();
+        }
+        this.pTokenName = pTokenName;
+    }
+
+    String pTokenName() {
+
+        return this.pTokenName;
+    }
+
+    private String rTokenName() {
+
+        return this.mAcceptKeywordToken.pTokenName();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("    int keyword = Keywords.find(lexer.getAcceptBuffer(), lexer.getAcceptOffset(), lexer.getAcceptLength());");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(keyword != -1) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return Keywords.newToken(keyword, lexer);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return new N");
+        sb.append(rTokenName());
+        sb.append("(lexer);");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
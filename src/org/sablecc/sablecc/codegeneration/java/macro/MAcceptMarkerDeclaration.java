@@ -31,29 +31,28 @@ public class MAcceptMarkerDeclaration {
     public String toString() {
 
         StringBuilder sb = new StringBuilder();
-        sb.append("  String acceptWithMarker");
+        sb.append("  void acceptWithMarker");
         sb.append(rName());
         sb.append("(int backCount) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    if(this.sb_contains_eof) {");
+        sb.append("    this.scan_reached_eof = false;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      this.sb_contains_eof = false;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("    String text = this.sb.toString().substring(0, this.marker");
+        sb.append("    accept(this.marker");
         sb.append(rName());
         sb.append(" - backCount);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    String leftover = this.sb.toString().substring(this.marker");
-        sb.append(rName());
-        sb.append(" - backCount, this.sb.length());");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    this.buffer.insert(0, leftover);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    updateLinePos(text);");
+        sb.append("  void skipWithMarker");
+        sb.append(rName());
+        sb.append("(int backCount) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.scan_reached_eof = false;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    return text;");
+        sb.append("    skip(this.marker");
+        sb.append(rName());
+        sb.append(" - backCount);");
         sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
@@ -33,7 +33,7 @@ public class MAcceptNormalToken {
         StringBuilder sb = new StringBuilder();
         sb.append("    return new N");
         sb.append(rTokenName());
-        sb.append("(text, line, pos);");
+        sb.append("(lexer);");
         sb.append(System.getProperty("line.separator"));
         return sb.toString();
     }
@@ -24,7 +24,7 @@ public class MAcceptTokenNoMarker {
     public String toString() {
 
         StringBuilder sb = new StringBuilder();
-        sb.append("    String text = lexer.accept(");
+        sb.append("    lexer.acceptWithBackCount(");
         sb.append(rBackCount());
         sb.append(");");
         sb.append(System.getProperty("line.separator"));
@@ -43,7 +43,7 @@ public class MAcceptTokenWithMarker {
     public String toString() {
 
         StringBuilder sb = new StringBuilder();
-        sb.append("    String text = lexer.acceptWithMarker");
+        sb.append("    lexer.acceptWithMarker");
         sb.append(rMarkerName());
         sb.append("(");
         sb.append(rBackCount());
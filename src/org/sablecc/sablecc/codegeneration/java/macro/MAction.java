@@ -6,42 +6,25 @@ import java.util.*;
 
 public class MAction {
 
-    private final List<Object> eNormalGroup_FalseGroup = new LinkedList<Object>();
+    private final String pIndex;
 
-    private final List<Object> eNormalCondition = new LinkedList<Object>();
+    private final MAction mAction = this;
 
-    private final List<Object> eEndCondition = new LinkedList<Object>();
+    private final List<Object> eShift_Reduce = new LinkedList<Object>();
 
-    private final List<Object> eShift = new LinkedList<Object>();
+    MAction(
+            String pIndex) {
 
-    private final List<Object> eReduce = new LinkedList<Object>();
-
-    MAction() {
-
-    }
-
-    public MNormalCondition newNormalCondition(
-            String pAhead,
-            String pTokenType) {
-
-        MNormalCondition lNormalCondition = new MNormalCondition(pAhead,
-                pTokenType);
-        this.eNormalCondition.add(lNormalCondition);
-        return lNormalCondition;
-    }
-
-    public MEndCondition newEndCondition(
-            String pAhead) {
-
-        MEndCondition lEndCondition = new MEndCondition(pAhead);
-        this.eEndCondition.add(lEndCondition);
-        return lEndCondition;
+        if (pIndex == null) {
+            throw new NullPointerException();
+        }
+        this.pIndex = pIndex;
     }
 
     public MShift newShift() {
 
         MShift lShift = new MShift();
-        this.eShift.add(lShift);
+        this.eShift_Reduce.add(lShift);
         return lShift;
     }
 
@@ -49,60 +32,30 @@ public class MAction {
             String pReducedProduction) {
 
         MReduce lReduce = new MReduce(pReducedProduction);
-        this.eReduce.add(lReduce);
+        this.eShift_Reduce.add(lReduce);
         return lReduce;
     }
 
-    public MNormalGroup newNormalGroup() {
+    String pIndex() {
 
-        MNormalGroup lNormalGroup = new MNormalGroup();
-        this.eNormalGroup_FalseGroup.add(lNormalGroup);
-        return lNormalGroup;
+        return this.pIndex;
     }
 
-    public MFalseGroup newFalseGroup() {
+    private String rIndex() {
 
-        MFalseGroup lFalseGroup = new MFalseGroup();
-        this.eNormalGroup_FalseGroup.add(lFalseGroup);
-        return lFalseGroup;
+        return this.mAction.pIndex();
     }
 
     @Override
     public String toString() {
 
         StringBuilder sb = new StringBuilder();
-        sb.append("    ");
-        if (this.eNormalGroup_FalseGroup.size() > 0) {
-            sb.append("if (");
-        }
-        {
-            boolean first = true;
-            for (Object oNormalGroup_FalseGroup : this.eNormalGroup_FalseGroup) {
-                if (first) {
-                    first = false;
-                }
-                else {
-                    sb.append(" && ");
-                }
-                sb.append(oNormalGroup_FalseGroup.toString());
-            }
-        }
-        if (this.eNormalGroup_FalseGroup.size() > 0) {
-            sb.append(") ");
-        }
-        sb.append("{");
+        sb.append("    case ");
+        sb.append(rIndex());
+        sb.append(": {");
         sb.append(System.getProperty("line.separator"));
-        for (Object oNormalCondition : this.eNormalCondition) {
-            sb.append(oNormalCondition.toString());
-        }
-        for (Object oEndCondition : this.eEndCondition) {
-            sb.append(oEndCondition.toString());
-        }
-        for (Object oShift : this.eShift) {
-            sb.append(oShift.toString());
-        }
-        for (Object oReduce : this.eReduce) {
-            sb.append(oReduce.toString());
+        for (Object oShift_Reduce : this.eShift_Reduce) {
+            sb.append(oShift_Reduce.toString());
         }
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
@@ -31,7 +31,7 @@ public class MAddLToForest {
     public String toString() {
 
         StringBuilder sb = new StringBuilder();
-        sb.append("      trees.add(l");
+        sb.append("      stack.add(l");
         sb.append(rElementName());
         sb.append(");");
         sb.append(System.getProperty("line.separator"));
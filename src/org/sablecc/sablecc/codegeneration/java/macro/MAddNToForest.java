@@ -31,7 +31,7 @@ public class MAddNToForest {
     public String toString() {
 
         StringBuilder sb = new StringBuilder();
-        sb.append("      trees.add(n");
+        sb.append("      stack.add(n");
         sb.append(rElementName());
         sb.append(");");
         sb.append(System.getProperty("line.separator"));
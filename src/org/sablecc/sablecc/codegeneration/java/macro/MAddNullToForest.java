@@ -12,7 +12,7 @@ public class MAddNullToForest {
     public String toString() {
 
         StringBuilder sb = new StringBuilder();
-        sb.append("      trees.add(null);");
+        sb.append("      stack.add(null);");
         sb.append(System.getProperty("line.separator"));
         return sb.toString();
     }
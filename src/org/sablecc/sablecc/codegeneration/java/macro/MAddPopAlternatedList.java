@@ -123,9 +123,9 @@ public class MAddPopAlternatedList {
         sb.append(rLeftType());
         sb.append(",N");
         sb.append(rRightType());
-        sb.append(">)l");
+        sb.append(">)stack.get(l");
         sb.append(rElementName());
-        sb.append(".getNodes().get(");
+        sb.append(" + ");
         sb.append(rIndex());
         sb.append("))");
         for (Object oGetLeft_GetRight : this.eGetLeft_GetRight) {
@@ -86,9 +86,9 @@ public class MAddPopElement {
         sb.append(rListName());
         sb.append(".add((N");
         sb.append(rElementType());
-        sb.append(")l");
+        sb.append(")stack.get(l");
         sb.append(rElementName());
-        sb.append(".getNodes().get(");
+        sb.append(" + ");
         sb.append(rIndex());
         sb.append("));");
         sb.append(System.getProperty("line.separator"));
@@ -48,9 +48,9 @@ public class MAddPopToForest {
     public String toString() {
 
         StringBuilder sb = new StringBuilder();
-        sb.append("      trees.add(l");
+        sb.append("      stack.add(stack.get(l");
         sb.append(rElementName());
-        sb.append(".getNodes().get(");
+        sb.append(" + ");
         sb.append(rIndex());
         sb.append("));");
         sb.append(System.getProperty("line.separator"));
@@ -20,6 +20,8 @@ public class MAlternative {
 
     private final List<Object> eNormalChildApply_EndChildApply = new LinkedList<Object>();
 
+    private final List<Object> eNormalChildPush = new LinkedList<Object>();
+
     private final List<Object> eNormalConstructorParameter_ListConstructorParameter_AlternatedListConstructorParameter_SeparatedListConstructorParameter_EndConstructorParameter = new LinkedList<Object>();
 
     private final List<Object> ePublicElementAccessor = new LinkedList<Object>();
@@ -38,6 +40,8 @@ public class MAlternative {
 
     private final List<Object> eAnonymousAltType = new LinkedList<Object>();
 
+    private final List<Object> eAlternativeProductionType = new LinkedList<Object>();
+
     private final List<Object> eListElementAccessor = new LinkedList<Object>();
 
     private final List<Object> eSeparatedListElementAccessor = new LinkedList<Object>();
@@ -98,6 +102,15 @@ public class MAlternative {
         return lAnonymousAltType;
     }
 
+    public MAlternativeProductionType newAlternativeProductionType(
+            String pProduction) {
+
+        MAlternativeProductionType lAlternativeProductionType = new MAlternativeProductionType(
+                pProduction);
+        this.eAlternativeProductionType.add(lAlternativeProductionType);
+        return lAlternativeProductionType;
+    }
+
     public MListElementAccessor newListElementAccessor(
             String pListType,
             String pElementName) {
@@ -243,6 +256,14 @@ public class MAlternative {
         return lEndChildApply;
     }
 
+    public MNormalChildPush newNormalChildPush(
+            String pElementName) {
+
+        MNormalChildPush lNormalChildPush = new MNormalChildPush(pElementName);
+        this.eNormalChildPush.add(lNormalChildPush);
+        return lNormalChildPush;
+    }
+
     public MNormalConstructorParameter newNormalConstructorParameter(
             String pElementType,
             String pElementName) {
@@ -418,6 +439,16 @@ public class MAlternative {
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
+        sb.append("  @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  void pushChildren(IterativeWalker walker) {");
+        sb.append(System.getProperty("line.separator"));
+        for (Object oNormalChildPush : this.eNormalChildPush) {
+            sb.append(oNormalChildPush.toString());
+        }
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
         sb.append("  N");
         sb.append(rName());
         sb.append("(int line, int pos");
@@ -466,6 +497,9 @@ public class MAlternative {
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
+        for (Object oAlternativeProductionType : this.eAlternativeProductionType) {
+            sb.append(oAlternativeProductionType.toString());
+        }
         if (this.ePublicElementAccessor.size() > 0) {
             sb.append(System.getProperty("line.separator"));
         }
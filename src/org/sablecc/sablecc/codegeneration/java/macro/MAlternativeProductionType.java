@@ -0,0 +1,48 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MAlternativeProductionType {
+
+    private final String pProduction;
+
+    private final MAlternativeProductionType mAlternativeProductionType = this;
+
+    MAlternativeProductionType(
+            String pProduction) {
+
+        if (pProduction == null) {
+            throw new NullPointerException();
+        }
+        this.pProduction = pProduction;
+    }
+
+    String pProduction() {
+
+        return this.pProduction;
+    }
+
+    private String rProduction() {
+
+        return this.mAlternativeProductionType.pProduction();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("  @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public ProductionType getProductionType() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return ProductionType.T_");
+        sb.append(rProduction());
+        sb.append(";");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
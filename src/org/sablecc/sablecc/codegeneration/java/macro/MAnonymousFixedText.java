@@ -0,0 +1,62 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MAnonymousFixedText {
+
+    private final String pText;
+
+    private final MAnonymousFixedText mAnonymousFixedText = this;
+
+    private final MAnonymousToken mAnonymousToken;
+
+    MAnonymousFixedText(
+            String pText,
+            MAnonymousToken mAnonymousToken) {
+
+        if (pText == null) {
+            throw new NullPointerException();
+        }
+        this.pText = pText;
+        if (mAnonymousToken == null) {
+            throw new NullPointerException();
+        }
+        this.mAnonymousToken = mAnonymousToken;
+    }
+
+    String pText() {
+
+        return this.pText;
+    }
+
+    private String rText() {
+
+        return this.mAnonymousFixedText.pText();
+    }
+
+    private String rName() {
+
+        return this.mAnonymousToken.pName();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("  private static final String TEXT = ");
+        sb.append(rText());
+        sb.append(";");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  N");
+        sb.append(rName());
+        sb.append("(Lexer lexer) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    super(lexer, TEXT);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
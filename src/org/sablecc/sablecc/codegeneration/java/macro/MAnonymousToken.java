@@ -12,6 +12,10 @@ public class MAnonymousToken {
 
     private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
 
+    private final List<Object> eAnonymousFixedText = new LinkedList<Object>();
+
+    private final List<Object> eAnonymousVariableText = new LinkedList<Object>();
+
     public MAnonymousToken(
             String pName) {
 
@@ -21,6 +25,23 @@ public class MAnonymousToken {
         this.pName = pName;
     }
 
+    public MAnonymousFixedText newAnonymousFixedText(
+            String pText) {
+
+        MAnonymousFixedText lAnonymousFixedText = new MAnonymousFixedText(
+                pText, this.mAnonymousToken);
+        this.eAnonymousFixedText.add(lAnonymousFixedText);
+        return lAnonymousFixedText;
+    }
+
+    public MAnonymousVariableText newAnonymousVariableText() {
+
+        MAnonymousVariableText lAnonymousVariableText = new MAnonymousVariableText(
+                this.mAnonymousToken);
+        this.eAnonymousVariableText.add(lAnonymousVariableText);
+        return lAnonymousVariableText;
+    }
+
     public MDefaultPackage newDefaultPackage(
             String pLanguageName) {
 
@@ -67,14 +88,12 @@ public class MAnonymousToken {
         sb.append("    extends Token {");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("  N");
-        sb.append(rName());
-        sb.append("(String text, int line, int pos) {");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("    super(text, line, pos);");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("  }");
-        sb.append(System.getProperty("line.separator"));
+        for (Object oAnonymousFixedText : this.eAnonymousFixedText) {
+            sb.append(oAnonymousFixedText.toString());
+        }
+        for (Object oAnonymousVariableText : this.eAnonymousVariableText) {
+            sb.append(oAnonymousVariableText.toString());
+        }
         sb.append(System.getProperty("line.separator"));
         sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
@@ -0,0 +1,38 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MAnonymousVariableText {
+
+    private final MAnonymousToken mAnonymousToken;
+
+    MAnonymousVariableText(
+            MAnonymousToken mAnonymousToken) {
+
+        if (mAnonymousToken == null) {
+            throw new NullPointerException();
+        }
+        this.mAnonymousToken = mAnonymousToken;
+    }
+
+    private String rName() {
+
+        return this.mAnonymousToken.pName();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("  N");
+        sb.append(rName());
+        sb.append("(Lexer lexer) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    super(lexer);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
@@ -2,9 +2,9 @@
 
 package org.sablecc.sablecc.codegeneration.java.macro;
 
-public class MFalseGroup {
+public class MClassStartState {
 
-    MFalseGroup() {
+    MClassStartState() {
 
     }
 
@@ -12,7 +12,7 @@ public class MFalseGroup {
     public String toString() {
 
         StringBuilder sb = new StringBuilder();
-        sb.append("false");
+        sb.append("L_0.instance");
         return sb.toString();
     }
 
@@ -0,0 +1,65 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MContainmentRow {
+
+    private final String pProduction;
+
+    private final MContainmentRow mContainmentRow = this;
+
+    private final List<Object> eContainmentWord = new LinkedList<Object>();
+
+    MContainmentRow(
+            String pProduction) {
+
+        if (pProduction == null) {
+            throw new NullPointerException();
+        }
+        this.pProduction = pProduction;
+    }
+
+    public MContainmentWord newContainmentWord(
+            String pWord) {
+
+        MContainmentWord lContainmentWord = new MContainmentWord(pWord);
+        this.eContainmentWord.add(lContainmentWord);
+        return lContainmentWord;
+    }
+
+    String pProduction() {
+
+        return this.pProduction;
+    }
+
+    private String rProduction() {
+
+        return this.mContainmentRow.pProduction();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("    { ");
+        {
+            boolean first = true;
+            for (Object oContainmentWord : this.eContainmentWord) {
+                if (first) {
+                    first = false;
+                }
+                else {
+                    sb.append(", ");
+                }
+                sb.append(oContainmentWord.toString());
+            }
+        }
+        sb.append(" }, // ");
+        sb.append(rProduction());
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
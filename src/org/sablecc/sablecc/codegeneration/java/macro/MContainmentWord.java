@@ -0,0 +1,38 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MContainmentWord {
+
+    private final String pWord;
+
+    private final MContainmentWord mContainmentWord = this;
+
+    MContainmentWord(
+            String pWord) {
+
+        if (pWord == null) {
+            throw new NullPointerException();
+        }
+        this.pWord = pWord;
+    }
+
+    String pWord() {
+
+        return this.pWord;
+    }
+
+    private String rWord() {
+
+        return this.mContainmentWord.pWord();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(rWord());
+        return sb.toString();
+    }
+
+}
@@ -12,6 +12,10 @@ public class MCustomToken {
 
     private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
 
+    private final List<Object> eCustomFixedText = new LinkedList<Object>();
+
+    private final List<Object> eCustomVariableText = new LinkedList<Object>();
+
     public MCustomToken(
             String pName) {
 
@@ -21,6 +25,23 @@ public class MCustomToken {
         this.pName = pName;
     }
 
+    public MCustomFixedText newCustomFixedText(
+            String pText) {
+
+        MCustomFixedText lCustomFixedText = new MCustomFixedText(pText,
+                this.mCustomToken);
+        this.eCustomFixedText.add(lCustomFixedText);
+        return lCustomFixedText;
+    }
+
+    public MCustomVariableText newCustomVariableText() {
+
+        MCustomVariableText lCustomVariableText = new MCustomVariableText(
+                this.mCustomToken);
+        this.eCustomVariableText.add(lCustomVariableText);
+        return lCustomVariableText;
+    }
+
     public MDefaultPackage newDefaultPackage(
             String pLanguageName) {
 
@@ -67,14 +88,12 @@ public class MCustomToken {
         sb.append("    extends Token {");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("  N");
-        sb.append(rName());
-        sb.append("(String text, int line, int pos) {");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("    super(text, line, pos);");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("  }");
-        sb.append(System.getProperty("line.separator"));
+        for (Object oCustomFixedText : this.eCustomFixedText) {
+            sb.append(oCustomFixedText.toString());
+        }
+        for (Object oCustomVariableText : this.eCustomVariableText) {
+            sb.append(oCustomVariableText.toString());
+        }
         sb.append(System.getProperty("line.separator"));
         sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
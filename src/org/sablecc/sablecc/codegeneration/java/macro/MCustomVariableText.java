@@ -0,0 +1,38 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MCustomVariableText {
+
+    private final MCustomToken mCustomToken;
+
+    MCustomVariableText(
+            MCustomToken mCustomToken) {
+
+        if (mCustomToken == null) {
+            throw new NullPointerException();
+        }
+        this.mCustomToken = mCustomToken;
+    }
+
+    private String rName() {
+
+        return this.mCustomToken.pName();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("  N");
+        sb.append(rName());
+        sb.append("(Lexer lexer) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    super(lexer);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
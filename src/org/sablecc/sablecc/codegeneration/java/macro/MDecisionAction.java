@@ -0,0 +1,54 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MDecisionAction {
+
+    private final String pAction;
+
+    private final MDecisionAction mDecisionAction = this;
+
+    private final MDecisionSwitch mDecisionSwitch;
+
+    MDecisionAction(
+            String pAction,
+            MDecisionSwitch mDecisionSwitch) {
+
+        if (pAction == null) {
+            throw new NullPointerException();
+        }
+        this.pAction = pAction;
+        if (mDecisionSwitch == null) {
+            throw new NullPointerException();
+        }
+        this.mDecisionSwitch = mDecisionSwitch;
+    }
+
+    String pAction() {
+
+        return this.pAction;
+    }
+
+    private String rIndent() {
+
+        return this.mDecisionSwitch.pIndent();
+    }
+
+    private String rAction() {
+
+        return this.mDecisionAction.pAction();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(rIndent());
+        sb.append("  action = ");
+        sb.append(rAction());
+        sb.append(";");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
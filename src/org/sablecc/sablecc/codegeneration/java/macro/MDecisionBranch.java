@@ -0,0 +1,85 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MDecisionBranch {
+
+    private final MDecisionSwitch mDecisionSwitch;
+
+    private final List<Object> eDecisionAction_DecisionSwitch = new LinkedList<Object>();
+
+    private final List<Object> eDecisionCase = new LinkedList<Object>();
+
+    private final List<Object> eDecisionDefault = new LinkedList<Object>();
+
+    MDecisionBranch(
+            MDecisionSwitch mDecisionSwitch) {
+
+        if (mDecisionSwitch == null) {
+            throw new NullPointerException();
+        }
+        this.mDecisionSwitch = mDecisionSwitch;
+    }
+
+    public MDecisionCase newDecisionCase(
+            String pInternalType) {
+
+        MDecisionCase lDecisionCase = new MDecisionCase(pInternalType,
+                this.mDecisionSwitch);
+        this.eDecisionCase.add(lDecisionCase);
+        return lDecisionCase;
+    }
+
+    public MDecisionDefault newDecisionDefault() {
+
+        MDecisionDefault lDecisionDefault = new MDecisionDefault(
+                this.mDecisionSwitch);
+        this.eDecisionDefault.add(lDecisionDefault);
+        return lDecisionDefault;
+    }
+
+    public MDecisionAction newDecisionAction(
+            String pAction) {
+
+        MDecisionAction lDecisionAction = new MDecisionAction(pAction,
+                this.mDecisionSwitch);
+        this.eDecisionAction_DecisionSwitch.add(lDecisionAction);
+        return lDecisionAction;
+    }
+
+    public MDecisionSwitch newDecisionSwitch(
+            String pIndent,
+            String pAhead) {
+
+        MDecisionSwitch lDecisionSwitch = new MDecisionSwitch(pIndent, pAhead);
+        this.eDecisionAction_DecisionSwitch.add(lDecisionSwitch);
+        return lDecisionSwitch;
+    }
+
+    private String rIndent() {
+
+        return this.mDecisionSwitch.pIndent();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        for (Object oDecisionCase : this.eDecisionCase) {
+            sb.append(oDecisionCase.toString());
+        }
+        for (Object oDecisionDefault : this.eDecisionDefault) {
+            sb.append(oDecisionDefault.toString());
+        }
+        for (Object oDecisionAction_DecisionSwitch : this.eDecisionAction_DecisionSwitch) {
+            sb.append(oDecisionAction_DecisionSwitch.toString());
+        }
+        sb.append(rIndent());
+        sb.append("  break;");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,54 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MDecisionCase {
+
+    private final String pInternalType;
+
+    private final MDecisionCase mDecisionCase = this;
+
+    private final MDecisionSwitch mDecisionSwitch;
+
+    MDecisionCase(
+            String pInternalType,
+            MDecisionSwitch mDecisionSwitch) {
+
+        if (pInternalType == null) {
+            throw new NullPointerException();
+        }
+        this.pInternalType = pInternalType;
+        if (mDecisionSwitch == null) {
+            throw new NullPointerException();
+        }
+        this.mDecisionSwitch = mDecisionSwitch;
+    }
+
+    String pInternalType() {
+
+        return this.pInternalType;
+    }
+
+    private String rIndent() {
+
+        return this.mDecisionSwitch.pIndent();
+    }
+
+    private String rInternalType() {
+
+        return this.mDecisionCase.pInternalType();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(rIndent());
+        sb.append("case ");
+        sb.append(rInternalType());
+        sb.append(":");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
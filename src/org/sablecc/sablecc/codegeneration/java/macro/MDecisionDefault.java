@@ -0,0 +1,33 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MDecisionDefault {
+
+    private final MDecisionSwitch mDecisionSwitch;
+
+    MDecisionDefault(
+            MDecisionSwitch mDecisionSwitch) {
+
+        if (mDecisionSwitch == null) {
+            throw new NullPointerException();
+        }
+        this.mDecisionSwitch = mDecisionSwitch;
+    }
+
+    private String rIndent() {
+
+        return this.mDecisionSwitch.pIndent();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(rIndent());
+        sb.append("default:");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,77 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MDecisionSwitch {
+
+    private final String pIndent;
+
+    private final String pAhead;
+
+    private final MDecisionSwitch mDecisionSwitch = this;
+
+    private final List<Object> eDecisionBranch = new LinkedList<Object>();
+
+    MDecisionSwitch(
+            String pIndent,
+            String pAhead) {
+
+        if (pIndent == null) {
+            throw new NullPointerException();
+        }
+        this.pIndent = pIndent;
+        if (pAhead == null) {
+            throw new NullPointerException();
+        }
+        this.pAhead = pAhead;
+    }
+
+    public MDecisionBranch newDecisionBranch() {
+
+        MDecisionBranch lDecisionBranch = new MDecisionBranch(
+                this.mDecisionSwitch);
+        this.eDecisionBranch.add(lDecisionBranch);
+        return lDecisionBranch;
+    }
+
+    String pIndent() {
+
+        return this.pIndent;
+    }
+
+    String pAhead() {
+
+        return this.pAhead;
+    }
+
+    private String rIndent() {
+
+        return this.mDecisionSwitch.pIndent();
+    }
+
+    private String rAhead() {
+
+        return this.mDecisionSwitch.pAhead();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(rIndent());
+        sb.append("switch(parser.look(");
+        sb.append(rAhead());
+        sb.append(").getInternalType()) {");
+        sb.append(System.getProperty("line.separator"));
+        for (Object oDecisionBranch : this.eDecisionBranch) {
+            sb.append(oDecisionBranch.toString());
+        }
+        sb.append(rIndent());
+        sb.append("}");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
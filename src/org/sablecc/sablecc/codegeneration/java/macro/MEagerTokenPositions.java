@@ -0,0 +1,60 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MEagerTokenPositions {
+
+    MEagerTokenPositions() {
+
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("  private final int line;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final int pos;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  Token(CharSequence text, int line, int pos) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.text = text;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.line = line;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.pos = pos;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Tokens of a fixed text share it instead of copying the accepted text.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  Token(AbstractLexer lexer, String fixedText) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this(fixedText != null ? fixedText : lexer.getAcceptText(), lexer.getAcceptLine(), lexer.getAcceptPos());");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public int getLine() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.line;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public int getPos() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.pos;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
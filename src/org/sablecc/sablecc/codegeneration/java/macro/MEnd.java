@@ -54,6 +54,13 @@ public class MEnd {
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
+        sb.append("  End(AbstractLexer lexer) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    super(lexer, \"\");");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
         sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
         sb.append("  public Type getType() {");
@@ -0,0 +1,159 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MFilteredWalker {
+
+    private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
+
+    private final List<Object> eContainmentRow = new LinkedList<Object>();
+
+    public MFilteredWalker() {
+
+    }
+
+    public MContainmentRow newContainmentRow(
+            String pProduction) {
+
+        MContainmentRow lContainmentRow = new MContainmentRow(pProduction);
+        this.eContainmentRow.add(lContainmentRow);
+        return lContainmentRow;
+    }
+
+    public MDefaultPackage newDefaultPackage(
+            String pLanguageName) {
+
+        MDefaultPackage lDefaultPackage = new MDefaultPackage(pLanguageName);
+        this.eDefaultPackage_SpecifiedPackage.add(lDefaultPackage);
+        return lDefaultPackage;
+    }
+
+    public MSpecifiedPackage newSpecifiedPackage(
+            String pLanguageName,
+            String pPackage) {
+
+        MSpecifiedPackage lSpecifiedPackage = new MSpecifiedPackage(
+                pLanguageName, pPackage);
+        this.eDefaultPackage_SpecifiedPackage.add(lSpecifiedPackage);
+        return lSpecifiedPackage;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(new MHeader().toString());
+        if (this.eDefaultPackage_SpecifiedPackage.size() > 0) {
+            sb.append(System.getProperty("line.separator"));
+        }
+        for (Object oDefaultPackage_SpecifiedPackage : this.eDefaultPackage_SpecifiedPackage) {
+            sb.append(oDefaultPackage_SpecifiedPackage.toString());
+        }
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.util.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("/**");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * A FilteredWalker is an IterativeWalker that only descends into the");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * subtrees that can contain a node of one of the provided types, as told by");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * the productions of the tree. Other nodes may be skipped, so callbacks are");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * only guaranteed on the nodes of the provided types and their ancestors.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" */");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("public class FilteredWalker");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    extends IterativeWalker {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // CONTAINS[p] is a bit set over the ordinals of Node.Type: the types of the");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // nodes that can occur in the subtree of a node of production p");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final long[][] CONTAINS = {");
+        sb.append(System.getProperty("line.separator"));
+        for (Object oContainmentRow : this.eContainmentRow) {
+            sb.append(oContainmentRow.toString());
+        }
+        sb.append("    {} // TNotAProduction");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  };");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final boolean[] types = new boolean[Node.Type.values().length];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final boolean[] productions = new boolean[Node.ProductionType.values().length];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public FilteredWalker(Node.Type... types) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this(Arrays.asList(types));");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public FilteredWalker(Collection<Node.Type> types) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(Node.Type type : types) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.types[type.ordinal()] = true;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      for(Node.ProductionType production : Node.ProductionType.values()) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        if(canContain(production, type)) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          this.productions[production.ordinal()] = true;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Returns whether a node of the provided production can be, or have as a");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // descendant, a node of the provided type.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public static boolean canContain(Node.ProductionType production, Node.Type type) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    long[] row = CONTAINS[production.ordinal()];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int ordinal = type.ordinal();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return ordinal / 64 < row.length && (row[ordinal / 64] & 1L << ordinal) != 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  boolean accepts(Node node) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    Node.ProductionType production = node.getProductionType();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(production == Node.ProductionType.TNotAProduction) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return this.types[node.getType().ordinal()];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.productions[production.ordinal()];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("}");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
@@ -50,6 +50,13 @@ public class MFinalState {
         sb.append("  abstract Token getToken(Lexer lexer);");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
+        sb.append("  // Returns the Token.InternalType ordinal of the accepted token, or");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Lexer.SKIPPED for an ignored token.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  abstract int getTokenType(Lexer lexer);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
         sb.append("  StateType getStateType() {");
         sb.append(System.getProperty("line.separator"));
         sb.append("    return State.StateType.FINAL;");
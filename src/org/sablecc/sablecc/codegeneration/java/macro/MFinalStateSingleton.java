@@ -14,13 +14,25 @@ public class MFinalStateSingleton {
 
     private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
 
+    private final List<Object> eAcceptNormalToken = new LinkedList<Object>();
+
+    private final List<Object> eAcceptKeywordToken = new LinkedList<Object>();
+
+    private final List<Object> eAcceptIgnoredToken = new LinkedList<Object>();
+
+    private final List<Object> eNormalTokenType = new LinkedList<Object>();
+
+    private final List<Object> eKeywordTokenType = new LinkedList<Object>();
+
+    private final List<Object> eIgnoredTokenType = new LinkedList<Object>();
+
     private final List<Object> eAcceptTokenNoMarker = new LinkedList<Object>();
 
     private final List<Object> eAcceptTokenWithMarker = new LinkedList<Object>();
 
-    private final List<Object> eAcceptNormalToken = new LinkedList<Object>();
+    private final List<Object> eSkipTokenNoMarker = new LinkedList<Object>();
 
-    private final List<Object> eAcceptIgnoredToken = new LinkedList<Object>();
+    private final List<Object> eSkipTokenWithMarker = new LinkedList<Object>();
 
     public MFinalStateSingleton(
             String pNumber,
@@ -36,6 +48,54 @@ public class MFinalStateSingleton {
         this.pBackCount = pBackCount;
     }
 
+    public MAcceptNormalToken newAcceptNormalToken(
+            String pTokenName) {
+
+        MAcceptNormalToken lAcceptNormalToken = new MAcceptNormalToken(
+                pTokenName);
+        this.eAcceptNormalToken.add(lAcceptNormalToken);
+        return lAcceptNormalToken;
+    }
+
+    public MAcceptKeywordToken newAcceptKeywordToken(
+            String pTokenName) {
+
+        MAcceptKeywordToken lAcceptKeywordToken = new MAcceptKeywordToken(
+                pTokenName);
+        this.eAcceptKeywordToken.add(lAcceptKeywordToken);
+        return lAcceptKeywordToken;
+    }
+
+    public MAcceptIgnoredToken newAcceptIgnoredToken() {
+
+        MAcceptIgnoredToken lAcceptIgnoredToken = new MAcceptIgnoredToken();
+        this.eAcceptIgnoredToken.add(lAcceptIgnoredToken);
+        return lAcceptIgnoredToken;
+    }
+
+    public MNormalTokenType newNormalTokenType(
+            String pTokenName) {
+
+        MNormalTokenType lNormalTokenType = new MNormalTokenType(pTokenName);
+        this.eNormalTokenType.add(lNormalTokenType);
+        return lNormalTokenType;
+    }
+
+    public MKeywordTokenType newKeywordTokenType(
+            String pTokenName) {
+
+        MKeywordTokenType lKeywordTokenType = new MKeywordTokenType(pTokenName);
+        this.eKeywordTokenType.add(lKeywordTokenType);
+        return lKeywordTokenType;
+    }
+
+    public MIgnoredTokenType newIgnoredTokenType() {
+
+        MIgnoredTokenType lIgnoredTokenType = new MIgnoredTokenType();
+        this.eIgnoredTokenType.add(lIgnoredTokenType);
+        return lIgnoredTokenType;
+    }
+
     public MAcceptTokenNoMarker newAcceptTokenNoMarker() {
 
         MAcceptTokenNoMarker lAcceptTokenNoMarker = new MAcceptTokenNoMarker(
@@ -53,20 +113,21 @@ public class MFinalStateSingleton {
         return lAcceptTokenWithMarker;
     }
 
-    public MAcceptNormalToken newAcceptNormalToken(
-            String pTokenName) {
+    public MSkipTokenNoMarker newSkipTokenNoMarker() {
 
-        MAcceptNormalToken lAcceptNormalToken = new MAcceptNormalToken(
-                pTokenName);
-        this.eAcceptNormalToken.add(lAcceptNormalToken);
-        return lAcceptNormalToken;
+        MSkipTokenNoMarker lSkipTokenNoMarker = new MSkipTokenNoMarker(
+                this.mFinalStateSingleton);
+        this.eSkipTokenNoMarker.add(lSkipTokenNoMarker);
+        return lSkipTokenNoMarker;
     }
 
-    public MAcceptIgnoredToken newAcceptIgnoredToken() {
+    public MSkipTokenWithMarker newSkipTokenWithMarker(
+            String pMarkerName) {
 
-        MAcceptIgnoredToken lAcceptIgnoredToken = new MAcceptIgnoredToken();
-        this.eAcceptIgnoredToken.add(lAcceptIgnoredToken);
-        return lAcceptIgnoredToken;
+        MSkipTokenWithMarker lSkipTokenWithMarker = new MSkipTokenWithMarker(
+                pMarkerName, this.mFinalStateSingleton);
+        this.eSkipTokenWithMarker.add(lSkipTokenWithMarker);
+        return lSkipTokenWithMarker;
     }
 
     public MDefaultPackage newDefaultPackage(
@@ -136,22 +197,49 @@ public class MFinalStateSingleton {
         sb.append(System.getProperty("line.separator"));
         sb.append("  Token getToken(Lexer lexer) {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    accept(lexer);");
+        sb.append(System.getProperty("line.separator"));
+        for (Object oAcceptNormalToken : this.eAcceptNormalToken) {
+            sb.append(oAcceptNormalToken.toString());
+        }
+        for (Object oAcceptKeywordToken : this.eAcceptKeywordToken) {
+            sb.append(oAcceptKeywordToken.toString());
+        }
+        for (Object oAcceptIgnoredToken : this.eAcceptIgnoredToken) {
+            sb.append(oAcceptIgnoredToken.toString());
+        }
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  int getTokenType(Lexer lexer) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    accept(lexer);");
+        sb.append(System.getProperty("line.separator"));
+        for (Object oNormalTokenType : this.eNormalTokenType) {
+            sb.append(oNormalTokenType.toString());
+        }
+        for (Object oKeywordTokenType : this.eKeywordTokenType) {
+            sb.append(oKeywordTokenType.toString());
+        }
+        for (Object oIgnoredTokenType : this.eIgnoredTokenType) {
+            sb.append(oIgnoredTokenType.toString());
+        }
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private void accept(Lexer lexer) {");
+        sb.append(System.getProperty("line.separator"));
         for (Object oAcceptTokenNoMarker : this.eAcceptTokenNoMarker) {
             sb.append(oAcceptTokenNoMarker.toString());
         }
         for (Object oAcceptTokenWithMarker : this.eAcceptTokenWithMarker) {
             sb.append(oAcceptTokenWithMarker.toString());
         }
-        sb.append("    int line = lexer.getAcceptLine();");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("    int pos = lexer.getAcceptPos();");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        for (Object oAcceptNormalToken : this.eAcceptNormalToken) {
-            sb.append(oAcceptNormalToken.toString());
+        for (Object oSkipTokenNoMarker : this.eSkipTokenNoMarker) {
+            sb.append(oSkipTokenNoMarker.toString());
         }
-        for (Object oAcceptIgnoredToken : this.eAcceptIgnoredToken) {
-            sb.append(oAcceptIgnoredToken.toString());
+        for (Object oSkipTokenWithMarker : this.eSkipTokenWithMarker) {
+            sb.append(oSkipTokenWithMarker.toString());
         }
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
@@ -0,0 +1,20 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MIgnoredTokenType {
+
+    MIgnoredTokenType() {
+
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("    return Lexer.SKIPPED;");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
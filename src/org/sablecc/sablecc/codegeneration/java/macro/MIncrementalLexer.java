@@ -0,0 +1,756 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MIncrementalLexer {
+
+    private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
+
+    public MIncrementalLexer() {
+
+    }
+
+    public MDefaultPackage newDefaultPackage(
+            String pLanguageName) {
+
+        MDefaultPackage lDefaultPackage = new MDefaultPackage(pLanguageName);
+        this.eDefaultPackage_SpecifiedPackage.add(lDefaultPackage);
+        return lDefaultPackage;
+    }
+
+    public MSpecifiedPackage newSpecifiedPackage(
+            String pLanguageName,
+            String pPackage) {
+
+        MSpecifiedPackage lSpecifiedPackage = new MSpecifiedPackage(
+                pLanguageName, pPackage);
+        this.eDefaultPackage_SpecifiedPackage.add(lSpecifiedPackage);
+        return lSpecifiedPackage;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(new MHeader().toString());
+        if (this.eDefaultPackage_SpecifiedPackage.size() > 0) {
+            sb.append(System.getProperty("line.separator"));
+        }
+        for (Object oDefaultPackage_SpecifiedPackage : this.eDefaultPackage_SpecifiedPackage) {
+            sb.append(oDefaultPackage_SpecifiedPackage.toString());
+        }
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.io.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.util.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("public final class IncrementalLexer {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final int INITIAL_CAPACITY = 64;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // The tokens, their offsets and their reaches are kept in gap buffers");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // that share a gap, which moves to each edit. The offsets and reaches");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // that follow the gap are stored relative to the end of the text, so");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // that an edit only touches the tokens it lexes again. The tokens");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // themselves are never changed.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private Token[] tokens = new Token[INITIAL_CAPACITY];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private long[] offsets = new long[INITIAL_CAPACITY];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // The reach of each token: the input offset that follows the furthest");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // character read to lex it or any token before it. It never decreases.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // The reach of the end of input is Long.MAX_VALUE wherever it is stored.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private long[] reaches = new long[INITIAL_CAPACITY];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int gapStart;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int gapEnd = INITIAL_CAPACITY;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // The offsets at which the lines that follow the first one start, in a");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // gap buffer of their own.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private long[] lineStarts = new long[INITIAL_CAPACITY];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int lineGapStart;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int lineGapEnd = INITIAL_CAPACITY;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private long textLength;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final List<Token> tokenList = new TokenList();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public IncrementalLexer(CharSequence text)");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws LexerException, IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.textLength = text.length();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    addLineStarts(text, 0, text.length());");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    Lexer lexer = new Lexer(new SequenceReader(text, 0));");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    Token token;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    do {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      token = lexer.next();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      insert(token, offsetOf(token, lexer), reachOf(token, lexer));");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    } while(!(token instanceof End));");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Returns a read-only view of the tokens of the text, End included,");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // which follows the edits. The positions held by a token are those of");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // the text it was lexed from; the current ones are given by getOffset,");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // getLine and getPos.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public List<Token> getTokens() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.tokenList;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public long getOffset(int index) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int slot = slotOf(index);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(slot < this.gapStart) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return this.offsets[slot];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.offsets[slot] + this.textLength;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public int getLine(int index) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return lineStartsBefore(getOffset(index) + 1) + 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public int getPos(int index) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    long offset = getOffset(index);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int line = lineStartsBefore(offset + 1);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    long lineStart = line == 0 ? 0 : getLineStart(line - 1);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return (int) (offset - lineStart) + 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Lexes the text again after an edit that replaced removedLength");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // characters at the provided offset by insertedLength characters, and");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // updates the tokens. Lexing restarts at the last token that, like all");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // the tokens before it, was lexed without reading the edited text, and");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // stops as soon as a new token starts where an old one did after the");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // edit, as both token streams are identical from there.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public Delta relex(CharSequence text, int offset, int removedLength, int insertedLength)");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws LexerException, IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int low = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int high = size();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    while(low < high) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      int middle = (low + high) >>> 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(getReach(middle) > offset) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        high = middle;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      else {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        low = middle + 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int first = low;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    moveGap(first);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    updateLineStarts(text, offset, removedLength, insertedLength);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    Lexer lexer;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(first == 0) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      lexer = new Lexer(new SequenceReader(text, 0));");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    else {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      // the tokens before the gap are not moved by the edit");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      long restart = this.offsets[first - 1];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      long reach = first > 1 ? this.reaches[first - 2] : 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      int line = lineStartsBefore(restart + 1);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      long lineStart = line == 0 ? 0 : getLineStart(line - 1);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      lexer = new Lexer(new SequenceReader(text, restart), restart, line + 1, (int) (restart - lineStart) + 1,");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          reach);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      // the restart token is unchanged");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      lexer.next();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int shift = insertedLength - removedLength;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    long editEnd = (long) offset + insertedLength;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    while(true) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      Token token = lexer.next();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      long tokenOffset = offsetOf(token, lexer);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(tokenOffset >= editEnd) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        int slot = findOldToken(tokenOffset);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        if(slot != -1) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          int end = first + slot - this.gapEnd;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          removeOldTokens(slot);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          // the lexer read at least as far as the new tokens did");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          raiseReaches(lexer.getReach());");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          return new Delta(first, end, newTokens(first), shift);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      insert(token, tokenOffset, reachOf(token, lexer));");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(token instanceof End) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        int end = first + this.tokens.length - this.gapEnd;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        removeOldTokens(this.tokens.length);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        return new Delta(first, end, newTokens(first), shift);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static long offsetOf(Token token, Lexer lexer) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return token instanceof End ? lexer.getNextOffset() : lexer.getAcceptInputOffset();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static long reachOf(Token token, Lexer lexer) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    // the end of input depends on all of it");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return token instanceof End ? Long.MAX_VALUE : lexer.getReach();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int size() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.tokens.length - this.gapEnd + this.gapStart;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int slotOf(int index) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(index < 0 || index >= size()) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throw new IndexOutOfBoundsException(\"index: \" + index);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return index < this.gapStart ? index : index + this.gapEnd - this.gapStart;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private long getReach(int index) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int slot = slotOf(index);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return slot < this.gapStart ? this.reaches[slot] : absolute(this.reaches[slot]);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private long absolute(long reach) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return reach == Long.MAX_VALUE ? reach : reach + this.textLength;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private long relative(long reach) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return reach == Long.MAX_VALUE ? reach : reach - this.textLength;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private void moveGap(int index) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    while(this.gapStart > index) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.gapStart--;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.gapEnd--;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.tokens[this.gapEnd] = this.tokens[this.gapStart];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.offsets[this.gapEnd] = this.offsets[this.gapStart] - this.textLength;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.reaches[this.gapEnd] = relative(this.reaches[this.gapStart]);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.tokens[this.gapStart] = null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    while(this.gapStart < index) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.tokens[this.gapStart] = this.tokens[this.gapEnd];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.offsets[this.gapStart] = this.offsets[this.gapEnd] + this.textLength;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.reaches[this.gapStart] = absolute(this.reaches[this.gapEnd]);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.tokens[this.gapEnd] = null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.gapStart++;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.gapEnd++;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private void insert(Token token, long offset, long reach) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.gapStart == this.gapEnd) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      int length = this.tokens.length * 2;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.tokens = grow(this.tokens, this.gapStart, this.gapEnd, length);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.offsets = grow(this.offsets, this.gapStart, this.gapEnd, length);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.reaches = grow(this.reaches, this.gapStart, this.gapEnd, length);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.gapEnd = this.gapStart + length / 2;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.tokens[this.gapStart] = token;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.offsets[this.gapStart] = offset;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.reaches[this.gapStart] = reach;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.gapStart++;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Removes the old tokens that follow the gap, up to the provided slot.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private void removeOldTokens(int slot) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    Arrays.fill(this.tokens, this.gapEnd, slot, null);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.gapEnd = slot;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Returns the slot of the old token that follows the gap and starts at");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // the provided offset, or -1.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int findOldToken(long offset) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    long key = offset - this.textLength;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int low = this.gapEnd;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int high = this.tokens.length - 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    while(low <= high) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      int middle = (low + high) >>> 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      long middleOffset = this.offsets[middle];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(middleOffset < key) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        low = middle + 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      else if(middleOffset > key) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        high = middle - 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      else {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        return middle;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return -1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Raises the reaches of the old tokens that follow the new ones to the");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // provided minimum, so that they still never decrease. As they do not");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // decrease, only the first ones can be below it.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private void raiseReaches(long minimum) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(int slot = this.gapEnd; slot < this.reaches.length; slot++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(absolute(this.reaches[slot]) >= minimum) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        break;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.reaches[slot] = minimum - this.textLength;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private List<Token> newTokens(int first) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return Collections.unmodifiableList(Arrays.asList(Arrays.copyOfRange(this.tokens, first, this.gapStart)));");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Removes the line starts that the edit may have changed, which are those");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // from the offset to the end of the removed text, and adds the line starts");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // of the new text over the same range.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private void updateLineStarts(CharSequence text, int offset, int removedLength, int insertedLength) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    moveLineGap(lineStartsBefore(offset));");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    long removedEnd = (long) offset + removedLength;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    while(this.lineGapEnd < this.lineStarts.length && this.lineStarts[this.lineGapEnd] + this.textLength <= removedEnd) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.lineGapEnd++;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.textLength += insertedLength - removedLength;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    addLineStarts(text, offset, offset + insertedLength);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Adds the line starts from the provided offsets, included, at the gap.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // A line starts after a line feed, and after a carriage return that is");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // not followed by one.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private void addLineStarts(CharSequence text, int from, int to) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(int i = Math.max(from, 1); i <= to; i++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      char c = text.charAt(i - 1);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(c == 10 || (c == 13 && i < text.length() && text.charAt(i) != 10)) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        if(this.lineGapStart == this.lineGapEnd) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          int length = this.lineStarts.length * 2;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          this.lineStarts = grow(this.lineStarts, this.lineGapStart, this.lineGapEnd, length);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          this.lineGapEnd = this.lineGapStart + length / 2;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        this.lineStarts[this.lineGapStart++] = i;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private void moveLineGap(int index) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    while(this.lineGapStart > index) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.lineStarts[--this.lineGapEnd] = this.lineStarts[--this.lineGapStart] - this.textLength;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    while(this.lineGapStart < index) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.lineStarts[this.lineGapStart++] = this.lineStarts[this.lineGapEnd++] + this.textLength;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private long getLineStart(int index) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(index < this.lineGapStart) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return this.lineStarts[index];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.lineStarts[index + this.lineGapEnd - this.lineGapStart] + this.textLength;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Returns the number of lines that start before the provided offset,");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // leaving out the first one.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int lineStartsBefore(long offset) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int low = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int high = this.lineStarts.length - this.lineGapEnd + this.lineGapStart;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    while(low < high) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      int middle = (low + high) >>> 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(getLineStart(middle) < offset) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        low = middle + 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      else {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        high = middle;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return low;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static Token[] grow(Token[] array, int gapStart, int gapEnd, int length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    Token[] newArray = new Token[length];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    System.arraycopy(array, 0, newArray, 0, gapStart);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    System.arraycopy(array, gapEnd, newArray, length - array.length + gapEnd, array.length - gapEnd);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return newArray;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static long[] grow(long[] array, int gapStart, int gapEnd, int length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    long[] newArray = new long[length];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    System.arraycopy(array, 0, newArray, 0, gapStart);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    System.arraycopy(array, gapEnd, newArray, length - array.length + gapEnd, array.length - gapEnd);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return newArray;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final class TokenList");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      extends AbstractList<Token>");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      implements RandomAccess {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    public Token get(int index) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return IncrementalLexer.this.tokens[slotOf(index)];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    public int size() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return IncrementalLexer.this.size();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // The old tokens from start to end, exclusive, were replaced by the new");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // tokens. The old tokens that follow are kept as they are, and their");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // offsets in the new text are shifted by the offset shift.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public static final class Delta {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    private final int start;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    private final int end;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    private final List<Token> tokens;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    private final int offsetShift;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    Delta(int start, int end, List<Token> tokens, int offsetShift) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.start = start;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.end = end;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.tokens = tokens;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.offsetShift = offsetShift;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    public int getStart() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return this.start;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    public int getEnd() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return this.end;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    public List<Token> getTokens() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return this.tokens;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    public int getOffsetShift() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return this.offsetShift;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("}");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
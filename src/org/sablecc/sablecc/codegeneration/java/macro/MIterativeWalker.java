@@ -0,0 +1,335 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MIterativeWalker {
+
+    private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
+
+    private final List<Object> eIterativeWalkerDispatch = new LinkedList<Object>();
+
+    private final List<Object> eIterativeWalkerCallbacks = new LinkedList<Object>();
+
+    public MIterativeWalker() {
+
+    }
+
+    public MIterativeWalkerDispatch newIterativeWalkerDispatch(
+            String pTypeName) {
+
+        MIterativeWalkerDispatch lIterativeWalkerDispatch = new MIterativeWalkerDispatch(
+                pTypeName);
+        this.eIterativeWalkerDispatch.add(lIterativeWalkerDispatch);
+        return lIterativeWalkerDispatch;
+    }
+
+    public MIterativeWalkerCallbacks newIterativeWalkerCallbacks(
+            String pTypeName) {
+
+        MIterativeWalkerCallbacks lIterativeWalkerCallbacks = new MIterativeWalkerCallbacks(
+                pTypeName);
+        this.eIterativeWalkerCallbacks.add(lIterativeWalkerCallbacks);
+        return lIterativeWalkerCallbacks;
+    }
+
+    public MDefaultPackage newDefaultPackage(
+            String pLanguageName) {
+
+        MDefaultPackage lDefaultPackage = new MDefaultPackage(pLanguageName);
+        this.eDefaultPackage_SpecifiedPackage.add(lDefaultPackage);
+        return lDefaultPackage;
+    }
+
+    public MSpecifiedPackage newSpecifiedPackage(
+            String pLanguageName,
+            String pPackage) {
+
+        MSpecifiedPackage lSpecifiedPackage = new MSpecifiedPackage(
+                pLanguageName, pPackage);
+        this.eDefaultPackage_SpecifiedPackage.add(lSpecifiedPackage);
+        return lSpecifiedPackage;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(new MHeader().toString());
+        if (this.eDefaultPackage_SpecifiedPackage.size() > 0) {
+            sb.append(System.getProperty("line.separator"));
+        }
+        for (Object oDefaultPackage_SpecifiedPackage : this.eDefaultPackage_SpecifiedPackage) {
+            sb.append(oDefaultPackage_SpecifiedPackage.toString());
+        }
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.util.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("/**");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * An IterativeWalker visits a tree with the in/case/out callbacks of the");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * Walker, but keeps the nodes to visit on an explicit stack instead of the");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * call stack, so that deep trees cannot overflow it. The stack is reused by");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * subsequent walks.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" *");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * Each callback returns an action. When in returns SKIP_CHILDREN, case and");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * the children are skipped, but out is still called. When case returns");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * SKIP_CHILDREN, the children are skipped. TERMINATE ends the walk at once,");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * without calling out on the nodes being visited. Lists are not visited");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * themselves: their elements are visited as children of the enclosing node.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" */");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("public class IterativeWalker {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public static enum Action {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    CONTINUE,");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    SKIP_CHILDREN,");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    TERMINATE;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final int IN = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final int CASE = 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final int OUT = 2;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private Node[] nodes = new Node[64];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // whether the children of the node were pushed and only out remains");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private boolean[] exits = new boolean[64];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int top;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // set by a ParallelWalker to fork the walk of the children of large nodes");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  ParallelWalker.Splitter splitter;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Returns false when a callback terminated the walk.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public final boolean walk(Node node) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    // a walk started from a callback uses the stack above the current one");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int base = this.top;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    push(node);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    reverse(base);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    while(this.top > base) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      int index = this.top - 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      Node current = this.nodes[index];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(this.exits[index]) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        this.nodes[index] = null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        this.top = index;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        if(dispatch(current, OUT) == Action.TERMINATE) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          return terminate(base);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        continue;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.exits[index] = true;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      Action action = dispatch(current, IN);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(action == Action.CONTINUE) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        action = dispatch(current, CASE);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(action == Action.TERMINATE) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        return terminate(base);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(action == Action.CONTINUE) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        int mark = this.top;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        current.pushChildren(this);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        if(this.splitter != null && this.splitter.split(this.nodes, mark, this.top)) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          Arrays.fill(this.nodes, mark, this.top, null);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          this.top = mark;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        else {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          reverse(mark);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return true;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  void push(Node node) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(node != null) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      node.pushOnto(this);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  void pushNode(Node node) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(!accepts(node)) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.top == this.nodes.length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.nodes = Arrays.copyOf(this.nodes, 2 * this.top);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.exits = Arrays.copyOf(this.exits, 2 * this.top);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.nodes[this.top] = node;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.exits[this.top] = false;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.top++;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Returns whether the provided node is to be visited.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  boolean accepts(Node node) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return true;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Children are pushed in order; reversing them pops the first one first.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private void reverse(int mark) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(int i = mark, j = this.top - 1; i < j; i++, j--) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      Node node = this.nodes[i];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.nodes[i] = this.nodes[j];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.nodes[j] = node;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private boolean terminate(int base) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    Arrays.fill(this.nodes, base, this.top, null);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.top = base;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return false;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private Action dispatch(Node node, int kind) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    switch(node.getType()) {");
+        sb.append(System.getProperty("line.separator"));
+        for (Object oIterativeWalkerDispatch : this.eIterativeWalkerDispatch) {
+            sb.append(oIterativeWalkerDispatch.toString());
+        }
+        sb.append("    default:");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return kind == IN ? defaultIn(node) : kind == CASE ? defaultCase(node) : defaultOut(node);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        for (Object oIterativeWalkerCallbacks : this.eIterativeWalkerCallbacks) {
+            sb.append(oIterativeWalkerCallbacks.toString());
+        }
+        sb.append("  public Action defaultIn(Node node) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return Action.CONTINUE;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public Action defaultCase(Node node) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return Action.CONTINUE;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public Action defaultOut(Node node) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return Action.CONTINUE;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("}");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
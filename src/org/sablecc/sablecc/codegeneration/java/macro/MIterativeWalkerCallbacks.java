@@ -0,0 +1,70 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MIterativeWalkerCallbacks {
+
+    private final String pTypeName;
+
+    private final MIterativeWalkerCallbacks mIterativeWalkerCallbacks = this;
+
+    MIterativeWalkerCallbacks(
+            String pTypeName) {
+
+        if (pTypeName == null) {
+            throw new NullPointerException();
+        }
+        this.pTypeName = pTypeName;
+    }
+
+    String pTypeName() {
+
+        return this.pTypeName;
+    }
+
+    private String rTypeName() {
+
+        return this.mIterativeWalkerCallbacks.pTypeName();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("  public Action in");
+        sb.append(rTypeName());
+        sb.append("(N");
+        sb.append(rTypeName());
+        sb.append(" node) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return defaultIn(node);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public Action case");
+        sb.append(rTypeName());
+        sb.append("(N");
+        sb.append(rTypeName());
+        sb.append(" node) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return defaultCase(node);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public Action out");
+        sb.append(rTypeName());
+        sb.append("(N");
+        sb.append(rTypeName());
+        sb.append(" node) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return defaultOut(node);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,57 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MIterativeWalkerDispatch {
+
+    private final String pTypeName;
+
+    private final MIterativeWalkerDispatch mIterativeWalkerDispatch = this;
+
+    MIterativeWalkerDispatch(
+            String pTypeName) {
+
+        if (pTypeName == null) {
+            throw new NullPointerException();
+        }
+        this.pTypeName = pTypeName;
+    }
+
+    String pTypeName() {
+
+        return this.pTypeName;
+    }
+
+    private String rTypeName() {
+
+        return this.mIterativeWalkerDispatch.pTypeName();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("    case T_");
+        sb.append(rTypeName());
+        sb.append(": {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      N");
+        sb.append(rTypeName());
+        sb.append(" typed = (N");
+        sb.append(rTypeName());
+        sb.append(") node;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return kind == IN ? in");
+        sb.append(rTypeName());
+        sb.append("(typed) : kind == CASE ? case");
+        sb.append(rTypeName());
+        sb.append("(typed) : out");
+        sb.append(rTypeName());
+        sb.append("(typed);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
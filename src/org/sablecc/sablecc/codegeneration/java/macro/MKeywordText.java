@@ -0,0 +1,39 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MKeywordText {
+
+    private final String pText;
+
+    private final MKeywordText mKeywordText = this;
+
+    MKeywordText(
+            String pText) {
+
+        if (pText == null) {
+            throw new NullPointerException();
+        }
+        this.pText = pText;
+    }
+
+    String pText() {
+
+        return this.pText;
+    }
+
+    private String rText() {
+
+        return this.mKeywordText.pText();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("      ");
+        sb.append(rText());
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,62 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MKeywordTokenFactory {
+
+    private final String pSlot;
+
+    private final String pTokenName;
+
+    private final MKeywordTokenFactory mKeywordTokenFactory = this;
+
+    MKeywordTokenFactory(
+            String pSlot,
+            String pTokenName) {
+
+        if (pSlot == null) {
+            throw new NullPointerException();
+        }
+        this.pSlot = pSlot;
+        if (pTokenName == null) {
+            throw new NullPointerException();
+        }
+        this.pTokenName = pTokenName;
+    }
+
+    String pSlot() {
+
+        return this.pSlot;
+    }
+
+    String pTokenName() {
+
+        return this.pTokenName;
+    }
+
+    private String rSlot() {
+
+        return this.mKeywordTokenFactory.pSlot();
+    }
+
+    private String rTokenName() {
+
+        return this.mKeywordTokenFactory.pTokenName();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("    case ");
+        sb.append(rSlot());
+        sb.append(":");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return new N");
+        sb.append(rTokenName());
+        sb.append("(lexer);");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,49 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MKeywordTokenType {
+
+    private final String pTokenName;
+
+    private final MKeywordTokenType mKeywordTokenType = this;
+
+    MKeywordTokenType(
+            String pTokenName) {
+
+        if (pTokenName == null) {
+            throw new NullPointerException();
+        }
+        this.pTokenName = pTokenName;
+    }
+
+    String pTokenName() {
+
+        return this.pTokenName;
+    }
+
+    private String rTokenName() {
+
+        return this.mKeywordTokenType.pTokenName();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("    int keyword = Keywords.find(lexer.getAcceptBuffer(), lexer.getAcceptOffset(), lexer.getAcceptLength());");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(keyword != -1) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return Keywords.getType(keyword);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return Token.InternalType.T_");
+        sb.append(rTokenName());
+        sb.append(".ordinal();");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
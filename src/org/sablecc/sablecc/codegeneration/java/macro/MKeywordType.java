@@ -0,0 +1,62 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MKeywordType {
+
+    private final String pSlot;
+
+    private final String pTokenName;
+
+    private final MKeywordType mKeywordType = this;
+
+    MKeywordType(
+            String pSlot,
+            String pTokenName) {
+
+        if (pSlot == null) {
+            throw new NullPointerException();
+        }
+        this.pSlot = pSlot;
+        if (pTokenName == null) {
+            throw new NullPointerException();
+        }
+        this.pTokenName = pTokenName;
+    }
+
+    String pSlot() {
+
+        return this.pSlot;
+    }
+
+    String pTokenName() {
+
+        return this.pTokenName;
+    }
+
+    private String rSlot() {
+
+        return this.mKeywordType.pSlot();
+    }
+
+    private String rTokenName() {
+
+        return this.mKeywordType.pTokenName();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("    case ");
+        sb.append(rSlot());
+        sb.append(":");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return Token.InternalType.T_");
+        sb.append(rTokenName());
+        sb.append(".ordinal();");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
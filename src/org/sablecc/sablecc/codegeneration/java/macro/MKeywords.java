@@ -0,0 +1,229 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MKeywords {
+
+    private final String pMultiplier;
+
+    private final String pShift;
+
+    private final MKeywords mKeywords = this;
+
+    private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
+
+    private final List<Object> eKeywordText = new LinkedList<Object>();
+
+    private final List<Object> eKeywordTokenFactory = new LinkedList<Object>();
+
+    private final List<Object> eKeywordType = new LinkedList<Object>();
+
+    public MKeywords(
+            String pMultiplier,
+            String pShift) {
+
+        if (pMultiplier == null) {
+            throw new NullPointerException();
+        }
+        this.pMultiplier = pMultiplier;
+        if (pShift == null) {
+            throw new NullPointerException();
+        }
+        this.pShift = pShift;
+    }
+
+    public MKeywordTokenFactory newKeywordTokenFactory(
+            String pSlot,
+            String pTokenName) {
+
+        MKeywordTokenFactory lKeywordTokenFactory = new MKeywordTokenFactory(
+                pSlot, pTokenName);
+        this.eKeywordTokenFactory.add(lKeywordTokenFactory);
+        return lKeywordTokenFactory;
+    }
+
+    public MKeywordType newKeywordType(
+            String pSlot,
+            String pTokenName) {
+
+        MKeywordType lKeywordType = new MKeywordType(pSlot, pTokenName);
+        this.eKeywordType.add(lKeywordType);
+        return lKeywordType;
+    }
+
+    public MDefaultPackage newDefaultPackage(
+            String pLanguageName) {
+
+        MDefaultPackage lDefaultPackage = new MDefaultPackage(pLanguageName);
+        this.eDefaultPackage_SpecifiedPackage.add(lDefaultPackage);
+        return lDefaultPackage;
+    }
+
+    public MSpecifiedPackage newSpecifiedPackage(
+            String pLanguageName,
+            String pPackage) {
+
+        MSpecifiedPackage lSpecifiedPackage = new MSpecifiedPackage(
+                pLanguageName, pPackage);
+        this.eDefaultPackage_SpecifiedPackage.add(lSpecifiedPackage);
+        return lSpecifiedPackage;
+    }
+
+    public MKeywordText newKeywordText(
+            String pText) {
+
+        MKeywordText lKeywordText = new MKeywordText(pText);
+        this.eKeywordText.add(lKeywordText);
+        return lKeywordText;
+    }
+
+    String pMultiplier() {
+
+        return this.pMultiplier;
+    }
+
+    String pShift() {
+
+        return this.pShift;
+    }
+
+    private String rMultiplier() {
+
+        return this.mKeywords.pMultiplier();
+    }
+
+    private String rShift() {
+
+        return this.mKeywords.pShift();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(new MHeader().toString());
+        if (this.eDefaultPackage_SpecifiedPackage.size() > 0) {
+            sb.append(System.getProperty("line.separator"));
+        }
+        for (Object oDefaultPackage_SpecifiedPackage : this.eDefaultPackage_SpecifiedPackage) {
+            sb.append(oDefaultPackage_SpecifiedPackage.toString());
+        }
+        sb.append(System.getProperty("line.separator"));
+        sb.append("final class Keywords {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final int MULTIPLIER = ");
+        sb.append(rMultiplier());
+        sb.append(";");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final int SHIFT = ");
+        sb.append(rShift());
+        sb.append(";");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final String[] TEXTS = {");
+        sb.append(System.getProperty("line.separator"));
+        {
+            boolean first = true;
+            for (Object oKeywordText : this.eKeywordText) {
+                if (first) {
+                    first = false;
+                }
+                else {
+                    sb.append(",");
+                    sb.append(System.getProperty("line.separator"));
+                }
+                sb.append(oKeywordText.toString());
+            }
+        }
+        if (this.eKeywordText.size() > 0) {
+            sb.append(System.getProperty("line.separator"));
+        }
+        sb.append("  };");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private Keywords() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Returns the slot of the keyword held in the buffer, or -1.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  static int find(char[] buffer, int offset, int length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int hash = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int end = offset + length;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(int i = offset; i < end; i++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      hash = 31 * hash + buffer[i];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int slot = (hash * MULTIPLIER) >>> SHIFT;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    String text = TEXTS[slot];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(text == null || text.length() != length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return -1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(int i = 0; i < length; i++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(text.charAt(i) != buffer[offset + i]) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        return -1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return slot;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  static Token newToken(int slot, Lexer lexer) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    switch(slot) {");
+        sb.append(System.getProperty("line.separator"));
+        for (Object oKeywordTokenFactory : this.eKeywordTokenFactory) {
+            sb.append(oKeywordTokenFactory.toString());
+        }
+        sb.append("    default:");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  static int getType(int slot) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    switch(slot) {");
+        sb.append(System.getProperty("line.separator"));
+        for (Object oKeywordType : this.eKeywordType) {
+            sb.append(oKeywordType.toString());
+        }
+        sb.append("    default:");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return -1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("}");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
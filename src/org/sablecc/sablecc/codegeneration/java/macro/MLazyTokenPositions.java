@@ -0,0 +1,83 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MLazyTokenPositions {
+
+    MLazyTokenPositions() {
+
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("  private final long offset;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // The line and position of the token are those of its offset in this");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // index, which the tokens of an input share.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final LineIndex lineIndex;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private Token(CharSequence text, long offset, LineIndex lineIndex) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.text = text;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.offset = offset;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.lineIndex = lineIndex;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // A token that is not lexed has no offset, and an index of its own line.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  Token(String text, int line, int pos) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this(text, -1, new LineIndex(line, -pos));");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Tokens of a fixed text share it instead of copying the accepted text.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  Token(AbstractLexer lexer, String fixedText) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this(fixedText != null ? fixedText : lexer.getAcceptText(), lexer.getAcceptInputOffset(), lexer.getLineIndex());");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Returns the input offset of the token, or -1 if it was not lexed.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public long getOffset() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.offset;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public int getLine() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.lineIndex.getLine(this.offset);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public int getPos() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.lineIndex.getPos(this.offset);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
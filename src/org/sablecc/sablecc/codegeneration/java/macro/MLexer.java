@@ -76,31 +76,19 @@ public class MLexer {
         sb.append(System.getProperty("line.separator"));
         sb.append("import java.io.*;");
         sb.append(System.getProperty("line.separator"));
+        sb.append("import java.nio.channels.*;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("public class Lexer {");
+        sb.append("import java.nio.charset.*;");
         sb.append(System.getProperty("line.separator"));
+        sb.append("import java.nio.file.*;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  private final BufferedReader br;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  private final StringBuilder buffer = new StringBuilder();");
+        sb.append("public class Lexer");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  private boolean eof;");
+        sb.append("    extends AbstractLexer {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  private int line = 1;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  private int pos = 1;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("  private boolean last_is_cr;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("  private StringBuilder sb;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("  private int acceptLine;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("  private int acceptPos;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("  private int current_sb_length;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("  private boolean sb_contains_eof;");
+        sb.append("  private TransitionState resumeState;");
         sb.append(System.getProperty("line.separator"));
         for (Object oMarkerDeclaration : this.eMarkerDeclaration) {
             sb.append(oMarkerDeclaration.toString());
@@ -110,262 +98,296 @@ public class MLexer {
             sb.append(oSetMarkerDeclaration.toString());
         }
         sb.append(System.getProperty("line.separator"));
-        sb.append("  public Lexer(Reader reader) {");
+        sb.append("  // Creates a push lexer, which lexes the characters passed to feed.");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  public Lexer() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    this.br = new BufferedReader(reader);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this(null, false);");
         sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("  public Token next()");
+        sb.append("  public Lexer(Reader reader) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      throws LexerException, IOException {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    Token token;");
+        sb.append("    this(reader, false);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    do {");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      token = internalNext();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    } while (token == null);");
+        sb.append("  public Lexer(Reader reader, boolean sharedText) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    return token;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  }");
+        sb.append("    super(reader, sharedText);");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  Token internalNext()");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      throws LexerException, IOException {");
+        sb.append("  Lexer(Reader reader, long offset, LineIndex lineIndex) {");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("    boolean first = true;");
+        sb.append("    super(reader, offset, lineIndex);");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    StringBuilder sb = new StringBuilder();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    State state = S_0.instance;");
+        sb.append("  Lexer(Reader reader, long offset, int line, int pos, long reach) {");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("    while(state.getStateType() == State.StateType.TRANSITION) {");
+        sb.append("    super(reader, offset, line, pos, reach);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      TransitionState transitionState = (TransitionState) state;");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("      this.current_sb_length = sb.length();");
+        sb.append("  public Lexer(FileChannel channel, Charset charset)");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      transitionState.setMarker(this);");
+        sb.append("      throws IOException {");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("      Symbol symbol;");
+        sb.append("    this(channel, charset, false);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      if(buffer.length() > 0) {");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        char c = buffer.charAt(0);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        buffer.deleteCharAt(0);");
+        sb.append("  public Lexer(FileChannel channel, Charset charset, boolean sharedText)");
         sb.append(System.getProperty("line.separator"));
+        sb.append("      throws IOException {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        sb.append(c);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        symbol = Symbol.getSymbol(c);");
+        sb.append("    this(new MappedReader(channel, charset), sharedText);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      }");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      else if(this.eof) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        if(sb.length() == 0) {");
+        sb.append("  public static Lexer open(Path path, Charset charset)");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          return new End(this.line, this.pos);");
+        sb.append("      throws IOException {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.sb_contains_eof = true;");
+        sb.append("    return new Lexer(MappedReader.open(path, charset));");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        symbol = Symbol.Symbol_end;");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      else {");
+        sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        int i = br.read();");
+        sb.append("  void clear() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        if(i == -1) {");
+        sb.append("    super.clear();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          this.eof = true;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("          br.close();");
+        sb.append("    this.resumeState = null;");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          if(sb.length() == 0) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            return new End(this.line, this.pos);");
+        sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          }");
+        sb.append("  Token internalNext()");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          this.sb_contains_eof = true;");
+        sb.append("      throws LexerException, IOException {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          symbol = Symbol.Symbol_end;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
+        sb.append("    FinalState finalState = scanToken();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        else {");
+        sb.append("    if(finalState == null) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          char c = (char) i;");
+        sb.append("      if(this.inputNeeded) {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("        return null;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          sb.append(c);");
+        sb.append("      }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          symbol = Symbol.getSymbol(c);");
+        sb.append("      return newEnd();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
+        sb.append("    }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      }");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    return finalState.getToken(this);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      if(symbol == null) {");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        throw new LexerException(sb.charAt(0), this.line, this.pos);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      }");
+        sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  int nextTokenType()");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      state = transitionState.getTarget(symbol);");
+        sb.append("      throws LexerException, IOException {");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("      if(state == null) {");
+        sb.append("    FinalState finalState = scanToken();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        throw new LexerException(sb.charAt(0), this.line, this.pos);");
+        sb.append("    if(finalState == null) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      }");
+        sb.append("      return NO_TOKEN;");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("    FinalState finalState = (FinalState) state;");
+        sb.append("    return finalState.getTokenType(this);");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    this.sb = sb;");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  // Returns the final state of the next token, or null at the end of input");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    return finalState.getToken(this);");
+        sb.append("  // or when more input is needed.");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  }");
+        sb.append("  private FinalState scanToken()");
         sb.append(System.getProperty("line.separator"));
+        sb.append("      throws LexerException, IOException {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  int getAcceptLine() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    return this.acceptLine;");
+        sb.append("    State state;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  }");
+        sb.append("    if(this.inputNeeded) {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("      this.inputNeeded = false;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  int getAcceptPos() {");
+        sb.append("      state = this.resumeState;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    return this.acceptPos;");
+        sb.append("    }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  }");
+        sb.append("    else {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("      this.scan = this.start;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  private void updateLinePos(String text) {");
+        sb.append("      state = S_0.instance;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    if(this.last_is_cr) {");
+        sb.append("    }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      if(text.length() > 0) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        if(text.charAt(0) != 10) {");
+        sb.append("    while(state.getStateType() == State.StateType.TRANSITION) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          this.last_is_cr = false;");
+        sb.append("      TransitionState transitionState = (TransitionState) state;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          this.line++;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          this.pos = 1;");
+        sb.append("      transitionState.setMarker(this);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      }");
+        sb.append("      if(this.scan == this.limit && !this.eof) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      else if(this.buffer.length() > 0) {");
+        sb.append("        if(this.reader == null) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        if(this.buffer.charAt(0) != 10) {");
+        sb.append("          // push mode: the scan resumes in this state after the next feed");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          this.last_is_cr = false;");
+        sb.append("          this.inputNeeded = true;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          this.line++;");
+        sb.append("          this.resumeState = transitionState;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          this.pos = 1;");
+        sb.append("          return null;");
         sb.append(System.getProperty("line.separator"));
         sb.append("        }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      }");
+        sb.append("        fill();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
+        sb.append("      }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("    this.acceptLine = line;");
+        sb.append("      long[] selfLoop = transitionState.getSelfLoop();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    this.acceptPos = pos;");
+        sb.append("      if(selfLoop != null && spanSelfLoop(selfLoop)) {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("        continue;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    for(int i = 0; i < text.length(); i++) {");
+        sb.append("      }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      char c = text.charAt(i);");
         sb.append(System.getProperty("line.separator"));
+        sb.append("      Symbol symbol;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      if(c == 10) {");
+        sb.append("      if(this.scan < this.limit) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.line++;");
+        sb.append("        char c = this.buffer[this.scan++];");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.pos = 1;");
+        sb.append("        symbol = Symbol.getSymbol(c);");
         sb.append(System.getProperty("line.separator"));
         sb.append("      }");
         sb.append(System.getProperty("line.separator"));
         sb.append("      else {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        if(last_is_cr) {");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("          this.line++;");
+        sb.append("        if(this.scan == this.start) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          this.pos = 2;");
+        sb.append("          return null;");
         sb.append(System.getProperty("line.separator"));
         sb.append("        }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        else {");
+        sb.append("        this.scan_reached_eof = true;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          this.pos++;");
+        sb.append("        symbol = Symbol.Symbol_end;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(symbol == null) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        throw unexpectedCharacter();");
         sb.append(System.getProperty("line.separator"));
         sb.append("      }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("      this.last_is_cr = c == 13;");
+        sb.append("      state = transitionState.getTarget(symbol);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(state == null) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        throw unexpectedCharacter();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return (FinalState) state;");
+        sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("  String accept(int backCount) {");
+        sb.append("  // Consumes the buffered characters on which the current state loops to");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // itself, without going through the general transition dispatch.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private boolean spanSelfLoop(long[] selfLoop) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    char[] buffer = this.buffer;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int limit = this.limit;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int scan = this.scan;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    while(scan < limit) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    if(this.sb_contains_eof) {");
+        sb.append("      int symbol = Symbol.getSymbolIndex(buffer[scan]);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      this.sb_contains_eof = false;");
+        sb.append("      if(symbol == -1 || (selfLoop[symbol >>> 6] & (1L << symbol)) == 0) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      backCount--;");
+        sb.append("        break;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      scan++;");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    String text = this.sb.toString().substring(0, this.sb.length() - backCount);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    String leftover = this.sb.toString().substring(this.sb.length() - backCount, this.sb.length());");
+        sb.append("    boolean consumed = scan != this.scan;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.scan = scan;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return consumed;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  void acceptWithBackCount(int backCount) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    accept(lengthWithBackCount(backCount));");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    this.buffer.insert(0, leftover);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    updateLinePos(text);");
+        sb.append("  void skipWithBackCount(int backCount) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    return text;");
+        sb.append("    skip(lengthWithBackCount(backCount));");
         sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
@@ -0,0 +1,72 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MLexerTable {
+
+    private final String pName;
+
+    private final MLexerTable mLexerTable = this;
+
+    private final List<Object> eLexerTableChunk = new LinkedList<Object>();
+
+    MLexerTable(
+            String pName) {
+
+        if (pName == null) {
+            throw new NullPointerException();
+        }
+        this.pName = pName;
+    }
+
+    public MLexerTableChunk newLexerTableChunk(
+            String pValue) {
+
+        MLexerTableChunk lLexerTableChunk = new MLexerTableChunk(pValue);
+        this.eLexerTableChunk.add(lLexerTableChunk);
+        return lLexerTableChunk;
+    }
+
+    String pName() {
+
+        return this.pName;
+    }
+
+    private String rName() {
+
+        return this.mLexerTable.pName();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("  private static final int[] ");
+        sb.append(rName());
+        sb.append(" = Tables.unpack(new String[] {");
+        sb.append(System.getProperty("line.separator"));
+        {
+            boolean first = true;
+            for (Object oLexerTableChunk : this.eLexerTableChunk) {
+                if (first) {
+                    first = false;
+                }
+                else {
+                    sb.append(",");
+                    sb.append(System.getProperty("line.separator"));
+                }
+                sb.append(oLexerTableChunk.toString());
+            }
+        }
+        if (this.eLexerTableChunk.size() > 0) {
+            sb.append(System.getProperty("line.separator"));
+        }
+        sb.append("  });");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
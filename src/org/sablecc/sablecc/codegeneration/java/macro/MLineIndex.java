@@ -0,0 +1,202 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MLineIndex {
+
+    private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
+
+    public MLineIndex() {
+
+    }
+
+    public MDefaultPackage newDefaultPackage(
+            String pLanguageName) {
+
+        MDefaultPackage lDefaultPackage = new MDefaultPackage(pLanguageName);
+        this.eDefaultPackage_SpecifiedPackage.add(lDefaultPackage);
+        return lDefaultPackage;
+    }
+
+    public MSpecifiedPackage newSpecifiedPackage(
+            String pLanguageName,
+            String pPackage) {
+
+        MSpecifiedPackage lSpecifiedPackage = new MSpecifiedPackage(
+                pLanguageName, pPackage);
+        this.eDefaultPackage_SpecifiedPackage.add(lSpecifiedPackage);
+        return lSpecifiedPackage;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(new MHeader().toString());
+        if (this.eDefaultPackage_SpecifiedPackage.size() > 0) {
+            sb.append(System.getProperty("line.separator"));
+        }
+        for (Object oDefaultPackage_SpecifiedPackage : this.eDefaultPackage_SpecifiedPackage) {
+            sb.append(oDefaultPackage_SpecifiedPackage.toString());
+        }
+        sb.append(System.getProperty("line.separator"));
+        sb.append("final class LineIndex {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private long[] lineStarts;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int lineCount = 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final int firstLine;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private boolean last_is_cr;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  LineIndex() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this(false);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Creates the index of a region of the input that follows a carriage");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // return, or not.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  LineIndex(boolean afterCr) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.lineStarts = new long[256];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.firstLine = 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.last_is_cr = afterCr;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Creates the index of the single line that has the provided number and");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // starts at the provided offset.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  LineIndex(int line, long lineStart) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.lineStarts = new long[] { lineStart };");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.firstLine = line;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  void scan(char[] buffer, int offset, int length, long position) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int end = offset + length;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(int i = offset; i < end; i++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      char c = buffer[i];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(this.last_is_cr && c != 10) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        addLineStart(position + i - offset);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(c == 10) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        addLineStart(position + i - offset + 1);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.last_is_cr = c == 13;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Appends the line starts of the index of the region that follows.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  void append(LineIndex next) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(int i = 1; i < next.lineCount; i++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      addLineStart(next.lineStarts[i]);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private void addLineStart(long lineStart) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.lineCount == this.lineStarts.length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      long[] newLineStarts = new long[this.lineCount * 2];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      System.arraycopy(this.lineStarts, 0, newLineStarts, 0, this.lineCount);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.lineStarts = newLineStarts;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.lineStarts[this.lineCount++] = lineStart;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Returns the index of the last line starting at or before the offset.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int lineIndexOf(long offset) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int low = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int high = this.lineCount - 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    while(low < high) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      int middle = (low + high + 1) >>> 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(this.lineStarts[middle] <= offset) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        low = middle;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      else {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        high = middle - 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return low;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  int getLine(long offset) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.firstLine + lineIndexOf(offset);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  int getPos(long offset) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return (int) (offset - this.lineStarts[lineIndexOf(offset)]) + 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("}");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
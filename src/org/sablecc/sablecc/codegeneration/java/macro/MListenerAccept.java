@@ -0,0 +1,24 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MListenerAccept {
+
+    MListenerAccept() {
+
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("      if(parser.isListening()) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        return parser.accept();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
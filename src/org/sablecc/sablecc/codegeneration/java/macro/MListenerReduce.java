@@ -0,0 +1,78 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MListenerReduce {
+
+    private final String pAlternative;
+
+    private final String pLength;
+
+    private final MListenerReduce mListenerReduce = this;
+
+    private final MReduce mReduce;
+
+    MListenerReduce(
+            String pAlternative,
+            String pLength,
+            MReduce mReduce) {
+
+        if (pAlternative == null) {
+            throw new NullPointerException();
+        }
+        this.pAlternative = pAlternative;
+        if (pLength == null) {
+            throw new NullPointerException();
+        }
+        this.pLength = pLength;
+        if (mReduce == null) {
+            throw new NullPointerException();
+        }
+        this.mReduce = mReduce;
+    }
+
+    String pAlternative() {
+
+        return this.pAlternative;
+    }
+
+    String pLength() {
+
+        return this.pLength;
+    }
+
+    private String rReducedProduction() {
+
+        return this.mReduce.pReducedProduction();
+    }
+
+    private String rAlternative() {
+
+        return this.mListenerReduce.pAlternative();
+    }
+
+    private String rLength() {
+
+        return this.mListenerReduce.pLength();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("      if(parser.isListening()) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        return parser.reduce(CSTProductionType.");
+        sb.append(rReducedProduction());
+        sb.append(", ");
+        sb.append(rAlternative());
+        sb.append(", ");
+        sb.append(rLength());
+        sb.append(");");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,44 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MLr0Action {
+
+    private final List<Object> eShift_Reduce = new LinkedList<Object>();
+
+    MLr0Action() {
+
+    }
+
+    public MShift newShift() {
+
+        MShift lShift = new MShift();
+        this.eShift_Reduce.add(lShift);
+        return lShift;
+    }
+
+    public MReduce newReduce(
+            String pReducedProduction) {
+
+        MReduce lReduce = new MReduce(pReducedProduction);
+        this.eShift_Reduce.add(lReduce);
+        return lReduce;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("    {");
+        sb.append(System.getProperty("line.separator"));
+        for (Object oShift_Reduce : this.eShift_Reduce) {
+            sb.append(oShift_Reduce.toString());
+        }
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
@@ -2,19 +2,59 @@
 
 package org.sablecc.sablecc.codegeneration.java.macro;
 
+import java.util.*;
+
 public class MLr1OrMore {
 
+    private final List<Object> eDecisionSwitch = new LinkedList<Object>();
+
+    private final List<Object> eAction = new LinkedList<Object>();
+
     MLr1OrMore() {
 
     }
 
+    public MAction newAction(
+            String pIndex) {
+
+        MAction lAction = new MAction(pIndex);
+        this.eAction.add(lAction);
+        return lAction;
+    }
+
+    public MDecisionSwitch newDecisionSwitch(
+            String pIndent,
+            String pAhead) {
+
+        MDecisionSwitch lDecisionSwitch = new MDecisionSwitch(pIndent, pAhead);
+        this.eDecisionSwitch.add(lDecisionSwitch);
+        return lDecisionSwitch;
+    }
+
     @Override
     public String toString() {
 
         StringBuilder sb = new StringBuilder();
-        sb.append("    parser.shift();");
+        sb.append("    // the action selected by the lookahead, or -1 to shift");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int action = -1;");
+        sb.append(System.getProperty("line.separator"));
+        for (Object oDecisionSwitch : this.eDecisionSwitch) {
+            sb.append(oDecisionSwitch.toString());
+        }
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    switch(action) {");
+        sb.append(System.getProperty("line.separator"));
+        for (Object oAction : this.eAction) {
+            sb.append(oAction.toString());
+        }
+        sb.append("    default:");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      parser.shift();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return null;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    return null;");
+        sb.append("    }");
         sb.append(System.getProperty("line.separator"));
         return sb.toString();
     }
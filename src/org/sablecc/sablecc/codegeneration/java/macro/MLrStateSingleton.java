@@ -12,7 +12,7 @@ public class MLrStateSingleton {
 
     private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
 
-    private final List<Object> eDistance = new LinkedList<Object>();
+    private final List<Object> eLr0Action = new LinkedList<Object>();
 
     private final List<Object> eLr1OrMore = new LinkedList<Object>();
 
@@ -31,12 +31,11 @@ public class MLrStateSingleton {
         this.pNumber = pNumber;
     }
 
-    public MDistance newDistance(
-            String pDistance) {
+    public MLr0Action newLr0Action() {
 
-        MDistance lDistance = new MDistance(pDistance);
-        this.eDistance.add(lDistance);
-        return lDistance;
+        MLr0Action lLr0Action = new MLr0Action();
+        this.eLr0Action.add(lLr0Action);
+        return lLr0Action;
     }
 
     public MLr1OrMore newLr1OrMore() {
@@ -147,8 +146,8 @@ public class MLrStateSingleton {
         sb.append("      throws ParserException, LexerException, IOException {");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        for (Object oDistance : this.eDistance) {
-            sb.append(oDistance.toString());
+        for (Object oLr0Action : this.eLr0Action) {
+            sb.append(oLr0Action.toString());
         }
         for (Object oLr1OrMore : this.eLr1OrMore) {
             sb.append(oLr1OrMore.toString());
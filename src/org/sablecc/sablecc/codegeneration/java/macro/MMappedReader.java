@@ -0,0 +1,352 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MMappedReader {
+
+    private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
+
+    public MMappedReader() {
+
+    }
+
+    public MDefaultPackage newDefaultPackage(
+            String pLanguageName) {
+
+        MDefaultPackage lDefaultPackage = new MDefaultPackage(pLanguageName);
+        this.eDefaultPackage_SpecifiedPackage.add(lDefaultPackage);
+        return lDefaultPackage;
+    }
+
+    public MSpecifiedPackage newSpecifiedPackage(
+            String pLanguageName,
+            String pPackage) {
+
+        MSpecifiedPackage lSpecifiedPackage = new MSpecifiedPackage(
+                pLanguageName, pPackage);
+        this.eDefaultPackage_SpecifiedPackage.add(lSpecifiedPackage);
+        return lSpecifiedPackage;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(new MHeader().toString());
+        if (this.eDefaultPackage_SpecifiedPackage.size() > 0) {
+            sb.append(System.getProperty("line.separator"));
+        }
+        for (Object oDefaultPackage_SpecifiedPackage : this.eDefaultPackage_SpecifiedPackage) {
+            sb.append(oDefaultPackage_SpecifiedPackage.toString());
+        }
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.io.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.nio.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.nio.channels.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.nio.charset.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.nio.file.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("final class MappedReader");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    extends Reader {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final long WINDOW_SIZE = 1L << 26;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final int MAX_SEQUENCE_LENGTH = 16;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final FileChannel channel;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final long size;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final CharsetDecoder decoder;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final boolean latin1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final boolean asciiCompatible;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final CharBuffer spill = CharBuffer.allocate(2);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private MappedByteBuffer window;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private long windowStart;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private CharBuffer chars;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private boolean flushed;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  MappedReader(FileChannel channel, Charset charset)");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.channel = channel;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.size = channel.size();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.decoder = charset.newDecoder()");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        .onMalformedInput(CodingErrorAction.REPLACE)");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        .onUnmappableCharacter(CodingErrorAction.REPLACE);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.latin1 = charset.equals(StandardCharsets.ISO_8859_1);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.asciiCompatible = charset.equals(StandardCharsets.US_ASCII)");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        || charset.equals(StandardCharsets.UTF_8);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.spill.flip();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    map(0);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Opens the file for reading, closing the channel again if the reader");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // cannot be built on it.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  static MappedReader open(Path path, Charset charset)");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    try {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return new MappedReader(channel, charset);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    catch(IOException | RuntimeException e) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      try {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        channel.close();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      catch(IOException closeException) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        e.addSuppressed(closeException);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throw e;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private void map(long start)");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    long length = Math.min(WINDOW_SIZE, this.size - start);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.window = this.channel.map(FileChannel.MapMode.READ_ONLY, start, length);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.windowStart = start;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public int read(char[] cbuf, int off, int len)");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(len == 0) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.spill.hasRemaining()) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      cbuf[off] = this.spill.get();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int end = off + len;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int i = off;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    while(i == off) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      long windowEnd = this.windowStart + this.window.limit();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      boolean endOfInput = windowEnd == this.size;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(!endOfInput && this.window.remaining() < MAX_SEQUENCE_LENGTH) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        map(this.windowStart + this.window.position());");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        continue;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(!this.window.hasRemaining()) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        if(this.flushed) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          return -1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        i = decode(cbuf, off, end, true);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        continue;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      int p = this.window.position();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      int count = Math.min(this.window.remaining(), end - i);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(this.latin1) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        for(int j = 0; j < count; j++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          cbuf[i++] = (char) (this.window.get(p + j) & 0xFF);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        this.window.position(p + count);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      else {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        if(this.asciiCompatible) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          int limit = p + count;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          while(p < limit) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("            byte b = this.window.get(p);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("            if(b < 0) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("              break;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("            }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("            cbuf[i++] = (char) b;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("            p++;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          this.window.position(p);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        if(i == off) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          i = decode(cbuf, off, end, endOfInput);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return i - off;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int decode(char[] cbuf, int off, int end, boolean endOfInput) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.chars == null || this.chars.array() != cbuf) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.chars = CharBuffer.wrap(cbuf);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.chars.clear();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.chars.position(off);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.chars.limit(end);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    CoderResult result = this.decoder.decode(this.window, this.chars, endOfInput);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(endOfInput && !this.window.hasRemaining() && result.isUnderflow()) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      result = this.decoder.flush(this.chars);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.flushed = result.isUnderflow();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(result.isOverflow() && this.chars.position() == off) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      // a surrogate pair does not fit in the single remaining char");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.spill.clear();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.decoder.decode(this.window, this.spill, endOfInput);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.spill.flip();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(this.spill.hasRemaining()) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        this.chars.put(this.spill.get());");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.chars.position();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public void close()");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.channel.close();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("}");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
@@ -69,6 +69,13 @@ public class MNode {
         sb.append("  public abstract Type getType();");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
+        sb.append("  public ProductionType getProductionType() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return ProductionType.TNotAProduction;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
         sb.append("  public static enum Type {");
         sb.append(System.getProperty("line.separator"));
         for (Object oNodeTypeEnumEntry : this.eNodeTypeEnumEntry) {
@@ -102,6 +109,18 @@ public class MNode {
         sb.append("  public abstract void applyOnChildren(Walker walker);");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
+        sb.append("  abstract void pushChildren(IterativeWalker walker);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Lists push their elements instead of themselves.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  void pushOnto(IterativeWalker walker) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    walker.pushNode(this);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
         sb.append("  private Node parent;");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
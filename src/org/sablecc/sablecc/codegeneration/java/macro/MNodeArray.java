@@ -0,0 +1,188 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MNodeArray {
+
+    private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
+
+    public MNodeArray() {
+
+    }
+
+    public MDefaultPackage newDefaultPackage(
+            String pLanguageName) {
+
+        MDefaultPackage lDefaultPackage = new MDefaultPackage(pLanguageName);
+        this.eDefaultPackage_SpecifiedPackage.add(lDefaultPackage);
+        return lDefaultPackage;
+    }
+
+    public MSpecifiedPackage newSpecifiedPackage(
+            String pLanguageName,
+            String pPackage) {
+
+        MSpecifiedPackage lSpecifiedPackage = new MSpecifiedPackage(
+                pLanguageName, pPackage);
+        this.eDefaultPackage_SpecifiedPackage.add(lSpecifiedPackage);
+        return lSpecifiedPackage;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(new MHeader().toString());
+        if (this.eDefaultPackage_SpecifiedPackage.size() > 0) {
+            sb.append(System.getProperty("line.separator"));
+        }
+        for (Object oDefaultPackage_SpecifiedPackage : this.eDefaultPackage_SpecifiedPackage) {
+            sb.append(oDefaultPackage_SpecifiedPackage.toString());
+        }
+        sb.append(System.getProperty("line.separator"));
+        sb.append("/**");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * A growable array of nodes with free room at both ends. Appending a whole");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * array copies the shorter of the two arrays into the room of the longer one,");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * so that lists built by left or right recursion are appended in amortized");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * constant time per node.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" */");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("final class NodeArray {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final Node[] EMPTY = new Node[0];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final int INITIAL_CAPACITY = 8;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private Node[] nodes = EMPTY;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int first;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int count;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  int size() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.count;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  Node get(int index) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(index < 0 || index >= this.count) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throw new IndexOutOfBoundsException(\"index: \" + index + \", size: \" + this.count);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.nodes[this.first + index];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  void add(Node node) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.first + this.count == this.nodes.length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      grow(0, 1);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.nodes[this.first + this.count++] = node;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Appends the nodes of the provided array, which is left empty.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  void addAll(NodeArray other) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(other == this) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throw new IllegalArgumentException(\"a list may not be appended to itself\");");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(other.count > this.count) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(other.first < this.count) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        other.grow(this.count, 0);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      other.first -= this.count;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      other.count += this.count;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      System.arraycopy(this.nodes, this.first, other.nodes, other.first, this.count);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.nodes = other.nodes;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.first = other.first;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.count = other.count;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    else {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(this.first + this.count + other.count > this.nodes.length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        grow(0, other.count);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      System.arraycopy(other.nodes, other.first, this.nodes, this.first + this.count, other.count);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.count += other.count;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    other.nodes = EMPTY;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    other.first = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    other.count = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Doubles the capacity, keeping the room where it was asked for.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private void grow(int before, int after) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int capacity = Math.max(INITIAL_CAPACITY, 2 * (this.count + before + after));");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    Node[] nodes = new Node[capacity];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int first = before == 0 ? 0 : capacity - this.count - after;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    System.arraycopy(this.nodes, this.first, nodes, first, this.count);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.nodes = nodes;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.first = first;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("}");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
@@ -45,115 +45,99 @@ public class MNodeList {
         sb.append("import java.util.*;");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("public class NodeList<TNode extends Node>extends Node");
+        sb.append("/**");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        implements Iterable<TNode> {");
+        sb.append(" * A list of nodes. Appending a whole list with <code>addAll</code> moves its");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
+        sb.append(" * nodes instead of copying them: the appended list is left empty.");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        int lowerBound;");
+        sb.append(" */");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        int upperBound;");
+        sb.append("public class NodeList<TNode extends Node>");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
+        sb.append("    extends Node");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        int size = 0;");
+        sb.append("    implements Iterable<TNode> {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        private final int INF = -1;");
+        sb.append("  int lowerBound;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        Entry<TNode> header = new Entry<TNode>(null,null,null);");
+        sb.append("  int upperBound;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        NodeList(){");
+        sb.append("  private final int INF = -1;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("                this.header.next = this.header.previous = this.header;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
+        sb.append("  final NodeArray elements = new NodeArray();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        NodeList(int lowerBound){");
+        sb.append("  NodeList() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            this.header.next = this.header.previous = this.header;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("                this.lowerBound = lowerBound;");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("                this.upperBound = INF;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
+        sb.append("  NodeList(int lowerBound) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
+        sb.append("    this.lowerBound = lowerBound;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        NodeList(int lowerBound,int upperBound){");
+        sb.append("    this.upperBound = INF;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            this.header.next = this.header.previous = this.header;");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            this.lowerBound = lowerBound;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("                this.upperBound = upperBound;");
+        sb.append("  NodeList(int lowerBound, int upperBound) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
+        sb.append("    this.lowerBound = lowerBound;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
+        sb.append("    this.upperBound = upperBound;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        void add(TNode element){");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("                 Entry<TNode> newEntry = new Entry<TNode>(element, this.header, this.header.previous);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("                 newEntry.previous.next = newEntry;");
+        sb.append("  void add(TNode element) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("                 newEntry.next.previous = newEntry;");
+        sb.append("    this.elements.add(element);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("                 size++;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("                 ");
+        sb.append("    // TODO Control list bounds");
         sb.append(System.getProperty("line.separator"));
-        sb.append("                 //TODO Control list bounds");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
+        sb.append("  // The provided list is left empty.");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        void addAll(NodeList<TNode> elements){");
+        sb.append("  void addAll(NodeList<TNode> elements) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("                this.header.previous.next = elements.header.next;");
+        sb.append("    this.elements.addAll(elements.elements);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("                elements.header.next.previous = this.header.previous;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("                this.header.previous = elements.header.previous;");
+        sb.append("    // TODO Control list bounds");
         sb.append(System.getProperty("line.separator"));
-        sb.append("                elements.header.previous.next = this.header;");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("                this.size += elements.size;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("                ");
+        sb.append("  public int size() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("                //TODO Control list bounds");
+        sb.append("    return this.elements.size();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        public int size(){");
+        sb.append("  @SuppressWarnings(\"unchecked\")");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
+        sb.append("  public TNode get(int index) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("                return size;");
+        sb.append("    return (TNode) this.elements.get(index);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
         sb.append(System.getProperty("line.separator"));
-        sb.append(" @Override");
+        sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
         sb.append("  public String getText() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          return \"\";");
+        sb.append("    return \"\";");
         sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
@@ -175,7 +159,6 @@ public class MNodeList {
         sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  ");
         sb.append(System.getProperty("line.separator"));
         sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
@@ -185,57 +168,92 @@ public class MNodeList {
         sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  ");
         sb.append(System.getProperty("line.separator"));
         sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
         sb.append("  public void applyOnChildren(Walker walker) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        for (TNode node : this) {");
+        sb.append("    for(int i = 0; i < this.elements.size(); i++) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            node.apply(walker);");
+        sb.append("      this.elements.get(i).apply(walker);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
+        sb.append("    }");
         sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  ");
         sb.append(System.getProperty("line.separator"));
         sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  public void apply(Walker walker){");
+        sb.append("  public void apply(Walker walker) {");
         sb.append(System.getProperty("line.separator"));
         sb.append("    this.applyOnChildren(walker);");
         sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  ");
         sb.append(System.getProperty("line.separator"));
         sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  public Iterator<TNode> iterator(){");
+        sb.append("  void pushChildren(IterativeWalker walker) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          return new NodeListItr();");
+        sb.append("    for(int i = 0; i < this.elements.size(); i++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      walker.push(this.elements.get(i));");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
         sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  ");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  private class NodeListItr");
+        sb.append("  @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  void pushOnto(IterativeWalker walker) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    pushChildren(walker);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            implements Iterator<TNode> {");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("    private int cursor = 0;");
+        sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  public Iterator<TNode> iterator() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    private Entry<TNode> current;");
+        sb.append("    return new Cursor<TNode>(this);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("    NodeListItr() {");
+        sb.append("  // A cursor can be reset to iterate over another list without allocating.");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  public static final class Cursor<TNode extends Node>");
         sb.append(System.getProperty("line.separator"));
-        sb.append("         this.current = NodeList.this.header;");
+        sb.append("      implements Iterator<TNode> {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    private NodeList<TNode> list;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    private int index;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    public Cursor() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    public Cursor(NodeList<TNode> list) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      reset(list);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    public Cursor<TNode> reset(NodeList<TNode> list) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.list = list;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.index = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return this;");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
@@ -244,8 +262,7 @@ public class MNodeList {
         sb.append(System.getProperty("line.separator"));
         sb.append("    public boolean hasNext() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        return this.cursor != size();");
+        sb.append("      return this.index < this.list.size();");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
@@ -254,12 +271,13 @@ public class MNodeList {
         sb.append(System.getProperty("line.separator"));
         sb.append("    public TNode next() {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("      if(!hasNext()) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.cursor++;");
+        sb.append("        throw new NoSuchElementException();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        current = this.current.next;");
+        sb.append("      }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        return this.current.element;");
+        sb.append("      return this.list.get(this.index++);");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
@@ -268,12 +286,12 @@ public class MNodeList {
         sb.append(System.getProperty("line.separator"));
         sb.append("    public void remove() {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("      throw new UnsupportedOperationException();");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  ");
         sb.append(System.getProperty("line.separator"));
         sb.append("}");
         sb.append(System.getProperty("line.separator"));
@@ -0,0 +1,41 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MNormalChildPush {
+
+    private final String pElementName;
+
+    private final MNormalChildPush mNormalChildPush = this;
+
+    MNormalChildPush(
+            String pElementName) {
+
+        if (pElementName == null) {
+            throw new NullPointerException();
+        }
+        this.pElementName = pElementName;
+    }
+
+    String pElementName() {
+
+        return this.pElementName;
+    }
+
+    private String rElementName() {
+
+        return this.mNormalChildPush.pElementName();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("    walker.push(this.e");
+        sb.append(rElementName());
+        sb.append(");");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
@@ -67,9 +67,9 @@ public class MNormalParameter {
         StringBuilder sb = new StringBuilder();
         sb.append("(N");
         sb.append(rElementType());
-        sb.append(") l");
+        sb.append(") stack.get(l");
         sb.append(rElementName());
-        sb.append(".getNodes().get(");
+        sb.append(" + ");
         sb.append(rIndex());
         sb.append(")");
         return sb.toString();
@@ -0,0 +1,41 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MNormalTokenType {
+
+    private final String pTokenName;
+
+    private final MNormalTokenType mNormalTokenType = this;
+
+    MNormalTokenType(
+            String pTokenName) {
+
+        if (pTokenName == null) {
+            throw new NullPointerException();
+        }
+        this.pTokenName = pTokenName;
+    }
+
+    String pTokenName() {
+
+        return this.pTokenName;
+    }
+
+    private String rTokenName() {
+
+        return this.mNormalTokenType.pTokenName();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("    return Token.InternalType.T_");
+        sb.append(rTokenName());
+        sb.append(".ordinal();");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
@@ -45,466 +45,331 @@ public class MPairNodeList {
         sb.append("import java.util.*;");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("public class PairNodeList<TNodeLeft extends Node, TNodeRight extends Node>");
+        sb.append("/**");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        extends Node {");
+        sb.append(" * A list of pairs of nodes, kept as a list of left nodes and a list of right");
         sb.append(System.getProperty("line.separator"));
+        sb.append(" * nodes. Appending a whole list with <code>addAll</code> or");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    int lowerBound;");
+        sb.append(" * <code>addAllReverse</code> moves its nodes instead of copying them: the");
         sb.append(System.getProperty("line.separator"));
+        sb.append(" * appended list is left empty.");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    int upperBound;");
+        sb.append(" */");
         sb.append(System.getProperty("line.separator"));
+        sb.append("public class PairNodeList<TNodeLeft extends Node, TNodeRight extends Node>");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    int size = 0;");
+        sb.append("    extends Node {");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("    private final int INF = -1;");
+        sb.append("  int lowerBound;");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("    Entry<TNodeLeft> leftHeader = new Entry<TNodeLeft>(null, null, null);");
+        sb.append("  int upperBound;");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("    Entry<TNodeRight> rightHeader = new Entry<TNodeRight>(null, null, null);");
+        sb.append("  private final int INF = -1;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    ");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    PairNodeList(){");
+        sb.append("  final NodeArray left = new NodeArray();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.leftHeader.next = this.leftHeader.previous = this.leftHeader;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.rightHeader.next = this.rightHeader.previous = this.rightHeader;");
+        sb.append("  final NodeArray right = new NodeArray();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    ");
+        sb.append("  PairNodeList() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    PairNodeList(int lowerBound){");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.leftHeader.next = this.leftHeader.previous = this.leftHeader;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.rightHeader.next = this.rightHeader.previous = this.rightHeader;");
+        sb.append("  PairNodeList(int lowerBound) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.lowerBound = lowerBound;");
+        sb.append("    this.lowerBound = lowerBound;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.upperBound = INF;");
+        sb.append("    this.upperBound = INF;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    ");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    PairNodeList(int lowerBound,int upperBound){");
+        sb.append("  PairNodeList(int lowerBound, int upperBound) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.leftHeader.next = this.leftHeader.previous = this.leftHeader;");
+        sb.append("    this.lowerBound = lowerBound;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.rightHeader.next = this.rightHeader.previous = this.rightHeader;");
+        sb.append("    this.upperBound = upperBound;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.lowerBound = lowerBound;");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.upperBound = upperBound;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
+        sb.append("  void addLeft(TNodeLeft element) {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    this.left.add(element);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    void addLeft(");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            TNodeLeft element) {");
+        sb.append("    // TODO Control list bounds");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        Entry<TNodeLeft> newEntry = new Entry<TNodeLeft>(element,");
         sb.append(System.getProperty("line.separator"));
-        sb.append("                this.leftHeader, this.leftHeader.previous);");
+        sb.append("  void addRight(TNodeRight element) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        newEntry.previous.next = newEntry;");
+        sb.append("    this.right.add(element);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        newEntry.next.previous = newEntry;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.size++;");
+        sb.append("    // TODO Control list bounds");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        // TODO Control list bounds");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
+        sb.append("  // The provided list is left empty.");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  void addAll(PairNodeList<TNodeLeft, TNodeRight> elements) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    void addRight(");
+        sb.append("    this.left.addAll(elements.left);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            TNodeRight element) {");
+        sb.append("    this.right.addAll(elements.right);");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("        Entry<TNodeRight> newEntry = new Entry<TNodeRight>(element,");
+        sb.append("    // TODO Control list bounds");
         sb.append(System.getProperty("line.separator"));
-        sb.append("                this.rightHeader, this.rightHeader.previous);");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        newEntry.previous.next = newEntry;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        newEntry.next.previous = newEntry;");
+        sb.append("  // The provided list is left empty.");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.size++;");
+        sb.append("  void addAll(SeparatedNodeList<TNodeLeft, TNodeRight> elements) {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    this.left.addAll(elements.left);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        // TODO Control list bounds");
+        sb.append("    this.right.addAll(elements.right);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    // TODO Control list bounds");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    void addAll(");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            PairNodeList<TNodeLeft, TNodeRight> elements) {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  // The provided list is left empty.");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.leftHeader.previous.next = elements.leftHeader.next;");
+        sb.append("  void addAllReverse(SeparatedNodeList<TNodeRight, TNodeLeft> elements) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        elements.leftHeader.next.previous = this.leftHeader.previous;");
+        sb.append("    this.left.addAll(elements.right);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.leftHeader.previous = elements.leftHeader.previous;");
+        sb.append("    this.right.addAll(elements.left);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        elements.leftHeader.previous.next = this.leftHeader;");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    // TODO Control list bounds");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.rightHeader.previous.next = elements.rightHeader.next;");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        elements.rightHeader.next.previous = this.rightHeader.previous;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.rightHeader.previous = elements.rightHeader.previous;");
+        sb.append("  NodeList<TNodeLeft> getLeft() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        elements.rightHeader.previous.next = this.rightHeader;");
+        sb.append("    NodeList<TNodeLeft> list = new NodeList<TNodeLeft>();");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    for(int i = 0; i < this.left.size(); i++) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.size += elements.size;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        // TODO Control list bounds");
+        sb.append("      list.add(getLeft(i));");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    ");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("     void addAll(");
+        sb.append("    return list;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            SeparatedNodeList<TNodeLeft, TNodeRight> elements) {");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.leftHeader.previous.next = elements.leftHeader.next;");
+        sb.append("  NodeList<TNodeRight> getRight() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        elements.leftHeader.next.previous = this.leftHeader.previous;");
+        sb.append("    NodeList<TNodeRight> list = new NodeList<TNodeRight>();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.leftHeader.previous = elements.leftHeader.previous;");
+        sb.append("    for(int i = 0; i < this.right.size(); i++) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        elements.leftHeader.previous.next = this.leftHeader;");
+        sb.append("      list.add(getRight(i));");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.rightHeader.previous.next = elements.rightHeader.next;");
+        sb.append("    return list;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        elements.rightHeader.next.previous = this.rightHeader.previous;");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.rightHeader.previous = elements.rightHeader.previous;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        elements.rightHeader.previous.next = this.rightHeader;");
+        sb.append("  @SuppressWarnings(\"unchecked\")");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  public TNodeLeft getLeft(int index) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.size += elements.size;");
+        sb.append("    return (TNodeLeft) this.left.get(index);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        // TODO Control list bounds");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    ");
+        sb.append("  @SuppressWarnings(\"unchecked\")");
         sb.append(System.getProperty("line.separator"));
-        sb.append("     void addAllReverse(");
+        sb.append("  public TNodeRight getRight(int index) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            SeparatedNodeList<TNodeRight, TNodeLeft> elements) {");
+        sb.append("    return (TNodeRight) this.right.get(index);");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            this.leftHeader.previous.next = elements.rightHeader.next;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            elements.leftHeader.next.previous = this.rightHeader.previous;");
+        sb.append("  public Iterator<TNodeLeft> leftIterator() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            this.leftHeader.previous = elements.rightHeader.previous;");
+        sb.append("    return new Itr<TNodeLeft>(this.left);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            elements.leftHeader.previous.next = this.rightHeader;");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("            this.rightHeader.previous.next = elements.leftHeader.next;");
+        sb.append("  public Iterator<TNodeRight> rightIterator() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            elements.rightHeader.next.previous = this.leftHeader.previous;");
+        sb.append("    return new Itr<TNodeRight>(this.right);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            this.rightHeader.previous = elements.leftHeader.previous;");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            elements.rightHeader.previous.next = this.leftHeader;");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  // Returns the number of left and right elements.");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.size += elements.size;");
+        sb.append("  public int size() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        // TODO Control list bounds");
+        sb.append("    return this.left.size() + this.right.size();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    ");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    NodeList<TNodeLeft> getLeft(){");
+        sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        NodeList<TNodeLeft> list = new NodeList<TNodeLeft>();");
+        sb.append("  public Type getType() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        Iterator<TNodeLeft> leftIterator = this.leftIterator();");
+        sb.append("    return Type.TAnonymous;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        while(leftIterator.hasNext()){");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            list.add(leftIterator.next());");
+        sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
+        sb.append("  public String getText() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
+        sb.append("    return \"\";");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        return list;    ");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    ");
+        sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    NodeList<TNodeRight> getRight(){");
+        sb.append("  public int getLine() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        NodeList<TNodeRight> list = new NodeList<TNodeRight>();");
+        sb.append("    return 0;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        Iterator<TNodeRight> rightIterator = this.rightIterator();");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        while(rightIterator.hasNext()){");
+        sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            list.add(rightIterator.next());");
+        sb.append("  public int getPos() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
+        sb.append("    return 0;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        return list;    ");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
+        sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  public void apply(Walker walker) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    public Iterator<TNodeLeft> leftIterator() {");
+        sb.append("    this.applyOnChildren(walker);");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        return new LeftNodeListItr();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
+        sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    ");
+        sb.append("  public void applyOnChildren(Walker walker) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    public Iterator<TNodeRight> rightIterator() {");
+        sb.append("    for(int i = 0; i < this.left.size(); i++) {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("      this.left.get(i).apply(walker);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        return new RightNodeListItr();");
+        sb.append("      this.right.get(i).apply(walker);");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    public int size() {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        return this.size;");
+        sb.append("  void pushChildren(IterativeWalker walker) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("    @Override");
+        sb.append("    for(int i = 0; i < this.left.size(); i++) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    public Type getType() {");
+        sb.append("      walker.push(this.left.get(i));");
         sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        return Type.TAnonymous;");
+        sb.append("      walker.push(this.right.get(i));");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    public String getText() {");
+        sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  void pushOnto(IterativeWalker walker) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        return \"\";");
+        sb.append("    pushChildren(walker);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("    @Override");
+        sb.append("  private static class Itr<TNode extends Node>");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    public int getLine() {");
+        sb.append("      implements Iterator<TNode> {");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("        return 0;");
+        sb.append("    private final NodeArray nodes;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    private int index;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    public int getPos() {");
+        sb.append("    Itr(NodeArray nodes) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        return 0;");
+        sb.append("      this.nodes = nodes;");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
         sb.append("    @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    public void apply(");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            Walker walker) {");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        this.applyOnChildren(walker);");
+        sb.append("    public boolean hasNext() {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("      return this.index < this.nodes.size();");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
         sb.append("    @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    public void applyOnChildren(");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            Walker walker) {");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        Iterator<TNodeLeft> leftIterator = leftIterator();");
+        sb.append("    @SuppressWarnings(\"unchecked\")");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        Iterator<TNodeRight> rightIterator = rightIterator();");
+        sb.append("    public TNode next() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
+        sb.append("      if(!hasNext()) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        while(leftIterator.hasNext()){");
+        sb.append("        throw new NoSuchElementException();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            leftIterator.next().apply(walker);");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            rightIterator.next().apply(walker);");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
+        sb.append("      }");
         sb.append(System.getProperty("line.separator"));
+        sb.append("      return (TNode) this.nodes.get(this.index++);");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("    private class LeftNodeListItr");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            implements Iterator<TNodeLeft> {");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        private int cursor = 0;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        private int size;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        private Entry<TNodeLeft> current;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        LeftNodeListItr() {");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            this.current = PairNodeList.this.leftHeader;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            this.size = size() /2;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        @Override");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        public boolean hasNext() {");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            return this.cursor != size;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        @Override");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        public TNodeLeft next() {");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            this.cursor++;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            this.current = this.current.next;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            return this.current.element;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        @Override");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        public void remove() {");
+        sb.append("    @Override");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    public void remove() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
+        sb.append("      throw new UnsupportedOperationException();");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("    private class RightNodeListItr");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            implements Iterator<TNodeRight> {");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        private int cursor = 0;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        private int size;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        private Entry<TNodeRight> current;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        RightNodeListItr() {");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            this.current = PairNodeList.this.rightHeader;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            this.size = size() /2;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        @Override");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        public boolean hasNext() {");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            return this.cursor != size;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        @Override");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        public TNodeRight next() {");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            this.cursor++;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            this.current = this.current.next;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            return this.current.element;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        @Override");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        public void remove() {");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
         sb.append("}");
@@ -0,0 +1,470 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MParallelLexer {
+
+    private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
+
+    public MParallelLexer() {
+
+    }
+
+    public MDefaultPackage newDefaultPackage(
+            String pLanguageName) {
+
+        MDefaultPackage lDefaultPackage = new MDefaultPackage(pLanguageName);
+        this.eDefaultPackage_SpecifiedPackage.add(lDefaultPackage);
+        return lDefaultPackage;
+    }
+
+    public MSpecifiedPackage newSpecifiedPackage(
+            String pLanguageName,
+            String pPackage) {
+
+        MSpecifiedPackage lSpecifiedPackage = new MSpecifiedPackage(
+                pLanguageName, pPackage);
+        this.eDefaultPackage_SpecifiedPackage.add(lSpecifiedPackage);
+        return lSpecifiedPackage;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(new MHeader().toString());
+        if (this.eDefaultPackage_SpecifiedPackage.size() > 0) {
+            sb.append(System.getProperty("line.separator"));
+        }
+        for (Object oDefaultPackage_SpecifiedPackage : this.eDefaultPackage_SpecifiedPackage) {
+            sb.append(oDefaultPackage_SpecifiedPackage.toString());
+        }
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.io.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.nio.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.util.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.util.concurrent.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("public final class ParallelLexer {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final int BLOCK_SIZE = 8192;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private ParallelLexer() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public static List<List<Token>> tokenize(CharSequence input, int threadCount)");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws LexerException, IOException, InterruptedException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    ExecutorService executor = Executors.newFixedThreadPool(threadCount);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    try {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return tokenize(input, threadCount, executor);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    finally {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      executor.shutdown();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Splits the input in chunks that are lexed concurrently, each from its");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // first character. As a token only depends on the offset at which it");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // starts, a chunk is in step with the sequential token stream from the");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // first token start they share; the tokens before it are lexed again.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // The result holds, for each chunk, the tokens that start in it, and is");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // exactly the sequential token stream, ignored tokens excluded.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  //");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // The lines of the chunks are indexed concurrently first, and their");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // indexes are merged, so that the chunks are lexed with the positions");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // of the whole input.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public static List<List<Token>> tokenize(CharSequence input, int chunkCount, ExecutorService executor)");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws LexerException, IOException, InterruptedException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(chunkCount < 1) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throw new IllegalArgumentException(\"chunkCount must be positive\");");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int length = input.length();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    chunkCount = Math.max(1, Math.min(chunkCount, length));");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    long[] bounds = new long[chunkCount + 1];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(int i = 0; i < chunkCount; i++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      bounds[i] = (long) length * i / chunkCount;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    bounds[chunkCount] = Long.MAX_VALUE;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    List<Future<LineIndex>> indexers = new ArrayList<Future<LineIndex>>(chunkCount);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(int i = 0; i < chunkCount; i++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      indexers.add(executor.submit(new LineIndexer(input, bounds[i], bounds[i + 1])));");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    LineIndex lineIndex = new LineIndex();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(Future<LineIndex> indexer : indexers) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      lineIndex.append(get(indexer));");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    List<Future<Chunk>> futures = new ArrayList<Future<Chunk>>(chunkCount);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(int i = 0; i < chunkCount; i++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      futures.add(executor.submit(new Chunk(input, bounds[i], bounds[i + 1], lineIndex)));");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    List<Chunk> chunks = new ArrayList<Chunk>(chunkCount);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(Future<Chunk> future : futures) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      chunks.add(get(future));");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    List<List<Token>> result = new ArrayList<List<Token>>(chunkCount);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    long offset = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(Chunk chunk : chunks) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      List<Token> tokens = new ArrayList<Token>();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      Lexer lexer = null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      while(offset < chunk.end) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        int index = chunk.indexOf(offset);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        if(index != -1) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          offset = chunk.copyFrom(index, tokens);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          lexer = null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          continue;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        if(lexer == null) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          lexer = new Lexer(new SequenceReader(input, offset), offset, lineIndex);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        Token token = lexer.internalNext();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        if(token == null) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          offset = lexer.getNextOffset();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        else {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          tokens.add(token);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          offset = token instanceof End ? Long.MAX_VALUE : lexer.getNextOffset();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      result.add(tokens);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return result;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static <T> T get(Future<T> future)");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws IOException, InterruptedException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    try {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return future.get();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    catch(ExecutionException e) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      Throwable cause = e.getCause();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(cause instanceof IOException) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        throw (IOException) cause;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(cause instanceof RuntimeException) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        throw (RuntimeException) cause;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throw (Error) cause;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Indexes the lines that start in a region of the input.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final class LineIndexer");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      implements Callable<LineIndex> {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    private final CharSequence input;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    private final long start;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    private final long end;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    LineIndexer(CharSequence input, long start, long end) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.input = input;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.start = start;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.end = end;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    public LineIndex call() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      int from = (int) this.start;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      int to = (int) Math.min(this.end, this.input.length());");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      LineIndex lineIndex = new LineIndex(from > 0 && this.input.charAt(from - 1) == 13);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      CharBuffer source = CharBuffer.wrap(this.input, from, to);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      char[] block = new char[BLOCK_SIZE];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      long position = from;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      while(source.hasRemaining()) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        int length = Math.min(BLOCK_SIZE, source.remaining());");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        source.get(block, 0, length);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        lineIndex.scan(block, 0, length, position);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        position += length;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return lineIndex;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final class Chunk");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      implements Callable<Chunk> {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    private final CharSequence input;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    private final long start;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    private final long end;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    private final LineIndex lineIndex;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    // the start offset of each token lexed from the chunk start, and the");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    // token, or null for an ignored token");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    private long[] offsets = new long[64];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    private Token[] tokens = new Token[64];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    private int count;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    // the offset that follows the last token, or where lexing failed");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    private long nextOffset;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    Chunk(CharSequence input, long start, long end, LineIndex lineIndex) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.input = input;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.start = start;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.end = end;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.lineIndex = lineIndex;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    public Chunk call()");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        throws IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      // The lexer stops before the end of input, as End would not be kept.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      Lexer lexer = new Lexer(new SequenceReader(this.input, this.start), this.start, this.lineIndex);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      long offset = this.start;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      long last = Math.min(this.end, this.input.length());");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      try {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        while(offset < last) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          add(offset, lexer.internalNext());");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          offset = lexer.getNextOffset();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      catch(LexerException e) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        // the chunk start may not be a token start; the sequential stream");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        // will lex this offset again if it ever reaches it");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.nextOffset = offset;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return this;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    private void add(long offset, Token token) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(this.count == this.offsets.length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        this.offsets = Arrays.copyOf(this.offsets, this.count * 2);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        this.tokens = Arrays.copyOf(this.tokens, this.count * 2);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.offsets[this.count] = offset;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.tokens[this.count] = token;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.count++;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    private int indexOf(long offset) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      int index = Arrays.binarySearch(this.offsets, 0, this.count, offset);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return index < 0 ? -1 : index;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    // Appends the tokens from the provided index, and returns the offset that");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    // follows them.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    private long copyFrom(int index, List<Token> result) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      for(int i = index; i < this.count; i++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        Token token = this.tokens[i];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        if(token != null) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          result.add(token);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return this.nextOffset;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("}");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
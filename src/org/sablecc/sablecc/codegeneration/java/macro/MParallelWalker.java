@@ -0,0 +1,289 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MParallelWalker {
+
+    private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
+
+    public MParallelWalker() {
+
+    }
+
+    public MDefaultPackage newDefaultPackage(
+            String pLanguageName) {
+
+        MDefaultPackage lDefaultPackage = new MDefaultPackage(pLanguageName);
+        this.eDefaultPackage_SpecifiedPackage.add(lDefaultPackage);
+        return lDefaultPackage;
+    }
+
+    public MSpecifiedPackage newSpecifiedPackage(
+            String pLanguageName,
+            String pPackage) {
+
+        MSpecifiedPackage lSpecifiedPackage = new MSpecifiedPackage(
+                pLanguageName, pPackage);
+        this.eDefaultPackage_SpecifiedPackage.add(lSpecifiedPackage);
+        return lSpecifiedPackage;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(new MHeader().toString());
+        if (this.eDefaultPackage_SpecifiedPackage.size() > 0) {
+            sb.append(System.getProperty("line.separator"));
+        }
+        for (Object oDefaultPackage_SpecifiedPackage : this.eDefaultPackage_SpecifiedPackage) {
+            sb.append(oDefaultPackage_SpecifiedPackage.toString());
+        }
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.util.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.util.concurrent.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("/**");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * A ParallelWalker walks a tree with several walkers at once, for analyses");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * that only read the tree. The children of a node that has more children");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * than the threshold, such as the elements of a long list, are split in");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * ranges walked by forked tasks. Each task walks with its own walker, created");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * by the factory, and the results of the walkers are merged by the combiner.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" *");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * A walker only sees the nodes of its own task, and the walker that forks a");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * task goes on with the nodes that follow, so callbacks may not rely on the");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * ancestors or neighbours of a node having been visited by the same walker,");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * and the combiner must be associative and commutative. TERMINATE only ends");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * the walk of the current task.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" *");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * The tasks may read the same tokens. A token computes its line and position");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * from its offset without caching them, and caches its text in a String");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" * field, so concurrent reads at worst build the same text twice.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(" */");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("public class ParallelWalker<W extends IterativeWalker, R> {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public static interface WalkerFactory<W extends IterativeWalker> {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    W newWalker();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public static interface Combiner<W extends IterativeWalker, R> {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    R getResult(W walker);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    R combine(R first, R second);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Lets a walker hand the children of a node to forked tasks.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  static interface Splitter {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    boolean split(Node[] nodes, int from, int to);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final WalkerFactory<W> factory;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final Combiner<W, R> combiner;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final int threshold;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final ForkJoinPool pool;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public ParallelWalker(WalkerFactory<W> factory, Combiner<W, R> combiner, int threshold) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this(factory, combiner, threshold, ForkJoinPool.commonPool());");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public ParallelWalker(WalkerFactory<W> factory, Combiner<W, R> combiner, int threshold, ForkJoinPool pool) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(factory == null || combiner == null || pool == null) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throw new NullPointerException();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(threshold < 1) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throw new IllegalArgumentException(\"threshold must be positive\");");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.factory = factory;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.combiner = combiner;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.threshold = threshold;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.pool = pool;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public R walk(Node node) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.pool.invoke(new WalkTask(new Node[] { node }, 0, 1));");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private class WalkTask");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      extends RecursiveTask<R>");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      implements Splitter {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    private final Node[] nodes;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    private final int from;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    private final int to;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    private List<WalkTask> forked;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    WalkTask(Node[] nodes, int from, int to) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.nodes = nodes;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.from = from;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.to = to;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    protected R compute() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(this.to - this.from > ParallelWalker.this.threshold) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        int middle = (this.from + this.to) >>> 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        WalkTask second = new WalkTask(this.nodes, middle, this.to);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        second.fork();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        R first = new WalkTask(this.nodes, this.from, middle).compute();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        return ParallelWalker.this.combiner.combine(first, second.join());");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      W walker = ParallelWalker.this.factory.newWalker();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      walker.splitter = this;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      try {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        for(int i = this.from; i < this.to; i++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          if(!walker.walk(this.nodes[i])) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("            break;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      finally {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        walker.splitter = null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      R result = ParallelWalker.this.combiner.getResult(walker);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(this.forked != null) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        // the last forked task is the most likely to be joined in place");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        for(int i = this.forked.size() - 1; i >= 0; i--) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          result = ParallelWalker.this.combiner.combine(result, this.forked.get(i).join());");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return result;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    public boolean split(Node[] nodes, int from, int to) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(to - from <= ParallelWalker.this.threshold) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        return false;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      WalkTask task = new WalkTask(Arrays.copyOfRange(nodes, from, to), 0, to - from);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      task.fork();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(this.forked == null) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        this.forked = new ArrayList<WalkTask>();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.forked.add(task);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return true;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("}");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
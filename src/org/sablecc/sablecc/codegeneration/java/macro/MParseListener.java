@@ -0,0 +1,85 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MParseListener {
+
+    private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
+
+    public MParseListener() {
+
+    }
+
+    public MDefaultPackage newDefaultPackage(
+            String pLanguageName) {
+
+        MDefaultPackage lDefaultPackage = new MDefaultPackage(pLanguageName);
+        this.eDefaultPackage_SpecifiedPackage.add(lDefaultPackage);
+        return lDefaultPackage;
+    }
+
+    public MSpecifiedPackage newSpecifiedPackage(
+            String pLanguageName,
+            String pPackage) {
+
+        MSpecifiedPackage lSpecifiedPackage = new MSpecifiedPackage(
+                pLanguageName, pPackage);
+        this.eDefaultPackage_SpecifiedPackage.add(lSpecifiedPackage);
+        return lSpecifiedPackage;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(new MHeader().toString());
+        if (this.eDefaultPackage_SpecifiedPackage.size() > 0) {
+            sb.append(System.getProperty("line.separator"));
+        }
+        for (Object oDefaultPackage_SpecifiedPackage : this.eDefaultPackage_SpecifiedPackage) {
+            sb.append(oDefaultPackage_SpecifiedPackage.toString());
+        }
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// A ParseListener receives the events of a parse that builds no tree. See");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// Parser.parse(ParseListener). The methods do nothing by default.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("public abstract class ParseListener {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Called when a token is shifted, the End token included.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public void shift(Token token) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Called when an alternative of the grammar used by the parser is reduced.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // The production is identified by its number, which getProductionName of");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Parser turns into a name, and the alternative by its index in the");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // production. The length is the number of symbols replaced by the");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // production, whose events were all reported before this one.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public void reduce(int production, int alternative, int length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Called when the whole input is recognized.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public void accept() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("}");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
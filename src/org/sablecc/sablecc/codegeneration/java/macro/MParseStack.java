@@ -8,6 +8,8 @@ public class MParseStack {
 
     private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
 
+    private final List<Object> eClassStartState_TableStartState = new LinkedList<Object>();
+
     public MParseStack() {
 
     }
@@ -30,6 +32,20 @@ public class MParseStack {
         return lSpecifiedPackage;
     }
 
+    public MClassStartState newClassStartState() {
+
+        MClassStartState lClassStartState = new MClassStartState();
+        this.eClassStartState_TableStartState.add(lClassStartState);
+        return lClassStartState;
+    }
+
+    public MTableStartState newTableStartState() {
+
+        MTableStartState lTableStartState = new MTableStartState();
+        this.eClassStartState_TableStartState.add(lTableStartState);
+        return lTableStartState;
+    }
+
     @Override
     public String toString() {
 
@@ -42,103 +58,173 @@ public class MParseStack {
             sb.append(oDefaultPackage_SpecifiedPackage.toString());
         }
         sb.append(System.getProperty("line.separator"));
+        sb.append("import java.util.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// The parse stack is stored in parallel arrays. Entry i has the state");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// states[i] and the forest slots from offsets[i] to the offset of the next");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// entry, or to top for the topmost entry. Shifted tokens are stored directly");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// in their slot, and a reduction reads the forests of the entries it pops at");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// fixed offsets, so that only the tree nodes themselves are allocated.");
+        sb.append(System.getProperty("line.separator"));
         sb.append("class ParseStack {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  private ParseStackEntry stack = new ParseStackEntry(null, null, L_0.instance);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  private ParseStackEntry freeList;");
+        sb.append("  private static final int INITIAL_CAPACITY = 64;");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("  void push(AbstractForest forest, LRState state) {");
+        sb.append("  private LRState[] states = new LRState[INITIAL_CAPACITY];");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    ParseStackEntry entry;");
+        sb.append("  private int[] offsets = new int[INITIAL_CAPACITY];");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    if(freeList != null) {");
+        sb.append("  private int size;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      entry = freeList;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      freeList = freeList.previous;");
+        sb.append("  private Node[] slots = new Node[INITIAL_CAPACITY];");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      entry.set(stack,forest, state);");
+        sb.append("  private int top;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    else {");
+        sb.append("  // The forest of an ongoing reduction is built after the slots of the");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      entry = new ParseStackEntry(stack, forest, state);");
+        sb.append("  // entries it popped, which remain readable until it is pushed.");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
+        sb.append("  private int forestStart;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int limit;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  ParseStack() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.states[0] = ");
+        for (Object oClassStartState_TableStartState : this.eClassStartState_TableStartState) {
+            sb.append(oClassStartState_TableStartState.toString());
+        }
+        sb.append(";");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.size = 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Empties the stack and keeps its arrays.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  void clear() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    stack = entry;");
+        sb.append("    Arrays.fill(this.slots, 0, this.limit, null);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.size = 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.top = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.limit = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.forestStart = 0;");
         sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
         sb.append("  LRState getState() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    return stack.state;");
+        sb.append("    return this.states[this.size - 1];");
         sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("  AbstractForest pop() {");
+        sb.append("  // Pops the topmost entry and returns the offset of its forest.");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    AbstractForest forest = stack.forest;");
+        sb.append("  int pop() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    ParseStackEntry entry = stack;");
+        sb.append("    this.size--;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    stack = stack.previous;");
+        sb.append("    this.top = this.offsets[this.size];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.top;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    entry.set(freeList, null, null);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    freeList = entry;");
+        sb.append("  Node get(int slot) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    return forest;");
+        sb.append("    return this.slots[slot];");
         sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("  private static class ParseStackEntry {");
+        sb.append("  // Adds a node to the forest of the ongoing reduction.");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    ParseStackEntry previous;");
+        sb.append("  void add(Node node) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    AbstractForest forest;");
+        sb.append("    if(this.limit == this.slots.length) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    LRState state;");
+        sb.append("      this.slots = Arrays.copyOf(this.slots, this.limit * 2);");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.slots[this.limit++] = node;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    ParseStackEntry(");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ParseStackEntry previous,");
+        sb.append("  // Pushes the forest of the ongoing reduction.");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        AbstractForest forest,");
+        sb.append("  void push(LRState state) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        LRState state) {");
+        sb.append("    int count = this.limit - this.forestStart;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("     this.previous = previous;");
+        sb.append("    if(this.forestStart != this.top) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("     this.forest = forest;");
+        sb.append("      System.arraycopy(this.slots, this.forestStart, this.slots, this.top, count);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("     this.state = state;");
+        sb.append("      // release the nodes of the popped entries");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      Arrays.fill(this.slots, this.top + count, this.limit, null);");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    pushEntry(state);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.top += count;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    void set(");
+        sb.append("    this.limit = this.top;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ParseStackEntry previous,");
+        sb.append("    this.forestStart = this.top;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        AbstractForest forest,");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        LRState state) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("     this.previous = previous;");
+        sb.append("  void push(Token token, LRState state) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    pushEntry(state);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    add(token);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.top = this.limit;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.forestStart = this.limit;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private void pushEntry(LRState state) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.size == this.states.length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.states = Arrays.copyOf(this.states, this.size * 2);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.offsets = Arrays.copyOf(this.offsets, this.size * 2);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("     this.forest = forest;");
+        sb.append("    this.states[this.size] = state;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("     this.state = state;");
+        sb.append("    this.offsets[this.size] = this.top;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("   }");
+        sb.append("    this.size++;");
         sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
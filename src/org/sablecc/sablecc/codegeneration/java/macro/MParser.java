@@ -6,10 +6,19 @@ import java.util.*;
 
 public class MParser {
 
+    private final String pLookaheadCapacity;
+
+    private final MParser mParser = this;
+
     private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
 
-    public MParser() {
+    public MParser(
+            String pLookaheadCapacity) {
 
+        if (pLookaheadCapacity == null) {
+            throw new NullPointerException();
+        }
+        this.pLookaheadCapacity = pLookaheadCapacity;
     }
 
     public MDefaultPackage newDefaultPackage(
@@ -30,6 +39,16 @@ public class MParser {
         return lSpecifiedPackage;
     }
 
+    String pLookaheadCapacity() {
+
+        return this.pLookaheadCapacity;
+    }
+
+    private String rLookaheadCapacity() {
+
+        return this.mParser.pLookaheadCapacity();
+    }
+
     @Override
     public String toString() {
 
@@ -44,7 +63,7 @@ public class MParser {
         sb.append(System.getProperty("line.separator"));
         sb.append("import java.io.*;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("import java.util.*;");
+        sb.append("import java.nio.*;");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
         sb.append("public class Parser {");
@@ -55,6 +74,18 @@ public class MParser {
         sb.append("  private final ParseStack stack = new ParseStack();");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final InputNeeded INPUT_NEEDED = new InputNeeded();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Creates a push parser, which parses the characters passed to feed.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public Parser() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.lexer = new Lexer();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
         sb.append("  public Parser(Reader reader) {");
         sb.append(System.getProperty("line.separator"));
         sb.append("    this.lexer = new Lexer(reader);");
@@ -62,16 +93,114 @@ public class MParser {
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
+        sb.append("  // Restarts parsing on the provided reader. The lexer, its buffers and the");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // parse stack are kept, so that many small inputs can be parsed by the");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // same parser. See ParserPool.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public void reset(Reader reader) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.lexer.reset(reader);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    clear();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Restarts parsing on the provided text.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public void reset(CharSequence text) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.lexer.reset(text);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    clear();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private void clear() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.stack.clear();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.listener = null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(int i = 0; i < lookCount; i++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      lookahead[(lookStart + i) & (lookahead.length - 1)] = null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    lookStart = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    lookCount = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public Lexer getLexer() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.lexer;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public void feed(char[] chars, int offset, int length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.lexer.feed(chars, offset, length);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public void feed(CharBuffer chars) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.lexer.feed(chars);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public void endOfInput() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.lexer.endOfInput();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // In push mode, returns null when more input is needed. The parse stack");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // and the lookahead are kept, and parsing resumes at the next call.");
+        sb.append(System.getProperty("line.separator"));
         sb.append("  public Node parse()");
         sb.append(System.getProperty("line.separator"));
         sb.append("      throws ParserException, LexerException, IOException {");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.listener != null) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throw new IllegalStateException(\"a listening parse is in progress\");");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
         sb.append("    Node tree = null;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    while(tree == null) {");
+        sb.append("    try {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      tree = stack.getState().apply(this);");
+        sb.append("      while(tree == null) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        tree = stack.getState().apply(this);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    catch(InputNeeded e) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      // the decision is made again once the lookahead is complete, as no");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      // action takes effect before it is known");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return null;");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
@@ -81,6 +210,61 @@ public class MParser {
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
+        sb.append("  // Parses the input without building a tree: shifts and reductions are");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // reported to the provided listener, and the parse stack only keeps");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // states, so that memory use is bounded by the nesting of the input. In");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // push mode, returns false when more input is needed.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public boolean parse(ParseListener listener)");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws ParserException, LexerException, IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(listener == null) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throw new NullPointerException();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.listener = listener;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    try {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      while(this.listener != null) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        stack.getState().apply(this);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    catch(InputNeeded e) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return false;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return true;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Returns the name of the production with the provided number, as");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // reported to a ParseListener.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public static String getProductionName(int production) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return CSTProductionType.values()[production].name();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
         sb.append("  ParseStack getStack() {");
         sb.append(System.getProperty("line.separator"));
         sb.append("    return this.stack;");
@@ -88,20 +272,78 @@ public class MParser {
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("  private LinkedList<Token> lookList = new LinkedList<Token>();");
+        sb.append("  private ParseListener listener;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  boolean isListening() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.listener != null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  Node reduce(CSTProductionType production, int alternative, int length)");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws ParserException, LexerException, IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(int i = 0; i < length; i++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      stack.pop();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.listener.reduce(production.ordinal(), alternative, length);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    stack.push(stack.getState().getProductionTarget(production));");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  Node accept() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    ParseListener listener = this.listener;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.listener = null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    stack.clear();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    listener.accept();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // The lookahead tokens are kept in a ring buffer. Its capacity is a power");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // of two no smaller than the largest distance looked at by the grammar.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final Token[] lookahead = new Token[");
+        sb.append(rLookaheadCapacity());
+        sb.append("];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int lookStart;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int lookCount;");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
         sb.append("  Token look(int distance)");
         sb.append(System.getProperty("line.separator"));
         sb.append("      throws LexerException, IOException {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    while(lookList.size() < distance) {");
+        sb.append("    int mask = lookahead.length - 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    while(lookCount < distance) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      lookahead[(lookStart + lookCount) & mask] = nextToken();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      lookList.addLast(lexer.next());");
+        sb.append("      lookCount++;");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    return lookList.get(distance - 1);");
+        sb.append("    return lookahead[(lookStart + distance - 1) & mask];");
         sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
@@ -112,21 +354,76 @@ public class MParser {
         sb.append(System.getProperty("line.separator"));
         sb.append("    Token token;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    if(lookList.size() > 0) {");
+        sb.append("    if(lookCount > 0) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      token = lookahead[lookStart];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      lookahead[lookStart] = null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      lookStart = (lookStart + 1) & (lookahead.length - 1);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      token = lookList.removeFirst();");
+        sb.append("      lookCount--;");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
         sb.append("    else {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("      token = lexer.next();");
+        sb.append("      token = nextToken();");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    ");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    stack.push(new AbstractForest(CSTProductionType.NOT_A_PRODUCTION,token), stack.getState().getTokenTarget(token));");
+        sb.append("    // The target is computed first, so that the listener is not told of a");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    // token that the parser rejects.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    LRState target = stack.getState().getTokenTarget(token);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.listener != null) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.listener.shift(token);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      stack.push(target);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    else {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      stack.push(token, target);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private Token nextToken()");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws LexerException, IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    Token token = lexer.next();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(token == null) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throw INPUT_NEEDED;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return token;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final class InputNeeded");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      extends RuntimeException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    InputNeeded() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      super(null, null, false, false);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
         sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
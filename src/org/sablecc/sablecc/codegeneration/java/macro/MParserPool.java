@@ -0,0 +1,208 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MParserPool {
+
+    private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
+
+    public MParserPool() {
+
+    }
+
+    public MDefaultPackage newDefaultPackage(
+            String pLanguageName) {
+
+        MDefaultPackage lDefaultPackage = new MDefaultPackage(pLanguageName);
+        this.eDefaultPackage_SpecifiedPackage.add(lDefaultPackage);
+        return lDefaultPackage;
+    }
+
+    public MSpecifiedPackage newSpecifiedPackage(
+            String pLanguageName,
+            String pPackage) {
+
+        MSpecifiedPackage lSpecifiedPackage = new MSpecifiedPackage(
+                pLanguageName, pPackage);
+        this.eDefaultPackage_SpecifiedPackage.add(lSpecifiedPackage);
+        return lSpecifiedPackage;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(new MHeader().toString());
+        if (this.eDefaultPackage_SpecifiedPackage.size() > 0) {
+            sb.append(System.getProperty("line.separator"));
+        }
+        for (Object oDefaultPackage_SpecifiedPackage : this.eDefaultPackage_SpecifiedPackage) {
+            sb.append(oDefaultPackage_SpecifiedPackage.toString());
+        }
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.io.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// A ParserPool keeps parsers for reuse, so that parsing many small inputs");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// does not allocate a parser, a lexer and their buffers for each of them.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// A pool is confined to a single thread: it must not be shared, and the");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// pool of the current thread is returned by ParserPool.get(). A parser is");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// acquired with the input to parse and released once the tree is built; the");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// tree remains valid after the parser is reused.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("public final class ParserPool {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final int DEFAULT_CAPACITY = 4;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final ThreadLocal<ParserPool> POOLS = new ThreadLocal<ParserPool>() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    protected ParserPool initialValue() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return new ParserPool();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  };");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final Parser[] parsers;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int size;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public ParserPool() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this(DEFAULT_CAPACITY);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public ParserPool(int capacity) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.parsers = new Parser[capacity];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Returns the pool of the current thread.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public static ParserPool get() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return POOLS.get();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public Parser acquire(Reader reader) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    Parser parser = take();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    parser.reset(reader);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return parser;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public Parser acquire(CharSequence text) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    Parser parser = take();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    parser.reset(text);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return parser;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private Parser take() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.size == 0) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return new Parser();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    Parser parser = this.parsers[--this.size];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.parsers[this.size] = null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return parser;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Returns the provided parser to the pool. It must not be used afterwards.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public void release(Parser parser) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.size < this.parsers.length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.parsers[this.size++] = parser;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public Node parse(Reader reader)");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws ParserException, LexerException, IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    Parser parser = acquire(reader);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    try {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return parser.parse();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    finally {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      release(parser);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public Node parse(CharSequence text)");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws ParserException, LexerException, IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    Parser parser = acquire(text);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    try {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return parser.parse();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    finally {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      release(parser);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("}");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
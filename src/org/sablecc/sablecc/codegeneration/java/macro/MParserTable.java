@@ -0,0 +1,72 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MParserTable {
+
+    private final String pName;
+
+    private final MParserTable mParserTable = this;
+
+    private final List<Object> eParserTableChunk = new LinkedList<Object>();
+
+    MParserTable(
+            String pName) {
+
+        if (pName == null) {
+            throw new NullPointerException();
+        }
+        this.pName = pName;
+    }
+
+    public MParserTableChunk newParserTableChunk(
+            String pValue) {
+
+        MParserTableChunk lParserTableChunk = new MParserTableChunk(pValue);
+        this.eParserTableChunk.add(lParserTableChunk);
+        return lParserTableChunk;
+    }
+
+    String pName() {
+
+        return this.pName;
+    }
+
+    private String rName() {
+
+        return this.mParserTable.pName();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("  private static final int[] ");
+        sb.append(rName());
+        sb.append(" = Tables.unpack(new String[] {");
+        sb.append(System.getProperty("line.separator"));
+        {
+            boolean first = true;
+            for (Object oParserTableChunk : this.eParserTableChunk) {
+                if (first) {
+                    first = false;
+                }
+                else {
+                    sb.append(",");
+                    sb.append(System.getProperty("line.separator"));
+                }
+                sb.append(oParserTableChunk.toString());
+            }
+        }
+        if (this.eParserTableChunk.size() > 0) {
+            sb.append(System.getProperty("line.separator"));
+        }
+        sb.append("  });");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
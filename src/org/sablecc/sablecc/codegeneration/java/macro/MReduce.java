@@ -12,6 +12,10 @@ public class MReduce {
 
     private final List<Object> eReduceNormalPop_ReduceEndPop = new LinkedList<Object>();
 
+    private final List<Object> eListenerReduce = new LinkedList<Object>();
+
+    private final List<Object> eListenerAccept = new LinkedList<Object>();
+
     private final List<Object> eReduceDecision = new LinkedList<Object>();
 
     private final List<Object> eNormalParameter = new LinkedList<Object>();
@@ -54,7 +58,7 @@ public class MReduce {
 
     private final List<Object> eAcceptDecision = new LinkedList<Object>();
 
-    MReduce(
+    public MReduce(
             String pReducedProduction) {
 
         if (pReducedProduction == null) {
@@ -63,6 +67,23 @@ public class MReduce {
         this.pReducedProduction = pReducedProduction;
     }
 
+    public MListenerReduce newListenerReduce(
+            String pAlternative,
+            String pLength) {
+
+        MListenerReduce lListenerReduce = new MListenerReduce(pAlternative,
+                pLength, this.mReduce);
+        this.eListenerReduce.add(lListenerReduce);
+        return lListenerReduce;
+    }
+
+    public MListenerAccept newListenerAccept() {
+
+        MListenerAccept lListenerAccept = new MListenerAccept();
+        this.eListenerAccept.add(lListenerAccept);
+        return lListenerAccept;
+    }
+
     public MReduceDecision newReduceDecision() {
 
         MReduceDecision lReduceDecision = new MReduceDecision(this.mReduce);
@@ -300,6 +321,12 @@ public class MReduce {
     public String toString() {
 
         StringBuilder sb = new StringBuilder();
+        for (Object oListenerReduce : this.eListenerReduce) {
+            sb.append(oListenerReduce.toString());
+        }
+        for (Object oListenerAccept : this.eListenerAccept) {
+            sb.append(oListenerAccept.toString());
+        }
         sb.append("      ParseStack stack = parser.getStack();");
         sb.append(System.getProperty("line.separator"));
         for (Object oReduceNormalPop_ReduceEndPop : this.eReduceNormalPop_ReduceEndPop) {
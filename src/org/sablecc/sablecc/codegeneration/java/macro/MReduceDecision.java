@@ -83,8 +83,6 @@ public class MReduceDecision {
     public String toString() {
 
         StringBuilder sb = new StringBuilder();
-        sb.append("      List<Node> trees = new LinkedList<Node>();");
-        sb.append(System.getProperty("line.separator"));
         sb.append("      ");
         for (Object oNewTreeClass_NewList : this.eNewTreeClass_NewList) {
             sb.append(oNewTreeClass_NewList.toString());
@@ -95,9 +93,7 @@ public class MReduceDecision {
         for (Object oAddPopToForest : this.eAddPopToForest) {
             sb.append(oAddPopToForest.toString());
         }
-        sb.append("      stack.push(new AbstractForest(CSTProductionType.");
-        sb.append(rReducedProduction());
-        sb.append(",trees), stack.getState().getProductionTarget(CSTProductionType.");
+        sb.append("      stack.push(stack.getState().getProductionTarget(CSTProductionType.");
         sb.append(rReducedProduction());
         sb.append("));");
         sb.append(System.getProperty("line.separator"));
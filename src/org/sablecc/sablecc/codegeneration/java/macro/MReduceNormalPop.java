@@ -31,7 +31,7 @@ public class MReduceNormalPop {
     public String toString() {
 
         StringBuilder sb = new StringBuilder();
-        sb.append("      AbstractForest l");
+        sb.append("      int l");
         sb.append(rElementName());
         sb.append(" = stack.pop();");
         sb.append(System.getProperty("line.separator"));
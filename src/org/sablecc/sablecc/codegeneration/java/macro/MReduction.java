@@ -0,0 +1,58 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MReduction {
+
+    private final String pAlternative;
+
+    private final MReduction mReduction = this;
+
+    private final List<Object> eReduce = new LinkedList<Object>();
+
+    MReduction(
+            String pAlternative) {
+
+        if (pAlternative == null) {
+            throw new NullPointerException();
+        }
+        this.pAlternative = pAlternative;
+    }
+
+    public MReduce newReduce(
+            String pReducedProduction) {
+
+        MReduce lReduce = new MReduce(pReducedProduction);
+        this.eReduce.add(lReduce);
+        return lReduce;
+    }
+
+    String pAlternative() {
+
+        return this.pAlternative;
+    }
+
+    private String rAlternative() {
+
+        return this.mReduction.pAlternative();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("    case ");
+        sb.append(rAlternative());
+        sb.append(": {");
+        sb.append(System.getProperty("line.separator"));
+        for (Object oReduce : this.eReduce) {
+            sb.append(oReduce.toString());
+        }
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
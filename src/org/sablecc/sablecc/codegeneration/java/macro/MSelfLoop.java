@@ -0,0 +1,60 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MSelfLoop {
+
+    private final List<Object> eSelfLoopWord = new LinkedList<Object>();
+
+    MSelfLoop() {
+
+    }
+
+    public MSelfLoopWord newSelfLoopWord(
+            String pValue) {
+
+        MSelfLoopWord lSelfLoopWord = new MSelfLoopWord(pValue);
+        this.eSelfLoopWord.add(lSelfLoopWord);
+        return lSelfLoopWord;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("  private static final long[] SELF_LOOP = {");
+        sb.append(System.getProperty("line.separator"));
+        {
+            boolean first = true;
+            for (Object oSelfLoopWord : this.eSelfLoopWord) {
+                if (first) {
+                    first = false;
+                }
+                else {
+                    sb.append(",");
+                    sb.append(System.getProperty("line.separator"));
+                }
+                sb.append(oSelfLoopWord.toString());
+            }
+        }
+        if (this.eSelfLoopWord.size() > 0) {
+            sb.append(System.getProperty("line.separator"));
+        }
+        sb.append("  };");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  long[] getSelfLoop() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return SELF_LOOP;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,39 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MSelfLoopWord {
+
+    private final String pValue;
+
+    private final MSelfLoopWord mSelfLoopWord = this;
+
+    MSelfLoopWord(
+            String pValue) {
+
+        if (pValue == null) {
+            throw new NullPointerException();
+        }
+        this.pValue = pValue;
+    }
+
+    String pValue() {
+
+        return this.pValue;
+    }
+
+    private String rValue() {
+
+        return this.mSelfLoopWord.pValue();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("      ");
+        sb.append(rValue());
+        return sb.toString();
+    }
+
+}
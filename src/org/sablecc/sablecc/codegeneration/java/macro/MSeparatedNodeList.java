@@ -45,506 +45,388 @@ public class MSeparatedNodeList {
         sb.append("import java.util.*;");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("public class SeparatedNodeList<TNodeLeft extends Node, TNodeRight extends Node>");
+        sb.append("/**");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        extends Node");
+        sb.append(" * A list of left nodes separated by right nodes. Appending a whole list with");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        implements Iterable<TNodeLeft> {");
+        sb.append(" * <code>addAll</code> or <code>addAllReverse</code> moves its nodes instead of");
         sb.append(System.getProperty("line.separator"));
+        sb.append(" * copying them: the appended list is left empty.");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    int lowerBound;");
+        sb.append(" */");
         sb.append(System.getProperty("line.separator"));
+        sb.append("public class SeparatedNodeList<TNodeLeft extends Node, TNodeRight extends Node>");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    int upperBound;");
+        sb.append("    extends Node");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    implements Iterable<TNodeLeft> {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    int size = 0;");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  int lowerBound;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    private final int INF = -1;");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  int upperBound;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    Entry<TNodeLeft> leftHeader = new Entry<TNodeLeft>(null, null, null);");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  private final int INF = -1;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    Entry<TNodeRight> rightHeader = new Entry<TNodeRight>(null, null, null);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    ");
+        sb.append("  final NodeArray left = new NodeArray();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    SeparatedNodeList(){");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.leftHeader.next = this.leftHeader.previous = this.leftHeader;");
+        sb.append("  final NodeArray right = new NodeArray();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.rightHeader.next = this.rightHeader.previous = this.rightHeader;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
+        sb.append("  SeparatedNodeList() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    ");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    SeparatedNodeList(int lowerBound){");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.leftHeader.next = this.leftHeader.previous = this.leftHeader;");
+        sb.append("  SeparatedNodeList(int lowerBound) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.rightHeader.next = this.rightHeader.previous = this.rightHeader;");
+        sb.append("    this.lowerBound = lowerBound;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.lowerBound = lowerBound;");
+        sb.append("    this.upperBound = INF;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.upperBound = INF;");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    ");
+        sb.append("  SeparatedNodeList(int lowerBound, int upperBound) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    SeparatedNodeList(int lowerBound,int upperBound){");
+        sb.append("    this.lowerBound = lowerBound;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.leftHeader.next = this.leftHeader.previous = this.leftHeader;");
+        sb.append("    this.upperBound = upperBound;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.rightHeader.next = this.rightHeader.previous = this.rightHeader;");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.lowerBound = lowerBound;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.upperBound = upperBound;");
+        sb.append("  void addLeft(TNodeLeft element) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
+        sb.append("    this.left.add(element);");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("    void addLeft(");
+        sb.append("    // TODO Control list bounds");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            TNodeLeft element) {");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("        Entry<TNodeLeft> newEntry = new Entry<TNodeLeft>(element,");
+        sb.append("  void addRight(TNodeRight element) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("                this.leftHeader, this.leftHeader.previous);");
+        sb.append("    this.right.add(element);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        newEntry.previous.next = newEntry;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        newEntry.next.previous = newEntry;");
+        sb.append("    // TODO Control list bounds");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.size++;");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("        // TODO Control list bounds");
+        sb.append("  // The provided list is left empty.");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
+        sb.append("  void addAll(PairNodeList<TNodeLeft, TNodeRight> elements) {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    this.left.addAll(elements.left);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    void addRight(");
+        sb.append("    this.right.addAll(elements.right);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            TNodeRight element) {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    // TODO Control list bounds");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        Entry<TNodeRight> newEntry = new Entry<TNodeRight>(element,");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("                this.rightHeader, this.rightHeader.previous);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        newEntry.previous.next = newEntry;");
+        sb.append("  // The provided list is left empty.");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        newEntry.next.previous = newEntry;");
+        sb.append("  void addAll(SeparatedNodeList<TNodeLeft, TNodeRight> elements) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.size++;");
+        sb.append("    this.left.addAll(elements.left);");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    this.right.addAll(elements.right);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        // TODO Control list bounds");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
+        sb.append("    // TODO Control list bounds");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("     void addAll(");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            PairNodeList<TNodeLeft, TNodeRight> elements) {");
+        sb.append("  // The provided list is left empty.");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  void addAllReverse(PairNodeList<TNodeRight, TNodeLeft> elements) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.leftHeader.previous.next = elements.leftHeader.next;");
+        sb.append("    this.left.addAll(elements.right);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        elements.leftHeader.next.previous = this.leftHeader.previous;");
+        sb.append("    this.right.addAll(elements.left);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.leftHeader.previous = elements.leftHeader.previous;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        elements.leftHeader.previous.next = this.leftHeader;");
+        sb.append("    // TODO Control list bounds");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.rightHeader.previous.next = elements.rightHeader.next;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        elements.rightHeader.next.previous = this.rightHeader.previous;");
+        sb.append("  // The provided list is left empty.");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.rightHeader.previous = elements.rightHeader.previous;");
+        sb.append("  void addAllReverse(SeparatedNodeList<TNodeRight, TNodeLeft> elements) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        elements.rightHeader.previous.next = this.rightHeader;");
+        sb.append("    this.left.addAll(elements.right);");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    this.right.addAll(elements.left);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.size += elements.size;");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    // TODO Control list bounds");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        // TODO Control list bounds");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("    ");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("     void addAll(");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            SeparatedNodeList<TNodeLeft, TNodeRight> elements) {");
+        sb.append("  NodeList<TNodeLeft> getLeft() {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    NodeList<TNodeLeft> list = new NodeList<TNodeLeft>();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.leftHeader.previous.next = elements.leftHeader.next;");
+        sb.append("    for(int i = 0; i < this.left.size(); i++) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        elements.leftHeader.next.previous = this.leftHeader.previous;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        this.leftHeader.previous = elements.leftHeader.previous;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        elements.leftHeader.previous.next = this.leftHeader;");
+        sb.append("      list.add(get(i));");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.rightHeader.previous.next = elements.rightHeader.next;");
+        sb.append("    return list;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        elements.rightHeader.next.previous = this.rightHeader.previous;");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.rightHeader.previous = elements.rightHeader.previous;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        elements.rightHeader.previous.next = this.rightHeader;");
+        sb.append("  NodeList<TNodeRight> getRight() {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    NodeList<TNodeRight> list = new NodeList<TNodeRight>();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.size += elements.size;");
+        sb.append("    for(int i = 0; i < this.right.size(); i++) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        // TODO Control list bounds");
+        sb.append("      list.add(getSeparator(i));");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    ");
+        sb.append("    return list;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    void addAllReverse(");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            PairNodeList<TNodeRight, TNodeLeft> elements) {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  @SuppressWarnings(\"unchecked\")");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            this.leftHeader.previous.next = elements.rightHeader.next;");
+        sb.append("  public TNodeLeft get(int index) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            elements.leftHeader.next.previous = this.rightHeader.previous;");
+        sb.append("    return (TNodeLeft) this.left.get(index);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            this.leftHeader.previous = elements.rightHeader.previous;");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            elements.leftHeader.previous.next = this.rightHeader;");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  @SuppressWarnings(\"unchecked\")");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            this.rightHeader.previous.next = elements.leftHeader.next;");
+        sb.append("  public TNodeRight getSeparator(int index) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            elements.rightHeader.next.previous = this.leftHeader.previous;");
+        sb.append("    return (TNodeRight) this.right.get(index);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            this.rightHeader.previous = elements.leftHeader.previous;");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            elements.rightHeader.previous.next = this.leftHeader;");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  public int getElementCount() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.size += elements.size;");
+        sb.append("    return this.left.size();");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        // TODO Control list bounds");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
+        sb.append("  public int getSeparatorCount() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    ");
+        sb.append("    return this.right.size();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("     void addAllReverse(");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            SeparatedNodeList<TNodeRight, TNodeLeft> elements) {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            this.leftHeader.previous.next = elements.rightHeader.next;");
+        sb.append("  public Iterator<TNodeLeft> iterator() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            elements.leftHeader.next.previous = this.rightHeader.previous;");
+        sb.append("    return new Cursor<TNodeLeft, TNodeRight>(this);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            this.leftHeader.previous = elements.rightHeader.previous;");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            elements.leftHeader.previous.next = this.rightHeader;");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  public Iterator<TNodeRight> separatorIterator() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            this.rightHeader.previous.next = elements.leftHeader.next;");
+        sb.append("    return getRight().iterator();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            elements.rightHeader.next.previous = this.leftHeader.previous;");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            this.rightHeader.previous = elements.leftHeader.previous;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            elements.rightHeader.previous.next = this.leftHeader;");
+        sb.append("  // Returns the number of elements and separators.");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  public int size() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.size += elements.size;");
+        sb.append("    return this.left.size() + this.right.size();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        // TODO Control list bounds");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    ");
+        sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    NodeList<TNodeLeft> getLeft(){");
+        sb.append("  public Type getType() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        NodeList<TNodeLeft> list = new NodeList<TNodeLeft>();");
+        sb.append("    return Type.TAnonymous;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        Iterator<TNodeLeft> leftIterator = this.iterator();");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        while(leftIterator.hasNext()){");
+        sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            list.add(leftIterator.next());");
+        sb.append("  public String getText() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
+        sb.append("    return \"\";");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        return list;    ");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
+        sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    ");
+        sb.append("  public int getLine() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    NodeList<TNodeRight> getRight(){");
+        sb.append("    return 0;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        NodeList<TNodeRight> list = new NodeList<TNodeRight>();");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        Iterator<TNodeRight> rightIterator = this.separatorIterator();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
+        sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        while(rightIterator.hasNext()){");
+        sb.append("  public int getPos() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            list.add(rightIterator.next());");
+        sb.append("    return 0;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        return list;    ");
+        sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
+        sb.append("  public void apply(Walker walker) {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    this.applyOnChildren(walker);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    @Override");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    public Iterator<TNodeLeft> iterator() {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        return new LeftNodeListItr();");
+        sb.append("  public void applyOnChildren(Walker walker) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
+        sb.append("    for(int i = 0; i < this.left.size(); i++) {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("      if(i > 0) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    public Iterator<TNodeRight> separatorIterator() {");
+        sb.append("        this.right.get(i - 1).apply(walker);");
         sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        return new RightNodeListItr();");
+        sb.append("      this.left.get(i).apply(walker);");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    public int size() {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        return this.size;");
+        sb.append("  void pushChildren(IterativeWalker walker) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
+        sb.append("    for(int i = 0; i < this.left.size(); i++) {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("      if(i > 0) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    @Override");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("    public Type getType() {");
+        sb.append("        walker.push(this.right.get(i - 1));");
         sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        return Type.TAnonymous;");
+        sb.append("      walker.push(this.left.get(i));");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    public String getText() {");
+        sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  void pushOnto(IterativeWalker walker) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        return \"\";");
+        sb.append("    pushChildren(walker);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("    @Override");
+        sb.append("  // A cursor can be reset to iterate over the elements of another list");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    public int getLine() {");
+        sb.append("  // without allocating.");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  public static final class Cursor<TNodeLeft extends Node, TNodeRight extends Node>");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        return 0;");
+        sb.append("      implements Iterator<TNodeLeft> {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    }");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    private SeparatedNodeList<TNodeLeft, TNodeRight> list;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    public int getPos() {");
+        sb.append("    private int index;");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("        return 0;");
+        sb.append("    public Cursor() {");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("    @Override");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("    public void apply(");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            Walker walker) {");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        this.applyOnChildren(walker);");
+        sb.append("    public Cursor(SeparatedNodeList<TNodeLeft, TNodeRight> list) {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("      reset(list);");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("    @Override");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("    public void applyOnChildren(");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            Walker walker) {");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            ");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        Iterator<TNodeLeft> leftIterator = iterator();");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        Iterator<TNodeRight> rightIterator = separatorIterator();");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
+        sb.append("    public Cursor<TNodeLeft, TNodeRight> reset(SeparatedNodeList<TNodeLeft, TNodeRight> list) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        leftIterator.next().apply(walker);");
+        sb.append("      this.list = list;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        while(leftIterator.hasNext()){");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            rightIterator.next().apply(walker);");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            leftIterator.next().apply(walker);");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            ");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
+        sb.append("      this.index = 0;");
         sb.append(System.getProperty("line.separator"));
+        sb.append("      return this;");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("    private class LeftNodeListItr");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            implements Iterator<TNodeLeft> {");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        private int cursor = 0;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        private int size;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        private Entry<TNodeLeft> current;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        LeftNodeListItr() {");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            this.current = SeparatedNodeList.this.leftHeader;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            this.size = size() / 2 + 1;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        @Override");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        public boolean hasNext() {");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            return this.cursor != this.size;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        @Override");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        public TNodeLeft next() {");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            this.cursor++;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            this.current = this.current.next;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            return this.current.element;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        @Override");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        public void remove() {");
+        sb.append("    @Override");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    public boolean hasNext() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
+        sb.append("      return this.index < this.list.getElementCount();");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("    private class RightNodeListItr");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            implements Iterator<TNodeRight> {");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        private int cursor = 0;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        private int size;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        private Entry<TNodeRight> current;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        RightNodeListItr() {");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            this.current = SeparatedNodeList.this.rightHeader;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            this.size = size() / 2;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        @Override");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        public boolean hasNext() {");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("            return this.cursor != size;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
-        sb.append(System.getProperty("line.separator"));
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        @Override");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("        public TNodeRight next() {");
+        sb.append("    @Override");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    public TNodeLeft next() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            this.cursor++;");
+        sb.append("      if(!hasNext()) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            this.current = this.current.next;");
+        sb.append("        throw new NoSuchElementException();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            return this.current.element;");
+        sb.append("      }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
+        sb.append("      return this.list.get(this.index++);");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        public void remove() {");
+        sb.append("    @Override");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    public void remove() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
+        sb.append("      throw new UnsupportedOperationException();");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
         sb.append("}");
         sb.append(System.getProperty("line.separator"));
@@ -86,9 +86,9 @@ public class MSeparatedParameter {
         sb.append(rLeftElementType());
         sb.append(",N");
         sb.append(rRightElementType());
-        sb.append(">) l");
+        sb.append(">) stack.get(l");
         sb.append(rElementName());
-        sb.append(".getNodes().get(");
+        sb.append(" + ");
         sb.append(rIndex());
         sb.append(")");
         return sb.toString();
@@ -4,11 +4,11 @@ package org.sablecc.sablecc.codegeneration.java.macro;
 
 import java.util.*;
 
-public class MAbstractForest {
+public class MSequenceReader {
 
     private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
 
-    public MAbstractForest() {
+    public MSequenceReader() {
 
     }
 
@@ -42,59 +42,57 @@ public class MAbstractForest {
             sb.append(oDefaultPackage_SpecifiedPackage.toString());
         }
         sb.append(System.getProperty("line.separator"));
-        sb.append("import java.util.*;");
+        sb.append("import java.io.*;");
         sb.append(System.getProperty("line.separator"));
+        sb.append("import java.nio.*;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("class AbstractForest{");
         sb.append(System.getProperty("line.separator"));
+        sb.append("// Reads the characters of a sequence that follow an offset.");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        private final CSTProductionType type;");
+        sb.append("final class SequenceReader");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        private final List<Node> nodes;");
+        sb.append("    extends Reader {");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("        AbstractForest(CSTProductionType type,List<Node> nodes){");
+        sb.append("  private final CharBuffer source;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          this.type = type;");
+        sb.append("  SequenceReader(CharSequence input, long offset) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          this.nodes = nodes;");
+        sb.append("    this.source = CharBuffer.wrap(input, (int) offset, input.length());");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        AbstractForest(CSTProductionType type,Node node){");
+        sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
+        sb.append("  public int read(char[] buffer, int offset, int length) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          this.type = type;");
+        sb.append("    int remaining = this.source.remaining();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          this.nodes = new LinkedList<Node>();");
+        sb.append("    if(remaining == 0) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          this.nodes.add(node);");
+        sb.append("      return length == 0 ? 0 : -1;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
+        sb.append("    }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        CSTProductionType getProductionType(){");
+        sb.append("    int count = Math.min(length, remaining);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          return type;");
+        sb.append("    this.source.get(buffer, offset, count);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
+        sb.append("    return count;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        ");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        List<Node> getNodes(){");
         sb.append(System.getProperty("line.separator"));
-        sb.append("          return nodes;");
+        sb.append("  @Override");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        }");
+        sb.append("  public void close() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("}");
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
+        sb.append("}");
         sb.append(System.getProperty("line.separator"));
         return sb.toString();
     }
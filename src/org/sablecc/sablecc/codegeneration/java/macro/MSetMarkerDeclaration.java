@@ -37,7 +37,7 @@ public class MSetMarkerDeclaration {
         sb.append(System.getProperty("line.separator"));
         sb.append("    this.marker");
         sb.append(rName());
-        sb.append(" = this.current_sb_length;");
+        sb.append(" = this.scan - this.start;");
         sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
@@ -4,7 +4,7 @@ package org.sablecc.sablecc.codegeneration.java.macro;
 
 public class MShift {
 
-    MShift() {
+    public MShift() {
 
     }
 
@@ -1,60 +0,0 @@
-/* This file was generated by SableCC's ObjectMacro. */
-
-package org.sablecc.sablecc.codegeneration.java.macro;
-
-public class MSingleChar {
-
-    private final String pBound;
-
-    private final String pName;
-
-    private final MSingleChar mSingleChar = this;
-
-    MSingleChar(
-            String pBound,
-            String pName) {
-
-        if (pBound == null) {
-            throw new NullPointerException();
-        }
-        this.pBound = pBound;
-        if (pName == null) {
-            throw new NullPointerException();
-        }
-        this.pName = pName;
-    }
-
-    String pBound() {
-
-        return this.pBound;
-    }
-
-    String pName() {
-
-        return this.pName;
-    }
-
-    private String rBound() {
-
-        return this.mSingleChar.pBound();
-    }
-
-    private String rName() {
-
-        return this.mSingleChar.pName();
-    }
-
-    @Override
-    public String toString() {
-
-        StringBuilder sb = new StringBuilder();
-        sb.append("    case ");
-        sb.append(rBound());
-        sb.append(": return Symbol_");
-        sb.append(rName());
-        sb.append(";");
-        sb.append(System.getProperty("line.separator"));
-        return sb.toString();
-    }
-
-}
@@ -0,0 +1,34 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MSkipTokenNoMarker {
+
+    private final MFinalStateSingleton mFinalStateSingleton;
+
+    MSkipTokenNoMarker(
+            MFinalStateSingleton mFinalStateSingleton) {
+
+        if (mFinalStateSingleton == null) {
+            throw new NullPointerException();
+        }
+        this.mFinalStateSingleton = mFinalStateSingleton;
+    }
+
+    private String rBackCount() {
+
+        return this.mFinalStateSingleton.pBackCount();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("    lexer.skipWithBackCount(");
+        sb.append(rBackCount());
+        sb.append(");");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
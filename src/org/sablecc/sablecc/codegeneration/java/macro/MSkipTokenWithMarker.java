@@ -0,0 +1,55 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MSkipTokenWithMarker {
+
+    private final String pMarkerName;
+
+    private final MSkipTokenWithMarker mSkipTokenWithMarker = this;
+
+    private final MFinalStateSingleton mFinalStateSingleton;
+
+    MSkipTokenWithMarker(
+            String pMarkerName,
+            MFinalStateSingleton mFinalStateSingleton) {
+
+        if (pMarkerName == null) {
+            throw new NullPointerException();
+        }
+        this.pMarkerName = pMarkerName;
+        if (mFinalStateSingleton == null) {
+            throw new NullPointerException();
+        }
+        this.mFinalStateSingleton = mFinalStateSingleton;
+    }
+
+    String pMarkerName() {
+
+        return this.pMarkerName;
+    }
+
+    private String rMarkerName() {
+
+        return this.mSkipTokenWithMarker.pMarkerName();
+    }
+
+    private String rBackCount() {
+
+        return this.mFinalStateSingleton.pBackCount();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("    lexer.skipWithMarker");
+        sb.append(rMarkerName());
+        sb.append("(");
+        sb.append(rBackCount());
+        sb.append(");");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
@@ -10,15 +10,7 @@ public class MSymbol {
 
     private final List<Object> eSymbolDeclaration = new LinkedList<Object>();
 
-    private final List<Object> eSingleChar = new LinkedList<Object>();
-
-    private final List<Object> eOpenInterval = new LinkedList<Object>();
-
-    private final List<Object> eOpenLeftInterval = new LinkedList<Object>();
-
-    private final List<Object> eOpenRightInterval = new LinkedList<Object>();
-
-    private final List<Object> eInterval = new LinkedList<Object>();
+    private final List<Object> eSymbolTable = new LinkedList<Object>();
 
     public MSymbol() {
 
@@ -32,51 +24,12 @@ public class MSymbol {
         return lSymbolDeclaration;
     }
 
-    public MSingleChar newSingleChar(
-            String pBound,
-            String pName) {
-
-        MSingleChar lSingleChar = new MSingleChar(pBound, pName);
-        this.eSingleChar.add(lSingleChar);
-        return lSingleChar;
-    }
-
-    public MOpenInterval newOpenInterval(
-            String pName) {
-
-        MOpenInterval lOpenInterval = new MOpenInterval(pName);
-        this.eOpenInterval.add(lOpenInterval);
-        return lOpenInterval;
-    }
-
-    public MOpenLeftInterval newOpenLeftInterval(
-            String pUpperBound,
-            String pName) {
-
-        MOpenLeftInterval lOpenLeftInterval = new MOpenLeftInterval(
-                pUpperBound, pName);
-        this.eOpenLeftInterval.add(lOpenLeftInterval);
-        return lOpenLeftInterval;
-    }
-
-    public MOpenRightInterval newOpenRightInterval(
-            String pLowerBound,
-            String pName) {
-
-        MOpenRightInterval lOpenRightInterval = new MOpenRightInterval(
-                pLowerBound, pName);
-        this.eOpenRightInterval.add(lOpenRightInterval);
-        return lOpenRightInterval;
-    }
-
-    public MInterval newInterval(
-            String pLowerBound,
-            String pUpperBound,
+    public MSymbolTable newSymbolTable(
             String pName) {
 
-        MInterval lInterval = new MInterval(pLowerBound, pUpperBound, pName);
-        this.eInterval.add(lInterval);
-        return lInterval;
+        MSymbolTable lSymbolTable = new MSymbolTable(pName);
+        this.eSymbolTable.add(lSymbolTable);
+        return lSymbolTable;
     }
 
     public MDefaultPackage newDefaultPackage(
@@ -117,31 +70,24 @@ public class MSymbol {
         sb.append("  Symbol_end;");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("  static Symbol getSymbol(char c) {");
+        sb.append("  private static final Symbol[] VALUES = values();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    switch(c) {");
         sb.append(System.getProperty("line.separator"));
-        for (Object oSingleChar : this.eSingleChar) {
-            sb.append(oSingleChar.toString());
+        for (Object oSymbolTable : this.eSymbolTable) {
+            sb.append(oSymbolTable.toString());
         }
-        sb.append("    default:");
+        sb.append("  static int getSymbolIndex(char c) {");
         sb.append(System.getProperty("line.separator"));
-        for (Object oOpenInterval : this.eOpenInterval) {
-            sb.append(oOpenInterval.toString());
-        }
-        for (Object oOpenLeftInterval : this.eOpenLeftInterval) {
-            sb.append(oOpenLeftInterval.toString());
-        }
-        for (Object oOpenRightInterval : this.eOpenRightInterval) {
-            sb.append(oOpenRightInterval.toString());
-        }
-        for (Object oInterval : this.eInterval) {
-            sb.append(oInterval.toString());
-        }
-        sb.append("    }");
+        sb.append("    return BLOCKS[PAGES[c >> 8] + (c & 0xFF)];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  static Symbol getSymbol(char c) {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    int index = getSymbolIndex(c);");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    return null;");
+        sb.append("    return index == -1 ? null : VALUES[index];");
         sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
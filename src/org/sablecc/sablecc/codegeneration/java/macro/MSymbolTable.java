@@ -0,0 +1,72 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MSymbolTable {
+
+    private final String pName;
+
+    private final MSymbolTable mSymbolTable = this;
+
+    private final List<Object> eSymbolTableChunk = new LinkedList<Object>();
+
+    MSymbolTable(
+            String pName) {
+
+        if (pName == null) {
+            throw new NullPointerException();
+        }
+        this.pName = pName;
+    }
+
+    public MSymbolTableChunk newSymbolTableChunk(
+            String pValue) {
+
+        MSymbolTableChunk lSymbolTableChunk = new MSymbolTableChunk(pValue);
+        this.eSymbolTableChunk.add(lSymbolTableChunk);
+        return lSymbolTableChunk;
+    }
+
+    String pName() {
+
+        return this.pName;
+    }
+
+    private String rName() {
+
+        return this.mSymbolTable.pName();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("  private static final int[] ");
+        sb.append(rName());
+        sb.append(" = Tables.unpack(new String[] {");
+        sb.append(System.getProperty("line.separator"));
+        {
+            boolean first = true;
+            for (Object oSymbolTableChunk : this.eSymbolTableChunk) {
+                if (first) {
+                    first = false;
+                }
+                else {
+                    sb.append(",");
+                    sb.append(System.getProperty("line.separator"));
+                }
+                sb.append(oSymbolTableChunk.toString());
+            }
+        }
+        if (this.eSymbolTableChunk.size() > 0) {
+            sb.append(System.getProperty("line.separator"));
+        }
+        sb.append("  });");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
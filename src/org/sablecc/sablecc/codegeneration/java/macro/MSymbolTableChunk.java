@@ -0,0 +1,40 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MSymbolTableChunk {
+
+    private final String pValue;
+
+    private final MSymbolTableChunk mSymbolTableChunk = this;
+
+    MSymbolTableChunk(
+            String pValue) {
+
+        if (pValue == null) {
+            throw new NullPointerException();
+        }
+        this.pValue = pValue;
+    }
+
+    String pValue() {
+
+        return this.pValue;
+    }
+
+    private String rValue() {
+
+        return this.mSymbolTableChunk.pValue();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("      \"");
+        sb.append(rValue());
+        sb.append("\"");
+        return sb.toString();
+    }
+
+}
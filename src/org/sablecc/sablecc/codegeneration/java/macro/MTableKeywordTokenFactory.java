@@ -0,0 +1,72 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MTableKeywordTokenFactory {
+
+    private final String pAcceptation;
+
+    private final String pTokenName;
+
+    private final MTableKeywordTokenFactory mTableKeywordTokenFactory = this;
+
+    MTableKeywordTokenFactory(
+            String pAcceptation,
+            String pTokenName) {
+
+        if (pAcceptation == null) {
+            throw new NullPointerException();
+        }
+        this.pAcceptation = pAcceptation;
+        if (pTokenName == null) {
+            throw new NullPointerException();
+        }
+        this.pTokenName = pTokenName;
+    }
+
+    String pAcceptation() {
+
+        return this.pAcceptation;
+    }
+
+    String pTokenName() {
+
+        return this.pTokenName;
+    }
+
+    private String rAcceptation() {
+
+        return this.mTableKeywordTokenFactory.pAcceptation();
+    }
+
+    private String rTokenName() {
+
+        return this.mTableKeywordTokenFactory.pTokenName();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("    case ");
+        sb.append(rAcceptation());
+        sb.append(": {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      int keyword = Keywords.find(this.buffer, this.acceptOffset, this.acceptLength);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(keyword != -1) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        return Keywords.newToken(keyword, this);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return new N");
+        sb.append(rTokenName());
+        sb.append("(this);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
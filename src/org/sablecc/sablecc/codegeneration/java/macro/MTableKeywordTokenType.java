@@ -0,0 +1,72 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MTableKeywordTokenType {
+
+    private final String pAcceptation;
+
+    private final String pTokenName;
+
+    private final MTableKeywordTokenType mTableKeywordTokenType = this;
+
+    MTableKeywordTokenType(
+            String pAcceptation,
+            String pTokenName) {
+
+        if (pAcceptation == null) {
+            throw new NullPointerException();
+        }
+        this.pAcceptation = pAcceptation;
+        if (pTokenName == null) {
+            throw new NullPointerException();
+        }
+        this.pTokenName = pTokenName;
+    }
+
+    String pAcceptation() {
+
+        return this.pAcceptation;
+    }
+
+    String pTokenName() {
+
+        return this.pTokenName;
+    }
+
+    private String rAcceptation() {
+
+        return this.mTableKeywordTokenType.pAcceptation();
+    }
+
+    private String rTokenName() {
+
+        return this.mTableKeywordTokenType.pTokenName();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("    case ");
+        sb.append(rAcceptation());
+        sb.append(": {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      int keyword = Keywords.find(this.buffer, this.acceptOffset, this.acceptLength);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(keyword != -1) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        return Keywords.getType(keyword);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return Token.InternalType.T_");
+        sb.append(rTokenName());
+        sb.append(".ordinal();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,890 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MTableLexer {
+
+    private final String pMarkerCount;
+
+    private final MTableLexer mTableLexer = this;
+
+    private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
+
+    private final List<Object> eLexerTable = new LinkedList<Object>();
+
+    private final List<Object> eTableTokenFactory = new LinkedList<Object>();
+
+    private final List<Object> eTableKeywordTokenFactory = new LinkedList<Object>();
+
+    private final List<Object> eTableTokenType = new LinkedList<Object>();
+
+    private final List<Object> eTableKeywordTokenType = new LinkedList<Object>();
+
+    public MTableLexer(
+            String pMarkerCount) {
+
+        if (pMarkerCount == null) {
+            throw new NullPointerException();
+        }
+        this.pMarkerCount = pMarkerCount;
+    }
+
+    public MLexerTable newLexerTable(
+            String pName) {
+
+        MLexerTable lLexerTable = new MLexerTable(pName);
+        this.eLexerTable.add(lLexerTable);
+        return lLexerTable;
+    }
+
+    public MTableTokenFactory newTableTokenFactory(
+            String pAcceptation,
+            String pTokenName) {
+
+        MTableTokenFactory lTableTokenFactory = new MTableTokenFactory(
+                pAcceptation, pTokenName);
+        this.eTableTokenFactory.add(lTableTokenFactory);
+        return lTableTokenFactory;
+    }
+
+    public MTableKeywordTokenFactory newTableKeywordTokenFactory(
+            String pAcceptation,
+            String pTokenName) {
+
+        MTableKeywordTokenFactory lTableKeywordTokenFactory = new MTableKeywordTokenFactory(
+                pAcceptation, pTokenName);
+        this.eTableKeywordTokenFactory.add(lTableKeywordTokenFactory);
+        return lTableKeywordTokenFactory;
+    }
+
+    public MTableTokenType newTableTokenType(
+            String pAcceptation,
+            String pTokenName) {
+
+        MTableTokenType lTableTokenType = new MTableTokenType(pAcceptation,
+                pTokenName);
+        this.eTableTokenType.add(lTableTokenType);
+        return lTableTokenType;
+    }
+
+    public MTableKeywordTokenType newTableKeywordTokenType(
+            String pAcceptation,
+            String pTokenName) {
+
+        MTableKeywordTokenType lTableKeywordTokenType = new MTableKeywordTokenType(
+                pAcceptation, pTokenName);
+        this.eTableKeywordTokenType.add(lTableKeywordTokenType);
+        return lTableKeywordTokenType;
+    }
+
+    public MDefaultPackage newDefaultPackage(
+            String pLanguageName) {
+
+        MDefaultPackage lDefaultPackage = new MDefaultPackage(pLanguageName);
+        this.eDefaultPackage_SpecifiedPackage.add(lDefaultPackage);
+        return lDefaultPackage;
+    }
+
+    public MSpecifiedPackage newSpecifiedPackage(
+            String pLanguageName,
+            String pPackage) {
+
+        MSpecifiedPackage lSpecifiedPackage = new MSpecifiedPackage(
+                pLanguageName, pPackage);
+        this.eDefaultPackage_SpecifiedPackage.add(lSpecifiedPackage);
+        return lSpecifiedPackage;
+    }
+
+    String pMarkerCount() {
+
+        return this.pMarkerCount;
+    }
+
+    private String rMarkerCount() {
+
+        return this.mTableLexer.pMarkerCount();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(new MHeader().toString());
+        if (this.eDefaultPackage_SpecifiedPackage.size() > 0) {
+            sb.append(System.getProperty("line.separator"));
+        }
+        for (Object oDefaultPackage_SpecifiedPackage : this.eDefaultPackage_SpecifiedPackage) {
+            sb.append(oDefaultPackage_SpecifiedPackage.toString());
+        }
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.io.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.nio.channels.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.nio.charset.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.nio.file.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.util.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("public class Lexer");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    extends AbstractLexer {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final int NO_MARKER = -1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final int NOT_ACCEPTING = -1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final int MEMO_INITIAL_SIZE = 64;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final long NO_KEY = -1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        for (Object oLexerTable : this.eLexerTable) {
+            sb.append(oLexerTable.toString());
+        }
+        sb.append("  private int resumeState;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final int[] markers = new int[");
+        sb.append(rMarkerCount());
+        sb.append("];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private boolean linearTime;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int[] pathStates;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private long[] pathPositions;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int pathLength;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private long[] memoKeys;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int[] memoStates;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private long[] memoScans;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private long[] memoMarkers;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private boolean[] memoEof;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int memoSize;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Creates a push lexer, which lexes the characters passed to feed.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public Lexer() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this(null, false);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public Lexer(Reader reader) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this(reader, false);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public Lexer(Reader reader, boolean sharedText) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    super(reader, sharedText);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  Lexer(Reader reader, long offset, LineIndex lineIndex) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    super(reader, offset, lineIndex);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  Lexer(Reader reader, long offset, int line, int pos, long reach) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    super(reader, offset, line, pos, reach);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public Lexer(FileChannel channel, Charset charset)");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this(channel, charset, false);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public Lexer(FileChannel channel, Charset charset, boolean sharedText)");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this(new MappedReader(channel, charset), sharedText);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public static Lexer open(Path path, Charset charset)");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return new Lexer(MappedReader.open(path, charset));");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public boolean isLinearTime() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.linearTime;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public void setLinearTime(boolean linearTime) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.linearTime = linearTime;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(linearTime) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.pathStates = new int[MEMO_INITIAL_SIZE];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.pathPositions = new long[MEMO_INITIAL_SIZE];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.memoKeys = new long[MEMO_INITIAL_SIZE];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.memoStates = new int[MEMO_INITIAL_SIZE];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.memoScans = new long[MEMO_INITIAL_SIZE];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.memoMarkers = new long[MEMO_INITIAL_SIZE];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.memoEof = new boolean[MEMO_INITIAL_SIZE];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      Arrays.fill(this.memoKeys, NO_KEY);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    else {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.pathStates = null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.pathPositions = null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.memoKeys = null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.memoStates = null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.memoScans = null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.memoMarkers = null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.memoEof = null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.pathLength = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.memoSize = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  void clear() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    super.clear();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.resumeState = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.pathLength = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.memoSize != 0) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      Arrays.fill(this.memoKeys, NO_KEY);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.memoSize = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  Token internalNext()");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws LexerException, IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int acceptation = lexToken();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(acceptation >= 0) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return newToken(acceptation);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(acceptation == NO_TOKEN && !this.inputNeeded) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return newEnd();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  int nextTokenType()");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws LexerException, IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int acceptation = lexToken();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(acceptation < 0) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return acceptation;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return getTokenType(acceptation);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Lexes the next token and returns its acceptation, SKIPPED for an");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // ignored token, or NO_TOKEN at the end of input or when more input is");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // needed.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int lexToken()");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws LexerException, IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int state;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.inputNeeded) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.inputNeeded = false;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      state = this.resumeState;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    else {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.scan = this.start;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.pathLength = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      state = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    long memoMarker = -1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    while(ACCEPT[state] == NOT_ACCEPTING) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(this.linearTime) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        long position = this.bufferPosition + this.scan;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        int slot = findMemo(memoKey(position, state));");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        if(slot != -1) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          // an earlier scan went through this state at this position, so");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          // the rest of this scan is already known");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          state = this.memoStates[slot];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          this.scan = (int) (this.memoScans[slot] - this.bufferPosition);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          this.scan_reached_eof = this.memoEof[slot];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          memoMarker = this.memoMarkers[slot];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          if(memoMarker != -1) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("            this.markers[ACCEPT_MARKER[state]] = (int) (memoMarker - this.bufferPosition) - this.start;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          break;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        pushPath(state, position);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      int marker = MARKER[state];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(marker != NO_MARKER) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        this.markers[marker] = this.scan - this.start;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(this.scan == this.limit && !this.eof) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        if(this.reader == null) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          // push mode: the scan resumes in this state after the next feed");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          this.inputNeeded = true;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          this.resumeState = state;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          if(this.linearTime) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("            this.pathLength--;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          return NO_TOKEN;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        fill();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(SELF_LOOP[state] != 0 && !this.linearTime && spanSelfLoop(state)) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        continue;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      int symbol;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(this.scan < this.limit) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        symbol = Symbol.getSymbolIndex(this.buffer[this.scan++]);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        if(symbol == -1) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          throw unexpectedCharacter();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      else {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        if(this.scan == this.start) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          return NO_TOKEN;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        this.scan_reached_eof = true;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        symbol = Symbol.Symbol_end.ordinal();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      int index = BASE[state] + symbol;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(CHECK[index] != state) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        throw unexpectedCharacter();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      state = NEXT[index];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    boolean reachedEof = this.scan_reached_eof;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int acceptMarker = ACCEPT_MARKER[state];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int length;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(acceptMarker == NO_MARKER) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      length = lengthWithBackCount(BACK_COUNT[state]);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    else {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      length = lengthWithMarker(acceptMarker, BACK_COUNT[state]);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int acceptation = ACCEPT[state];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    boolean ignored = IGNORED[acceptation] != 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(ignored) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      skip(length);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    else {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      accept(length);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.linearTime) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      memoize(state, reachedEof, memoMarker);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return ignored ? SKIPPED : acceptation;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private Token newToken(int acceptation) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    switch(acceptation) {");
+        sb.append(System.getProperty("line.separator"));
+        for (Object oTableTokenFactory : this.eTableTokenFactory) {
+            sb.append(oTableTokenFactory.toString());
+        }
+        for (Object oTableKeywordTokenFactory : this.eTableKeywordTokenFactory) {
+            sb.append(oTableKeywordTokenFactory.toString());
+        }
+        sb.append("    default:");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int getTokenType(int acceptation) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    switch(acceptation) {");
+        sb.append(System.getProperty("line.separator"));
+        for (Object oTableTokenType : this.eTableTokenType) {
+            sb.append(oTableTokenType.toString());
+        }
+        for (Object oTableKeywordTokenType : this.eTableKeywordTokenType) {
+            sb.append(oTableKeywordTokenType.toString());
+        }
+        sb.append("    default:");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return SKIPPED;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Consumes the buffered characters on which the state loops to itself,");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // without going through the general transition dispatch. The linear-time");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // mode does not use it, as it must record every (state, position) pair.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private boolean spanSelfLoop(int state) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    char[] buffer = this.buffer;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int limit = this.limit;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int scan = this.scan;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int base = BASE[state];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    while(scan < limit) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      int symbol = Symbol.getSymbolIndex(buffer[scan]);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(symbol == -1 || CHECK[base + symbol] != state || NEXT[base + symbol] != state) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        break;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      scan++;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    boolean consumed = scan != this.scan;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.scan = scan;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return consumed;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int lengthWithMarker(int marker, int backCount) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.scan_reached_eof = false;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.markers[marker] - backCount;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static long memoKey(long position, int state) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return position * ACCEPT.length + state;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private void pushPath(int state, long position) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.pathLength == this.pathStates.length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      int[] newStates = new int[this.pathLength * 2];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      long[] newPositions = new long[this.pathLength * 2];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      System.arraycopy(this.pathStates, 0, newStates, 0, this.pathLength);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      System.arraycopy(this.pathPositions, 0, newPositions, 0, this.pathLength);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.pathStates = newStates;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.pathPositions = newPositions;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.pathStates[this.pathLength] = state;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.pathPositions[this.pathLength] = position;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.pathLength++;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Records the outcome of the current scan for each (state, position) pair");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // it went through, as in Reps' linear-time maximal munch. Positions before");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // the new token start are never scanned again, so they are not recorded.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Each pair is therefore scanned at most once over the whole input.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private void memoize(int finalState, boolean reachedEof, long marker) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int acceptMarker = ACCEPT_MARKER[finalState];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    long scanEnd = this.bufferPosition + this.scan;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    long liveStart = this.bufferPosition + this.start;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(int i = this.pathLength - 1; i >= 0; i--) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      long position = this.pathPositions[i];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(position < liveStart) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        break;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      int state = this.pathStates[i];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(marker == -1 && acceptMarker != NO_MARKER && MARKER[state] == acceptMarker) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        marker = position;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      putMemo(memoKey(position, state), finalState, scanEnd, marker, reachedEof);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.pathLength = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int memoSlot(long key) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & (this.memoKeys.length - 1);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int findMemo(long key) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int mask = this.memoKeys.length - 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(int slot = memoSlot(key);; slot = (slot + 1) & mask) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      long slotKey = this.memoKeys[slot];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(slotKey == key) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        return slot;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(slotKey == NO_KEY) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        return -1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private void putMemo(long key, int state, long scan, long marker, boolean eof) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(2 * (this.memoSize + 1) > this.memoKeys.length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      rehashMemo();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int mask = this.memoKeys.length - 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int slot = memoSlot(key);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    while(this.memoKeys[slot] != NO_KEY && this.memoKeys[slot] != key) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      slot = (slot + 1) & mask;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(this.memoKeys[slot] == NO_KEY) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.memoSize++;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.memoKeys[slot] = key;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.memoStates[slot] = state;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.memoScans[slot] = scan;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.memoMarkers[slot] = marker;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.memoEof[slot] = eof;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Drops the pairs located before the current token start and resizes the");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // table for the remaining ones.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private void rehashMemo() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    long liveKey = memoKey(this.bufferPosition + this.start, 0);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    long[] oldKeys = this.memoKeys;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int[] oldStates = this.memoStates;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    long[] oldScans = this.memoScans;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    long[] oldMarkers = this.memoMarkers;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    boolean[] oldEof = this.memoEof;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int live = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(int i = 0; i < oldKeys.length; i++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(oldKeys[i] >= liveKey) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        live++;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int length = MEMO_INITIAL_SIZE;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    while(length < 4 * (live + 1)) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      length *= 2;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.memoKeys = new long[length];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.memoStates = new int[length];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.memoScans = new long[length];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.memoMarkers = new long[length];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.memoEof = new boolean[length];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    Arrays.fill(this.memoKeys, NO_KEY);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.memoSize = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(int i = 0; i < oldKeys.length; i++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(oldKeys[i] >= liveKey) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        putMemo(oldKeys[i], oldStates[i], oldScans[i], oldMarkers[i], oldEof[i]);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("}");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
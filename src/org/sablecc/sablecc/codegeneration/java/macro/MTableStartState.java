@@ -0,0 +1,19 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MTableStartState {
+
+    MTableStartState() {
+
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("TableState.START");
+        return sb.toString();
+    }
+
+}
@@ -0,0 +1,304 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MTableState {
+
+    private final String pStateCount;
+
+    private final MTableState mTableState = this;
+
+    private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
+
+    private final List<Object> eParserTable = new LinkedList<Object>();
+
+    public MTableState(
+            String pStateCount) {
+
+        if (pStateCount == null) {
+            throw new NullPointerException();
+        }
+        this.pStateCount = pStateCount;
+    }
+
+    public MParserTable newParserTable(
+            String pName) {
+
+        MParserTable lParserTable = new MParserTable(pName);
+        this.eParserTable.add(lParserTable);
+        return lParserTable;
+    }
+
+    public MDefaultPackage newDefaultPackage(
+            String pLanguageName) {
+
+        MDefaultPackage lDefaultPackage = new MDefaultPackage(pLanguageName);
+        this.eDefaultPackage_SpecifiedPackage.add(lDefaultPackage);
+        return lDefaultPackage;
+    }
+
+    public MSpecifiedPackage newSpecifiedPackage(
+            String pLanguageName,
+            String pPackage) {
+
+        MSpecifiedPackage lSpecifiedPackage = new MSpecifiedPackage(
+                pLanguageName, pPackage);
+        this.eDefaultPackage_SpecifiedPackage.add(lSpecifiedPackage);
+        return lSpecifiedPackage;
+    }
+
+    String pStateCount() {
+
+        return this.pStateCount;
+    }
+
+    private String rStateCount() {
+
+        return this.mTableState.pStateCount();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(new MHeader().toString());
+        if (this.eDefaultPackage_SpecifiedPackage.size() > 0) {
+            sb.append(System.getProperty("line.separator"));
+        }
+        for (Object oDefaultPackage_SpecifiedPackage : this.eDefaultPackage_SpecifiedPackage) {
+            sb.append(oDefaultPackage_SpecifiedPackage.toString());
+        }
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.io.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// The states of the table-driven parser. The action of a state is either");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// SHIFT or the index of the reduced alternative. LR(1) decisions and");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// transitions are stored in row-displaced tables: the entry of state s for");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// type t is NEXT[BASE[s] + t] when CHECK[BASE[s] + t] == s, and is absent");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// otherwise. When no entry matches, the default action of the state is");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// taken.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("final class TableState");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    extends LRState {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final int SHIFT = -1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final int FALSE_CONDITION = -1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        for (Object oParserTable : this.eParserTable) {
+            sb.append(oParserTable.toString());
+        }
+        sb.append("  private static final TableState[] STATES = new TableState[");
+        sb.append(rStateCount());
+        sb.append("];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  static {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(int i = 0; i < STATES.length; i++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      STATES[i] = new TableState(i);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  static final TableState START = STATES[0];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final int number;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private TableState(int number) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.number = number;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  Node apply(Parser parser)");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws ParserException, LexerException, IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int action = decide(parser);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(action == SHIFT) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      parser.shift();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return Reductions.reduce(action, parser);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int decide(Parser parser)");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws LexerException, IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int state = this.number;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    switch(LOOKAHEAD[state]) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    case 0:");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return DEFAULT_ACTION[state];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    case 1: {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      int index = ACTION_BASE[state] + parser.look(1).getInternalType().ordinal();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(ACTION_CHECK[index] == state) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        return ACTION_NEXT[index];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return DEFAULT_ACTION[state];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    default:");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return decideLrK(parser, state);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Each decision of the list is the action, the number of conditions and,");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // for each condition, the distance of the token and the offset of the set");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // of types it must belong to. Tokens are only looked at until a condition");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // fails, as in the generated state classes.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static int decideLrK(Parser parser, int state)");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws LexerException, IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int index = DECISION_START[state];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int end = DECISION_START[state + 1];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    while(index < end) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      int action = DECISIONS[index++];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      int conditionCount = DECISIONS[index++];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      boolean matches = true;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      for(int i = 0; i < conditionCount; i++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        int distance = DECISIONS[index++];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        int set = DECISIONS[index++];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        if(matches) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("          matches = set != FALSE_CONDITION && contains(set, parser.look(distance).getInternalType().ordinal());");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(matches) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        return action;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return DEFAULT_ACTION[state];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static boolean contains(int set, int type) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int end = set + 1 + TOKEN_SETS[set];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(int i = set + 1; i < end; i++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(TOKEN_SETS[i] == type) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        return true;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return false;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  LRState getTokenTarget(Token token)");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws ParserException, LexerException, IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int index = SHIFT_BASE[this.number] + token.getInternalType().ordinal();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(SHIFT_CHECK[index] != this.number) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throw new ParserException(token);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return STATES[SHIFT_NEXT[index]];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  LRState getProductionTarget(CSTProductionType type)");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throws ParserException, LexerException, IOException {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int index = GOTO_BASE[this.number] + type.ordinal();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(GOTO_CHECK[index] != this.number) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throw new RuntimeException(\"internal error in parsing tables\");");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return STATES[GOTO_NEXT[index]];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("}");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
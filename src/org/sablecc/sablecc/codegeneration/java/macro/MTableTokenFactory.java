@@ -0,0 +1,62 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+public class MTableTokenFactory {
+
+    private final String pAcceptation;
+
+    private final String pTokenName;
+
+    private final MTableTokenFactory mTableTokenFactory = this;
+
+    MTableTokenFactory(
+            String pAcceptation,
+            String pTokenName) {
+
+        if (pAcceptation == null) {
+            throw new NullPointerException();
+        }
+        this.pAcceptation = pAcceptation;
+        if (pTokenName == null) {
+            throw new NullPointerException();
+        }
+        this.pTokenName = pTokenName;
+    }
+
+    String pAcceptation() {
+
+        return this.pAcceptation;
+    }
+
+    String pTokenName() {
+
+        return this.pTokenName;
+    }
+
+    private String rAcceptation() {
+
+        return this.mTableTokenFactory.pAcceptation();
+    }
+
+    private String rTokenName() {
+
+        return this.mTableTokenFactory.pTokenName();
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("    case ");
+        sb.append(rAcceptation());
+        sb.append(":");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return new N");
+        sb.append(rTokenName());
+        sb.append("(this);");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
@@ -4,11 +4,11 @@ package org.sablecc.sablecc.codegeneration.java.macro;
 
 import java.util.*;
 
-public class MEntry {
+public class MTables {
 
     private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
 
-    public MEntry() {
+    public MTables() {
 
     }
 
@@ -42,38 +42,44 @@ public class MEntry {
             sb.append(oDefaultPackage_SpecifiedPackage.toString());
         }
         sb.append(System.getProperty("line.separator"));
-        sb.append("class Entry<E> {");
+        sb.append("final class Tables {");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("    E element;");
+        sb.append("  private Tables() {");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    Entry<E> next;");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  static int[] unpack(String[] chunks) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    Entry<E> previous;");
+        sb.append("    int length = 0;");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    for(String chunk : chunks) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    Entry(");
+        sb.append("      length += chunk.length();");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            E element,");
+        sb.append("    }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            Entry<E> next,");
         sb.append(System.getProperty("line.separator"));
-        sb.append("            Entry<E> previous) {");
+        sb.append("    int[] table = new int[length];");
         sb.append(System.getProperty("line.separator"));
+        sb.append("    int i = 0;");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.element = element;");
+        sb.append("    for(String chunk : chunks) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.next = next;");
+        sb.append("      for(int j = 0; j < chunk.length(); j++) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("        this.previous = previous;");
+        sb.append("        table[i++] = chunk.charAt(j) - 1;");
         sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
         sb.append(System.getProperty("line.separator"));
         sb.append("    }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("}");
+        sb.append("    return table;");
         sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("}");
         sb.append(System.getProperty("line.separator"));
         return sb.toString();
     }
@@ -0,0 +1,145 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MTextPool {
+
+    private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
+
+    public MTextPool() {
+
+    }
+
+    public MDefaultPackage newDefaultPackage(
+            String pLanguageName) {
+
+        MDefaultPackage lDefaultPackage = new MDefaultPackage(pLanguageName);
+        this.eDefaultPackage_SpecifiedPackage.add(lDefaultPackage);
+        return lDefaultPackage;
+    }
+
+    public MSpecifiedPackage newSpecifiedPackage(
+            String pLanguageName,
+            String pPackage) {
+
+        MSpecifiedPackage lSpecifiedPackage = new MSpecifiedPackage(
+                pLanguageName, pPackage);
+        this.eDefaultPackage_SpecifiedPackage.add(lSpecifiedPackage);
+        return lSpecifiedPackage;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(new MHeader().toString());
+        if (this.eDefaultPackage_SpecifiedPackage.size() > 0) {
+            sb.append(System.getProperty("line.separator"));
+        }
+        for (Object oDefaultPackage_SpecifiedPackage : this.eDefaultPackage_SpecifiedPackage) {
+            sb.append(oDefaultPackage_SpecifiedPackage.toString());
+        }
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// A bounded pool of token texts, so that tokens of the same text share a");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// single string. Each text has a single slot, where it replaces the");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// previous one, so the pool never grows. It is not thread-safe, but it may");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// be shared by the lexers of a thread.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("public final class TextPool {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final int MAX_TEXT_LENGTH = 64;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final String[] texts;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public TextPool() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this(4096);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public TextPool(int size) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int capacity = 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    while(capacity < size) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      capacity <<= 1;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.texts = new String[capacity];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  String get(char[] buffer, int offset, int length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(length > MAX_TEXT_LENGTH) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return new String(buffer, offset, length);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int hash = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int end = offset + length;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(int i = offset; i < end; i++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      hash = 31 * hash + buffer[i];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int slot = (hash ^ (hash >>> 16)) & (this.texts.length - 1);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    String text = this.texts[slot];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(text != null && text.length() == length && matches(text, buffer, offset)) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      return text;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    text = new String(buffer, offset, length);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.texts[slot] = text;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return text;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static boolean matches(String text, char[] buffer, int offset) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(int i = 0; i < text.length(); i++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      if(text.charAt(i) != buffer[offset + i]) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("        return false;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return true;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("}");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
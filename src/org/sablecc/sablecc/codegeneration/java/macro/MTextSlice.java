@@ -0,0 +1,142 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MTextSlice {
+
+    private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
+
+    public MTextSlice() {
+
+    }
+
+    public MDefaultPackage newDefaultPackage(
+            String pLanguageName) {
+
+        MDefaultPackage lDefaultPackage = new MDefaultPackage(pLanguageName);
+        this.eDefaultPackage_SpecifiedPackage.add(lDefaultPackage);
+        return lDefaultPackage;
+    }
+
+    public MSpecifiedPackage newSpecifiedPackage(
+            String pLanguageName,
+            String pPackage) {
+
+        MSpecifiedPackage lSpecifiedPackage = new MSpecifiedPackage(
+                pLanguageName, pPackage);
+        this.eDefaultPackage_SpecifiedPackage.add(lSpecifiedPackage);
+        return lSpecifiedPackage;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(new MHeader().toString());
+        if (this.eDefaultPackage_SpecifiedPackage.size() > 0) {
+            sb.append(System.getProperty("line.separator"));
+        }
+        for (Object oDefaultPackage_SpecifiedPackage : this.eDefaultPackage_SpecifiedPackage) {
+            sb.append(oDefaultPackage_SpecifiedPackage.toString());
+        }
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// The text of a shared text token: a slice of a lexer buffer, which is");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// never overwritten once tokens refer to it. The string is only built when");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// it is asked for.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("final class TextSlice");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    implements CharSequence {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final char[] buffer;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final int offset;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private final int length;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private String text;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  TextSlice(char[] buffer, int offset, int length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.buffer = buffer;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.offset = offset;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.length = length;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public int length() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.length;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public char charAt(int index) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(index < 0 || index >= this.length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throw new IndexOutOfBoundsException(\"index: \" + index);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.buffer[this.offset + index];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public CharSequence subSequence(int start, int end) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(start < 0 || start > end || end > this.length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throw new IndexOutOfBoundsException(\"start: \" + start + \", end: \" + end);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return new TextSlice(this.buffer, this.offset + start, end - start);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // The text field is read once, so that threads that race here build equal");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // strings, and a String is safe to publish without synchronization.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public String toString() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    String text = this.text;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(text == null) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      text = new String(this.buffer, this.offset, this.length);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.text = text;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return text;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("}");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
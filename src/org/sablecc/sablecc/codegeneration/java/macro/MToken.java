@@ -8,12 +8,30 @@ public class MToken {
 
     private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
 
+    private final List<Object> eEagerTokenPositions = new LinkedList<Object>();
+
+    private final List<Object> eLazyTokenPositions = new LinkedList<Object>();
+
     private final List<Object> eNodeInternalTypeEnumEntry = new LinkedList<Object>();
 
     public MToken() {
 
     }
 
+    public MEagerTokenPositions newEagerTokenPositions() {
+
+        MEagerTokenPositions lEagerTokenPositions = new MEagerTokenPositions();
+        this.eEagerTokenPositions.add(lEagerTokenPositions);
+        return lEagerTokenPositions;
+    }
+
+    public MLazyTokenPositions newLazyTokenPositions() {
+
+        MLazyTokenPositions lLazyTokenPositions = new MLazyTokenPositions();
+        this.eLazyTokenPositions.add(lLazyTokenPositions);
+        return lLazyTokenPositions;
+    }
+
     public MNodeInternalTypeEnumEntry newNodeInternalTypeEnumEntry(
             String pName) {
 
@@ -58,20 +76,21 @@ public class MToken {
         sb.append("    extends Node {");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("  private final String text;");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("  private final int line;");
+        sb.append("  // A string, or a slice of the lexer buffer for shared text tokens.");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  private final int pos;");
+        sb.append("  private final CharSequence text;");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("  Token(String text, int line, int pos) {");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("    this.text = text;");
+        for (Object oEagerTokenPositions : this.eEagerTokenPositions) {
+            sb.append(oEagerTokenPositions.toString());
+        }
+        for (Object oLazyTokenPositions : this.eLazyTokenPositions) {
+            sb.append(oLazyTokenPositions.toString());
+        }
         sb.append(System.getProperty("line.separator"));
-        sb.append("    this.line = line;");
+        sb.append("  Token(AbstractLexer lexer) {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    this.pos = pos;");
+        sb.append("    this(lexer, null);");
         sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
@@ -80,29 +99,24 @@ public class MToken {
         sb.append(System.getProperty("line.separator"));
         sb.append("  public String getText() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    return this.text;");
+        sb.append("    return this.text.toString();");
         sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("  @Override");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("  public int getLine() {");
+        sb.append("  public CharSequence getTextSequence() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    return this.line;");
+        sb.append("    return this.text;");
         sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
-        sb.append("  @Override");
-        sb.append(System.getProperty("line.separator"));
-        sb.append("  public int getPos() {");
+        sb.append("  public int getTextLength() {");
         sb.append(System.getProperty("line.separator"));
-        sb.append("    return this.pos;");
+        sb.append("    return this.text.length();");
         sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  ");
         sb.append(System.getProperty("line.separator"));
         sb.append("    static enum InternalType {");
         sb.append(System.getProperty("line.separator"));
@@ -113,7 +127,6 @@ public class MToken {
         sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  ");
         sb.append(System.getProperty("line.separator"));
         sb.append("  abstract InternalType getInternalType();");
         sb.append(System.getProperty("line.separator"));
@@ -124,7 +137,13 @@ public class MToken {
         sb.append(System.getProperty("line.separator"));
         sb.append("  }");
         sb.append(System.getProperty("line.separator"));
-        sb.append("  ");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  @Override");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  void pushChildren(IterativeWalker walker) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
         sb.append("   @Override");
         sb.append(System.getProperty("line.separator"));
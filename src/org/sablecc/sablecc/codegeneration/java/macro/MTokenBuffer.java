@@ -0,0 +1,181 @@
+/* This file was generated by SableCC's ObjectMacro. */
+
+package org.sablecc.sablecc.codegeneration.java.macro;
+
+import java.util.*;
+
+public class MTokenBuffer {
+
+    private final List<Object> eDefaultPackage_SpecifiedPackage = new LinkedList<Object>();
+
+    public MTokenBuffer() {
+
+    }
+
+    public MDefaultPackage newDefaultPackage(
+            String pLanguageName) {
+
+        MDefaultPackage lDefaultPackage = new MDefaultPackage(pLanguageName);
+        this.eDefaultPackage_SpecifiedPackage.add(lDefaultPackage);
+        return lDefaultPackage;
+    }
+
+    public MSpecifiedPackage newSpecifiedPackage(
+            String pLanguageName,
+            String pPackage) {
+
+        MSpecifiedPackage lSpecifiedPackage = new MSpecifiedPackage(
+                pLanguageName, pPackage);
+        this.eDefaultPackage_SpecifiedPackage.add(lSpecifiedPackage);
+        return lSpecifiedPackage;
+    }
+
+    @Override
+    public String toString() {
+
+        StringBuilder sb = new StringBuilder();
+        sb.append(new MHeader().toString());
+        if (this.eDefaultPackage_SpecifiedPackage.size() > 0) {
+            sb.append(System.getProperty("line.separator"));
+        }
+        for (Object oDefaultPackage_SpecifiedPackage : this.eDefaultPackage_SpecifiedPackage) {
+            sb.append(oDefaultPackage_SpecifiedPackage.toString());
+        }
+        sb.append(System.getProperty("line.separator"));
+        sb.append("import java.util.*;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// A growable buffer of tokens packed as (type, offset, length) int");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// triples. The type is the ordinal of the Token.InternalType constant, and");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// the offset is the input offset of the token. Adding a token whose offset");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// does not fit in an int throws an IllegalStateException instead of");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("// packing a truncated offset.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("public final class TokenBuffer {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private static final String[] TYPE_NAMES;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  static {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    Token.InternalType[] types = Token.InternalType.values();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    TYPE_NAMES = new String[types.length];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    for(int i = 0; i < types.length; i++) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      TYPE_NAMES[i] = types[i].name();");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int[] data;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  private int size;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public TokenBuffer() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this(1024);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public TokenBuffer(int capacity) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.data = new int[Math.max(1, capacity) * 3];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  void add(int type, long offset, int length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(offset > Integer.MAX_VALUE) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      throw new IllegalStateException(\"token offset \" + offset + \" does not fit in a token buffer\");");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    int index = this.size * 3;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    if(index == this.data.length) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("      this.data = Arrays.copyOf(this.data, index * 2);");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.data[index] = type;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.data[index + 1] = (int) offset;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.data[index + 2] = length;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.size++;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public int size() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.size;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public void clear() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    this.size = 0;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public int getType(int index) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.data[index * 3];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public int getOffset(int index) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.data[index * 3 + 1];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public int getLength(int index) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.data[index * 3 + 2];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  // Returns the packed triples, of which the first size() are valid.");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public int[] getData() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return this.data;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  public static String getTypeName(int type) {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return TYPE_NAMES[type];");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("}");
+        sb.append(System.getProperty("line.separator"));
+        return sb.toString();
+    }
+
+}
@@ -52,6 +52,13 @@ public class MTransitionState {
         sb.append("  abstract State getTarget(Symbol symbol);");
         sb.append(System.getProperty("line.separator"));
         sb.append(System.getProperty("line.separator"));
+        sb.append("  long[] getSelfLoop() {");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("    return null;");
+        sb.append(System.getProperty("line.separator"));
+        sb.append("  }");
+        sb.append(System.getProperty("line.separator"));
+        sb.append(System.getProperty("line.separator"));
         sb.append("  StateType getStateType() {");
         sb.append(System.getProperty("line.separator"));
         sb.append("    return State.StateType.TRANSITION;");
@@ -16,6 +16,8 @@ public class MTransitionStateSingleton {
 
     private final List<Object> eNoMarker = new LinkedList<Object>();
 
+    private final List<Object> eSelfLoop = new LinkedList<Object>();
+
     private final List<Object> eTransitionTarget = new LinkedList<Object>();
 
     public MTransitionStateSingleton(
@@ -42,6 +44,13 @@ public class MTransitionStateSingleton {
         return lNoMarker;
     }
 
+    public MSelfLoop newSelfLoop() {
+
+        MSelfLoop lSelfLoop = new MSelfLoop();
+        this.eSelfLoop.add(lSelfLoop);
+        return lSelfLoop;
+    }
+
     public MTransitionTarget newTransitionTarget(
             String pSymbol,
             String pTarget) {
@@ -119,6 +128,9 @@ public class MTransitionStateSingleton {
             sb.append(oNoMarker.toString());
         }
         sb.append(System.getProperty("line.separator"));
+        for (Object oSelfLoop : this.eSelfLoop) {
+            sb.append(oSelfLoop.toString());
+        }
         sb.append("  State getTarget(Symbol symbol) {");
         sb.append(System.getProperty("line.separator"));
         sb.append("    switch(symbol) {");
@@ -254,11 +254,22 @@ public class Context
 
     Automaton computeAutomaton() {
 
+        return computeAutomaton(Collections.<LexerExpression> emptySet());
+    }
+
+    /**
+     * Computes the automaton of this context, leaving out the provided
+     * tokens.
+     */
+    Automaton computeAutomaton(
+            Set<LexerExpression> excludedTokens) {
+
         Automaton automaton = Automaton.getEmptyAutomaton();
 
         // TODO this code may only be stable with restricted syntax
         for (IToken iToken : this.tokenSet) {
-            if (iToken instanceof LexerExpression) {
+            if (iToken instanceof LexerExpression
+                    && !excludedTokens.contains(iToken)) {
                 LexerExpression token = (LexerExpression) iToken;
                 automaton = automaton.or(token.getAutomaton().accept(
                         token.getAcceptation()));
@@ -584,11 +584,22 @@ public class Grammar
 
     public void compileLexer(
             Trace trace,
-            Strictness strictness) {
+            Strictness strictness,
+            boolean keywordHashing) {
 
         Automaton automaton;
         if (this.globalAnonymousContext != null) {
-            automaton = this.globalAnonymousContext.computeAutomaton()
+            // keywords are recognized from the text of their cover token
+            Set<LexerExpression> keywords;
+            if (keywordHashing) {
+                keywords = KeywordFinder.findKeywords(
+                        this.globalAnonymousContext, this.lexer, trace);
+            }
+            else {
+                keywords = Collections.emptySet();
+            }
+
+            automaton = this.globalAnonymousContext.computeAutomaton(keywords)
                     .minimal().longest().minimal();
             automaton = checkAndApplyLexerPrecedence(automaton, trace,
                     strictness).minimal();
@@ -631,7 +642,8 @@ public class Grammar
             // Note: The big automaton has to be minimal (thus with the unused
             // acceptations removed)
             if (!automaton.getAcceptations().contains(
-                    lexerExpression.getAcceptation())) {
+                    lexerExpression.getAcceptation())
+                    && !this.lexer.isKeyword(lexerExpression)) {
                 if (strictness == Strictness.STRICT) {
                     throw SemanticException.genericError("The "
                             + lexerExpression.getExpressionName()
@@ -0,0 +1,361 @@
+/* This file is part of SableCC ( http://sablecc.org ).
+ *
+ * See the NOTICE file distributed with this work for copyright information.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.sablecc.sablecc.core;
+
+import java.math.*;
+import java.util.*;
+
+import org.sablecc.exception.*;
+import org.sablecc.sablecc.alphabet.*;
+import org.sablecc.sablecc.automaton.*;
+import org.sablecc.sablecc.launcher.*;
+
+/**
+ * The KeywordFinder class identifies keyword tokens. A keyword is a token
+ * whose language is a finite set of literal strings, each of which is matched
+ * by exactly one other token, its cover, and by no other token. Keywords can
+ * be left out of the lexer automaton: the union of the token languages is
+ * unchanged, so longest match is unaffected, and the generated lexer
+ * reclassifies the text accepted for the cover. As the language of a keyword
+ * is strictly included in the language of its cover, the implicit inclusion
+ * rule of <code>Grammar.checkAndApplyLexerPrecedence</code> gives precedence
+ * to the keyword, which is exactly what the reclassification does.
+ */
+class KeywordFinder {
+
+    /** The maximum number of strings matched by a keyword token. */
+    private static final int MAX_WORD_COUNT = 256;
+
+    private static final int NO_MATCH = 0;
+
+    private static final int MATCH = 1;
+
+    private static final int POSSIBLE_MATCH = 2;
+
+    private KeywordFinder() {
+
+        throw new InternalException("no instance allowed");
+    }
+
+    /**
+     * Records the keywords of the provided context in the lexer and returns
+     * them.
+     */
+    static Set<LexerExpression> findKeywords(
+            Context context,
+            Lexer lexer,
+            Trace trace) {
+
+        Map<LexerExpression, Set<String>> candidates = new LinkedHashMap<LexerExpression, Set<String>>();
+
+        for (LexerExpression token : context.getLexerExpressionTokens()) {
+            Set<String> words = getWords(token.getAutomaton());
+            if (words != null) {
+                candidates.put(token, words);
+            }
+        }
+
+        // strings matched by two candidates are left to the automaton
+        Set<String> words = new HashSet<String>();
+        Set<String> sharedWords = new HashSet<String>();
+        for (Set<String> candidateWords : candidates.values()) {
+            for (String word : candidateWords) {
+                if (!words.add(word)) {
+                    sharedWords.add(word);
+                }
+            }
+        }
+
+        Set<LexerExpression> keywords = new LinkedHashSet<LexerExpression>();
+
+        for (Map.Entry<LexerExpression, Set<String>> entry : candidates
+                .entrySet()) {
+            LexerExpression keyword = entry.getKey();
+            Set<String> keywordWords = entry.getValue();
+
+            if (!Collections.disjoint(keywordWords, sharedWords)) {
+                continue;
+            }
+
+            LexerExpression cover = findCover(context, keywordWords,
+                    candidates.keySet());
+            if (cover == null) {
+                continue;
+            }
+
+            for (String word : keywordWords) {
+                lexer.addKeyword(word, keyword, cover);
+            }
+            keywords.add(keyword);
+
+            trace.verboseln("    The " + keyword.getExpressionName()
+                    + " token is recognized as a keyword of the "
+                    + cover.getExpressionName() + " token.");
+        }
+
+        return keywords;
+    }
+
+    /**
+     * Returns the only token, other than the candidates, that matches each of
+     * the provided strings, or <code>null</code> when there is no such token.
+     */
+    private static LexerExpression findCover(
+            Context context,
+            Set<String> words,
+            Set<LexerExpression> candidates) {
+
+        LexerExpression cover = null;
+
+        for (String word : words) {
+            LexerExpression wordCover = null;
+
+            for (LexerExpression token : context
+                    .getLexerExpressionTokensAndIgnored()) {
+                if (candidates.contains(token)) {
+                    continue;
+                }
+
+                int match = match(token.getAutomaton(), word);
+                if (match == NO_MATCH) {
+                    continue;
+                }
+
+                if (match == POSSIBLE_MATCH || wordCover != null
+                        || context.isIgnored(token)) {
+                    return null;
+                }
+
+                wordCover = token;
+            }
+
+            if (wordCover == null || cover != null && cover != wordCover) {
+                return null;
+            }
+
+            cover = wordCover;
+        }
+
+        return cover;
+    }
+
+    /**
+     * Returns the strings matched by the provided automaton, or
+     * <code>null</code> when it does not match a small finite set of
+     * non-empty strings without lookahead.
+     */
+    static Set<String> getWords(
+            Automaton automaton) {
+
+        SortedSet<String> words = new TreeSet<String>();
+
+        if (!collectWords(automaton.getStartState(), new StringBuilder(),
+                new HashSet<State>(), getLiveStates(automaton), words)) {
+            return null;
+        }
+
+        if (words.isEmpty() || words.contains("")) {
+            return null;
+        }
+
+        return words;
+    }
+
+    private static boolean collectWords(
+            State state,
+            StringBuilder prefix,
+            Set<State> path,
+            Set<State> liveStates,
+            Set<String> words) {
+
+        if (!path.add(state)) {
+            // the language is infinite
+            return false;
+        }
+
+        if (state.isAcceptState()) {
+            words.add(prefix.toString());
+            if (words.size() > MAX_WORD_COUNT) {
+                return false;
+            }
+        }
+
+        for (RichSymbol richSymbol : state.getTransitions().keySet()) {
+            if (richSymbol == null || richSymbol == RichSymbol.END
+                    || richSymbol.isLookahead()) {
+                return false;
+            }
+
+            State target = state.getSingleTarget(richSymbol);
+            if (!liveStates.contains(target)) {
+                continue;
+            }
+
+            for (Interval interval : richSymbol.getSymbol().getIntervals()) {
+                int lower = valueOf(interval.getLowerBound());
+                int upper = valueOf(interval.getUpperBound());
+
+                if (lower == -1 || upper == -1
+                        || upper - lower >= MAX_WORD_COUNT) {
+                    return false;
+                }
+
+                for (int c = lower; c <= upper; c++) {
+                    prefix.append((char) c);
+                    boolean finite = collectWords(target, prefix, path,
+                            liveStates, words);
+                    prefix.setLength(prefix.length() - 1);
+
+                    if (!finite) {
+                        return false;
+                    }
+                }
+            }
+        }
+
+        path.remove(state);
+        return true;
+    }
+
+    /**
+     * Returns the states from which an accept state can be reached.
+     */
+    private static Set<State> getLiveStates(
+            Automaton automaton) {
+
+        Set<State> liveStates = new HashSet<State>();
+
+        for (State state : automaton.getStates()) {
+            if (state.isAcceptState()) {
+                liveStates.add(state);
+            }
+        }
+
+        boolean modified = true;
+        while (modified) {
+            modified = false;
+
+            for (State state : automaton.getStates()) {
+                if (liveStates.contains(state)) {
+                    continue;
+                }
+
+                for (SortedSet<State> targets : state.getTransitions()
+                        .values()) {
+                    if (!Collections.disjoint(targets, liveStates)) {
+                        liveStates.add(state);
+                        modified = true;
+                        break;
+                    }
+                }
+            }
+        }
+
+        return liveStates;
+    }
+
+    /**
+     * Returns whether the provided deterministic automaton matches the
+     * provided string. A lookahead transition met on the way makes the
+     * answer uncertain.
+     */
+    private static int match(
+            Automaton automaton,
+            String word) {
+
+        State state = automaton.getStartState();
+        boolean lookahead = false;
+
+        for (int i = 0; i < word.length(); i++) {
+            lookahead = lookahead || hasLookahead(state);
+            state = getTarget(state, word.charAt(i));
+
+            if (state == null) {
+                return lookahead ? POSSIBLE_MATCH : NO_MATCH;
+            }
+        }
+
+        if (lookahead || hasLookahead(state)) {
+            return POSSIBLE_MATCH;
+        }
+
+        return state.isAcceptState() ? MATCH : NO_MATCH;
+    }
+
+    private static boolean hasLookahead(
+            State state) {
+
+        for (RichSymbol richSymbol : state.getTransitions().keySet()) {
+            if (richSymbol == null || richSymbol == RichSymbol.END
+                    || richSymbol.isLookahead()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private static State getTarget(
+            State state,
+            char c) {
+
+        for (RichSymbol richSymbol : state.getTransitions().keySet()) {
+            if (richSymbol == null || richSymbol == RichSymbol.END
+                    || richSymbol.isLookahead()) {
+                continue;
+            }
+
+            BigInteger value = BigInteger.valueOf(c);
+
+            for (Interval interval : richSymbol.getSymbol().getIntervals()) {
+                Bound lower = interval.getLowerBound();
+                Bound upper = interval.getUpperBound();
+
+                boolean aboveLower = lower == Bound.MIN
+                        || lower.getValue().compareTo(value) <= 0;
+                boolean belowUpper = upper == Bound.MAX
+                        || upper.getValue().compareTo(value) >= 0;
+
+                if (aboveLower && belowUpper) {
+                    return state.getSingleTarget(richSymbol);
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Returns the character value of the provided bound, or <code>-1</code>
+     * when it is an open bound or lies beyond the Basic Multilingual Plane.
+     */
+    private static int valueOf(
+            Bound bound) {
+
+        if (bound == Bound.MIN || bound == Bound.MAX) {
+            return -1;
+        }
+
+        BigInteger value = bound.getValue();
+        if (value.compareTo(BigInteger.valueOf(Character.MAX_VALUE)) > 0) {
+            return -1;
+        }
+
+        return value.intValue();
+    }
+}
@@ -36,6 +36,10 @@ public class Lexer
 
     private Automaton automaton;
 
+    private final SortedMap<String, LexerExpression> keywords = new TreeMap<String, LexerExpression>();
+
+    private final Map<LexerExpression, LexerExpression> keywordCovers = new LinkedHashMap<LexerExpression, LexerExpression>();
+
     public Automaton getAutomaton() {
 
         return this.automaton;
@@ -94,6 +98,40 @@ public class Lexer
         return this.stringToExpression.values();
     }
 
+    /**
+     * Records that the provided string is matched by the keyword token,
+     * which is recognized through the text of its cover token instead of the
+     * lexer automaton.
+     */
+    public void addKeyword(
+            String text,
+            LexerExpression keyword,
+            LexerExpression cover) {
+
+        this.keywords.put(text, keyword);
+        this.keywordCovers.put(keyword, cover);
+    }
+
+    /**
+     * Returns the keyword token matched by each keyword string.
+     */
+    public SortedMap<String, LexerExpression> getKeywords() {
+
+        return this.keywords;
+    }
+
+    public boolean isKeyword(
+            LexerExpression lexerExpression) {
+
+        return this.keywordCovers.containsKey(lexerExpression);
+    }
+
+    public boolean isKeywordCover(
+            LexerExpression lexerExpression) {
+
+        return this.keywordCovers.containsValue(lexerExpression);
+    }
+
     public List<Investigator.LexerInvestigator> getInvestigators() {
 
         return this.investigators;
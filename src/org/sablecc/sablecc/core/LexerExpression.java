@@ -133,6 +133,20 @@ public abstract class LexerExpression
 
     public abstract String getExpressionName();
 
+    /**
+     * Returns the only string matched by this expression, or
+     * <code>null</code> when it matches several strings or uses lookahead.
+     */
+    public String getFixedText() {
+
+        Set<String> words = KeywordFinder.getWords(getAutomaton());
+        if (words == null || words.size() != 1) {
+            return null;
+        }
+
+        return words.iterator().next();
+    }
+
     void saveAutomaton(
             Automaton automaton) {
 
@@ -54,6 +54,21 @@ enum Option {
     /** Do not generate files. */
     NO_CODE("n", "no-code", null, "do not generate code"),
 
+    /** Generate a table-driven lexer. */
+    LEXER_TABLES(null, "lexer-tables", null, "generate a table-driven lexer"),
+
+    /** Compute token lines and positions from their offsets. */
+    LAZY_POSITIONS(null, "lazy-positions", null,
+            "compute token lines and positions from their offsets"),
+
+    /** Generate a table-driven parser. */
+    PARSER_TABLES(null, "parser-tables", null,
+            "generate a table-driven parser"),
+
+    /** Recognize keywords with a perfect hash table. */
+    KEYWORD_HASHING(null, "keyword-hashing", null,
+            "recognize keywords with a perfect hash table"),
+
     /** Ignore unused constructs. */
     LENIENT("l", "lenient", null, "ignore unused constructs"),
 
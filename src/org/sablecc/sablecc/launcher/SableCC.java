@@ -124,6 +124,10 @@ public class SableCC {
         // default option values
         String targetLanguage = defaultTarget;
         boolean generateCode = true;
+        boolean lexerTables = false;
+        boolean lazyPositions = false;
+        boolean parserTables = false;
+        boolean keywordHashing = false;
         Verbosity verbosity = INFORMATIVE;
         Strictness strictness = STRICT;
 
@@ -185,6 +189,22 @@ public class SableCC {
                 generateCode = false;
                 break;
 
+            case LEXER_TABLES:
+                lexerTables = true;
+                break;
+
+            case LAZY_POSITIONS:
+                lazyPositions = true;
+                break;
+
+            case PARSER_TABLES:
+                parserTables = true;
+                break;
+
+            case KEYWORD_HASHING:
+                keywordHashing = true;
+                break;
+
             case LENIENT:
                 strictness = LENIENT;
                 break;
@@ -260,7 +280,8 @@ public class SableCC {
         trace.informativeln();
 
         SableCC.compileFile(grammarFile, targetLanguage, destinationDirectory,
-                destinationPackage, generateCode, strictness, trace);
+                destinationPackage, generateCode, lexerTables, lazyPositions,
+                parserTables, keywordHashing, strictness, trace);
     }
 
     public static void compileFile(
@@ -269,6 +290,10 @@ public class SableCC {
             final File destinationDirectory,
             final String destinationPackage,
             final boolean generateCode,
+            final boolean lexerTables,
+            final boolean lazyPositions,
+            final boolean parserTables,
+            final boolean keywordHashing,
             final Strictness strictness,
             final Trace trace)
             throws ParserException, LexerException {
@@ -312,17 +337,20 @@ public class SableCC {
             br.close();
             fr.close();
 
-            SableCC.compileGrammar(sb.toString(), strictness, trace);
+            SableCC.compileGrammar(sb.toString(), keywordHashing, strictness,
+                    trace);
 
             // TODO: implement
 
             /*
-            Grammar grammar = compileGrammar(sb.toString(), strictness, trace);
+            Grammar grammar = compileGrammar(sb.toString(), keywordHashing,
+                    strictness, trace);
 
             if (generateCode) {
                 CodeGenerator codeGenerator = new CodeGenerator(grammar,
                         targetLanguage, destinationDirectory,
-                        destinationPackage, trace);
+                        destinationPackage, lexerTables, lazyPositions,
+                        parserTables, trace);
                 codeGenerator.run();
             }
              */
@@ -339,6 +367,7 @@ public class SableCC {
     // TODO: change return type and return structure
     public static void compileGrammar(
             final String text,
+            final boolean keywordHashing,
             final Strictness strictness,
             final Trace trace)
             throws ParserException, LexerException, IOException {
@@ -372,7 +401,7 @@ public class SableCC {
 
         trace.verboseln(" Compiling lexer");
 
-        grammar.compileLexer(trace, strictness);
+        grammar.compileLexer(trace, strictness, keywordHashing);
 
         trace.verboseln(" Compiling parser");
 